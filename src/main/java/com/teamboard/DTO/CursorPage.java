@@ -0,0 +1,18 @@
+package com.teamboard.DTO;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a list endpoint. {@code next} is passed back as the {@code cursor} query parameter
+ * to get the following page, and is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+  private List<T> items;
+  private String next;
+}
@@ -0,0 +1,13 @@
+package com.teamboard.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogoutRequest {
+  // Optional: revoked together with the access token from the Authorization header
+  private String refreshToken;
+}
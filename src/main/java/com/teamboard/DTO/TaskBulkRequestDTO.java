@@ -0,0 +1,32 @@
+package com.teamboard.DTO;
+
+import com.teamboard.entity.Priority;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One operation applied to many tasks of a project. Only the field the operation needs is read:
+ * {@code columnId} for MOVE, {@code assignedToId} for ASSIGN (null unassigns) and
+ * {@code priority} for PRIORITIZE.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkRequestDTO {
+  private Operation operation;
+  private List<Long> taskIds;
+  private Long columnId;
+  private Long assignedToId;
+  private Priority priority;
+
+  public enum Operation {
+    MOVE,
+    ASSIGN,
+    PRIORITIZE,
+    DELETE
+  }
+}
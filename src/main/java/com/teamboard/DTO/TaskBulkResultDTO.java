@@ -0,0 +1,32 @@
+package com.teamboard.DTO;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk task operation, one entry per requested id in request order. Ids that are not
+ * tasks of the project are NOT_FOUND and were left alone.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResultDTO {
+  private TaskBulkRequestDTO.Operation operation;
+  private List<Outcome> results;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Outcome {
+    private Long taskId;
+    private Status status;
+  }
+
+  public enum Status {
+    UPDATED,
+    DELETED,
+    NOT_FOUND
+  }
+}
@@ -0,0 +1,28 @@
+package com.teamboard.DTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk task import. Rows that failed are counted in {@code failed}; the first of them
+ * are listed in {@code errors}, and {@code errorsTruncated} says whether more were left out.
+ */
+@Data
+@NoArgsConstructor
+public class TaskImportResultDTO {
+  private long imported;
+  private long failed;
+  private List<RowError> errors = new ArrayList<>();
+  private boolean errorsTruncated;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class RowError {
+    private long line;
+    private String message;
+  }
+}
@@ -27,5 +27,11 @@ public class TaskResponseDTO {
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
   private LocalDateTime completedAt;
+  // Pass back when moving the task; the move is refused with 409 if the task changed since
+  private Long version;
+  // Order within the column: a column's cards sorted by rank, then id, are in board order
+  private String rank;
+  // True for tasks moved to the archive; those can be read but no longer changed
+  private boolean archived;
 }
 
@@ -1,5 +1,6 @@
 package com.teamboard.DTO;
 
+import com.teamboard.entity.MemberRole;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,5 +17,11 @@ public class WorkspaceMemberResponseDTO {
   private String role;
   private LocalDateTime joinedAt;
   private LocalDateTime updatedAt;
+
+  // Used by WorkspaceMemberRepository.findResponsesByWorkspaceId
+  public WorkspaceMemberResponseDTO(Long id, Long userId, String userEmail, String userName,
+      MemberRole role, LocalDateTime joinedAt, LocalDateTime updatedAt) {
+    this(id, userId, userEmail, userName, role.name(), joinedAt, updatedAt);
+  }
 }
 
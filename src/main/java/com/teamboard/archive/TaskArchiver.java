@@ -0,0 +1,127 @@
+package com.teamboard.archive;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves tasks completed more than {@code task-archive.after} ago from {@code tasks} to
+ * {@code tasks_archive}, {@code task-archive.batch-size} rows per transaction, so the table every
+ * board reads keeps only the cards boards show. Each batch copies its rows and deletes them in the
+ * same transaction, under the same id.
+ * <p>
+ * Old completed tasks are the work queue, oldest first, so every run, every
+ * {@code task-archive.interval}, picks up whatever is left; a row already in the archive is not
+ * copied again, which makes a batch safe to repeat. A run works for at most
+ * {@code task-archive.run-time}. Tasks archived are counted in {@code archive.tasks}, and those
+ * still waiting are gauged in {@code archive.pending}.
+ */
+@Component
+public class TaskArchiver {
+
+  private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+  // The backlog lookups read the partial (completed_at, id) index. The batch stays locked until it
+  // is moved, so a task cannot be reopened halfway
+  private static final String NEXT_BATCH = "select id from tasks where completed_at < :cutoff"
+      + " order by completed_at, id fetch first :batchSize rows only for update";
+  private static final String COUNT_PENDING =
+      "select count(*) from tasks where completed_at < :cutoff";
+
+  private static final String COPY_BATCH = "insert into tasks_archive (id, title, description,"
+      + " project_id, column_id, assigned_to, priority, due_date, created_by, created_at,"
+      + " updated_at, completed_at, rank, version, archived_at)"
+      + " select id, title, description, project_id, column_id, assigned_to, priority, due_date,"
+      + " created_by, created_at, updated_at, completed_at, rank, version, :now"
+      + " from tasks t where t.id in (:ids)"
+      + " and not exists (select 1 from tasks_archive a where a.id = t.id)";
+  private static final String DELETE_BATCH = "delete from tasks where id in (:ids)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration after;
+  private final int batchSize;
+  private final Duration runTime;
+  private final MeterRegistry meterRegistry;
+  private volatile long pending;
+
+  public TaskArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+      @Value("${task-archive.after:P90D}") Duration after,
+      @Value("${task-archive.batch-size:1000}") int batchSize,
+      @Value("${task-archive.run-time:PT2S}") Duration runTime,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.after = after;
+    this.batchSize = batchSize;
+    this.runTime = runTime;
+    this.meterRegistry = meterRegistry.getIfAvailable();
+    if (this.meterRegistry != null) {
+      this.meterRegistry.gauge("archive.pending", this, archiver -> archiver.pending);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${task-archive.interval:PT5M}",
+      initialDelayString = "${task-archive.interval:PT5M}")
+  public void archiveCompleted() {
+    long deadline = System.nanoTime() + runTime.toNanos();
+    int archived = 0;
+    try {
+      int moved;
+      while (System.nanoTime() < deadline && (moved = archiveBatch()) > 0) {
+        archived += moved;
+      }
+    } catch (RuntimeException e) {
+      log.warn("Task archiving stopped after {} tasks; the next run carries on", archived, e);
+    }
+    pending = jdbcTemplate.queryForObject(COUNT_PENDING, Map.of("cutoff", cutoff()), Long.class);
+    if (archived > 0) {
+      log.info("Archived {} completed tasks; {} still pending", archived, pending);
+    }
+  }
+
+  /**
+   * Moves the next batch of the oldest completed tasks to the archive, in one transaction.
+   * @return the number of tasks moved; 0 if none was old enough
+   */
+  public int archiveBatch() {
+    Integer moved = transactionTemplate.execute(status -> {
+      List<Long> ids = jdbcTemplate.queryForList(NEXT_BATCH,
+          Map.of("cutoff", cutoff(), "batchSize", batchSize), Long.class);
+      if (ids.isEmpty()) {
+        return 0;
+      }
+      int copied = jdbcTemplate.update(COPY_BATCH, Map.of("ids", ids, "now", LocalDateTime.now()));
+      int deleted = jdbcTemplate.update(DELETE_BATCH, Map.of("ids", ids));
+      log.debug("Archived {} tasks ({} were archived already)", deleted, deleted - copied);
+      return deleted;
+    });
+    if (moved != null && moved > 0 && meterRegistry != null) {
+      meterRegistry.counter("archive.tasks").increment(moved);
+    }
+    return moved != null ? moved : 0;
+  }
+
+  /**
+   * Completed tasks old enough to archive and not yet archived, as of the last run.
+   */
+  public long pending() {
+    return pending;
+  }
+
+  private LocalDateTime cutoff() {
+    return LocalDateTime.now().minus(after);
+  }
+}
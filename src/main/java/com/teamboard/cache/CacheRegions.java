@@ -0,0 +1,24 @@
+package com.teamboard.cache;
+
+import java.util.List;
+
+/**
+ * Names of the Hibernate second-level cache regions. Each has its own {@code max-size} and
+ * {@code ttl} under {@code second-level-cache.regions.<name>}.
+ */
+public final class CacheRegions {
+
+  public static final String WORKSPACES = "workspaces";
+  public static final String PROJECTS = "projects";
+  public static final String BOARD_COLUMNS = "board-columns";
+  public static final String USERS = "users";
+
+  /** Column ids of a project in position order, from BoardColumnRepository. */
+  public static final String BOARD_COLUMNS_BY_PROJECT = "board-columns-by-project";
+
+  public static final List<String> CONFIGURED =
+      List.of(WORKSPACES, PROJECTS, BOARD_COLUMNS, USERS, BOARD_COLUMNS_BY_PROJECT);
+
+  private CacheRegions() {
+  }
+}
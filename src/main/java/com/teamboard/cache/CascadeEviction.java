@@ -0,0 +1,62 @@
+package com.teamboard.cache;
+
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Workspace;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts the second-level cache entries of rows the database removes with ON DELETE CASCADE, or
+ * DeletionPurger removes with plain SQL, which Hibernate never sees. The deleted ids are not known
+ * here, so whole regions go; deletes are rare next to reads. Inside a transaction the eviction
+ * waits for the commit, so a concurrent load cannot put the rows back while they still exist.
+ */
+@Component
+public class CascadeEviction {
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  public CascadeEviction(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  /** The project's row and its columns were purged. */
+  public void projectPurged() {
+    evict(Project.class, BoardColumn.class);
+  }
+
+  /** The workspace's row was purged, after its projects. */
+  public void workspacePurged() {
+    evict(Workspace.class, Project.class, BoardColumn.class);
+  }
+
+  /** The user's workspaces went with them, and the projects they created lost their creator. */
+  public void userDeleted() {
+    evict(Workspace.class, Project.class, BoardColumn.class);
+  }
+
+  private void evict(Class<?>... entities) {
+    Runnable eviction = () -> {
+      Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+      for (Class<?> entity : entities) {
+        cache.evictEntityData(entity);
+      }
+      cache.evictQueryRegion(CacheRegions.BOARD_COLUMNS_BY_PROJECT);
+    };
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          eviction.run();
+        }
+      });
+    } else {
+      eviction.run();
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.teamboard.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.teamboard.cache.CacheRegions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Builds the Caffeine regions of Hibernate's second-level cache, each bounded by its
+ * {@code second-level-cache.regions.<name>.max-size} and expired after its {@code ttl}, and hands
+ * them to Hibernate. Hibernate refuses to start if an entity or query names a region not built
+ * here. Hits, misses, puts and evictions per region are published as the {@code cache.*} meters,
+ * tagged with the region name.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+  private static final String REGION_PROPERTIES = "second-level-cache.regions.";
+
+  @Bean(destroyMethod = "close")
+  public CacheManager secondLevelCacheManager(Environment environment,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    // A manager of its own per application context, so contexts sharing a JVM (tests) neither
+    // share regions nor close each other's on shutdown
+    CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+        .getCacheManager(URI.create("teamboard-second-level-cache-" + UUID.randomUUID()),
+            getClass().getClassLoader());
+
+    for (String region : CacheRegions.CONFIGURED) {
+      long maxSize = environment.getProperty(
+          REGION_PROPERTIES + region + ".max-size", Long.class, 10_000L);
+      Duration ttl = environment.getProperty(
+          REGION_PROPERTIES + region + ".ttl", Duration.class, Duration.ofMinutes(10));
+      createRegion(cacheManager, region, OptionalLong.of(maxSize), OptionalLong.of(ttl.toNanos()));
+    }
+    // Unused by our queries, which name their region, but Hibernate creates it with the query cache
+    createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+        OptionalLong.of(1_000), OptionalLong.of(Duration.ofMinutes(1).toNanos()));
+    // Last change per table, which is how cached query results are found stale; one entry per
+    // table, and it must outlive every query result, so it is neither bounded nor expired
+    createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+        OptionalLong.empty(), OptionalLong.empty());
+
+    meterRegistry.ifAvailable(registry -> {
+      for (String region : cacheManager.getCacheNames()) {
+        JCacheMetrics.monitor(registry, cacheManager.getCache(region));
+      }
+    });
+    return cacheManager;
+  }
+
+  private static void createRegion(CacheManager cacheManager, String name, OptionalLong maxSize,
+      OptionalLong expireAfterWriteNanos) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(maxSize);
+    configuration.setExpireAfterWrite(expireAfterWriteNanos);
+    // Hibernate caches immutable entry snapshots, so copying them on every get and put buys nothing
+    configuration.setStoreByValue(false);
+    // Also registers the statistics MBean that JCacheMetrics reads
+    configuration.setStatisticsEnabled(true);
+    cacheManager.createCache(name, configuration);
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheProperties(
+      CacheManager secondLevelCacheManager) {
+    return properties -> {
+      properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+      properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+    };
+  }
+}
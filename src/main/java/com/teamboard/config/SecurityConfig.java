@@ -1,8 +1,19 @@
 package com.teamboard.config;
 
 import com.teamboard.filter.JwtAuthFilter;
+import com.teamboard.filter.RateLimitFilter;
+import com.teamboard.security.BoundedPasswordEncoder;
+import com.teamboard.security.RateLimiter;
+import com.teamboard.security.RateLimiter.Budget;
+import com.teamboard.security.RateLimiter.Category;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -32,8 +43,34 @@ public class SecurityConfig {
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      @Value("${security.bcrypt.strength:10}") int strength,
+      @Value("${security.bcrypt.threads:0}") int threads,
+      @Value("${security.bcrypt.queue-capacity:64}") int queueCapacity,
+      @Value("${security.bcrypt.max-wait:PT5S}") Duration maxWait,
+      @Value("${security.bcrypt.retry-after:PT1S}") Duration retryAfter,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    // BCrypt is CPU bound; by default one hashing thread per core
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), strength, poolSize,
+        queueCapacity, maxWait, retryAfter, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+  }
+
+  @Bean
+  public RateLimiter rateLimiter(
+      @Value("${security.rate-limit.read.limit:600}") long readLimit,
+      @Value("${security.rate-limit.read.period:PT1M}") Duration readPeriod,
+      @Value("${security.rate-limit.write.limit:120}") long writeLimit,
+      @Value("${security.rate-limit.write.period:PT1M}") Duration writePeriod,
+      @Value("${security.rate-limit.auth.limit:20}") long authLimit,
+      @Value("${security.rate-limit.auth.period:PT1M}") Duration authPeriod,
+      @Value("${security.rate-limit.max-callers:100000}") long maxCallers,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new RateLimiter(Map.of(
+        Category.READ, new Budget(readLimit, readPeriod),
+        Category.WRITE, new Budget(writeLimit, writePeriod),
+        Category.AUTH, new Budget(authLimit, authPeriod)),
+        maxCallers, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
   }
 
   @Bean
@@ -84,7 +121,8 @@ public class SecurityConfig {
 
 
   @Bean
-  public SecurityFilterChain filterChain(HttpSecurity http) {
+  public SecurityFilterChain filterChain(HttpSecurity http, RateLimiter rateLimiter,
+      @Value("${security.rate-limit.enabled:true}") boolean rateLimitEnabled) {
     try {
       http
           .cors(cors -> {}) // uses the CorsConfigurationSource bean
@@ -101,6 +139,9 @@ public class SecurityConfig {
               )
           .httpBasic(AbstractHttpConfigurer::disable)
           .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+      if (rateLimitEnabled) {
+        http.addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthFilter.class);
+      }
     } catch (Exception e) {
       throw new RuntimeException("Failed to configure security filter chain", e);
     }
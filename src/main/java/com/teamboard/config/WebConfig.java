@@ -0,0 +1,37 @@
+package com.teamboard.config;
+
+import com.teamboard.pagination.PageQueryArgumentResolver;
+import com.teamboard.security.CurrentUserArgumentResolver;
+import com.teamboard.security.PermissionInterceptor;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+  private final CurrentUserArgumentResolver currentUserArgumentResolver;
+  private final PageQueryArgumentResolver pageQueryArgumentResolver;
+  private final PermissionInterceptor permissionInterceptor;
+
+  public WebConfig(CurrentUserArgumentResolver currentUserArgumentResolver,
+      PageQueryArgumentResolver pageQueryArgumentResolver,
+      PermissionInterceptor permissionInterceptor) {
+    this.currentUserArgumentResolver = currentUserArgumentResolver;
+    this.pageQueryArgumentResolver = pageQueryArgumentResolver;
+    this.permissionInterceptor = permissionInterceptor;
+  }
+
+  @Override
+  public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+    resolvers.add(currentUserArgumentResolver);
+    resolvers.add(pageQueryArgumentResolver);
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(permissionInterceptor);
+  }
+}
@@ -2,10 +2,14 @@ package com.teamboard.controller;
 
 import com.teamboard.DTO.AuthRequest;
 import com.teamboard.DTO.AuthResponse;
+import com.teamboard.DTO.LogoutRequest;
 import com.teamboard.DTO.RegisterDTO;
 import com.teamboard.DTO.UserResponseDTO;
 import com.teamboard.entity.User;
+import com.teamboard.security.CurrentUser;
+import com.teamboard.security.PasswordHashingUnavailableException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,7 +19,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import com.teamboard.service.AuthService;
 import com.teamboard.service.UserService;
-import com.teamboard.util.JwtUtil;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -25,13 +28,15 @@ public class AuthController {
   private AuthService authService;
   @Autowired
   private UserService userService;
-  @Autowired
-  private JwtUtil jwtil;
 
   @PostMapping("/login")
   public ResponseEntity<AuthResponse> login(@RequestBody AuthRequest authRequest){
-    AuthResponse authResponse = authService.login(authRequest);
-    return ResponseEntity.ok(authResponse);
+    try{
+      AuthResponse authResponse = authService.login(authRequest);
+      return ResponseEntity.ok(authResponse);
+    }catch(PasswordHashingUnavailableException e){
+      return serviceUnavailable(e);
+    }
   }
 
   @PostMapping("/register")
@@ -39,6 +44,8 @@ public class AuthController {
     try{
       userService.createUser(registerDTO);
       return ResponseEntity.ok("User created successfully");
+    }catch(PasswordHashingUnavailableException e){
+      return serviceUnavailable(e);
     }catch(Exception e){
       return ResponseEntity.badRequest().body("Registration failed: " + e.getMessage());
     }
@@ -51,17 +58,37 @@ public class AuthController {
     return ResponseEntity.ok(authResponse);
   }
 
-  @GetMapping("/me")
-  public ResponseEntity<UserResponseDTO> getCurrentUser(@RequestHeader("Authorization") String bearertoken){
-    try{
-      String token = bearertoken.substring(7);
-      String email = jwtil.extractUsername(token);
-      User user = userService.findByEmail(email);
-      if(user==null) return ResponseEntity.status(401).build();
-      return ResponseEntity.ok(mapToUserResponse(user));
-    }catch(Exception e){
-      return ResponseEntity.status(401).build();
+  @PostMapping("/logout")
+  public ResponseEntity<Void> logout(
+      @RequestHeader(value = "Authorization", required = false) String bearerToken,
+      @RequestBody(required = false) LogoutRequest logoutRequest){
+    String accessToken = bearerToken != null && bearerToken.startsWith("Bearer ")
+        ? bearerToken.substring(7) : null;
+    if (accessToken == null && (logoutRequest == null || logoutRequest.getRefreshToken() == null)) {
+      return ResponseEntity.badRequest().build();
     }
+    authService.logout(accessToken, logoutRequest != null ? logoutRequest.getRefreshToken() : null);
+    return ResponseEntity.noContent().build();
+  }
+
+  @PostMapping("/logout-all")
+  public ResponseEntity<Void> logoutAll(@CurrentUser User user){
+    if(user==null) return ResponseEntity.status(401).build();
+    authService.logoutAll(user.getEmail());
+    return ResponseEntity.noContent().build();
+  }
+
+  @GetMapping("/me")
+  public ResponseEntity<UserResponseDTO> getCurrentUser(@CurrentUser User user){
+    // /api/auth/** is permitAll, so the principal is only present when the filter accepted a token
+    if(user==null) return ResponseEntity.status(401).build();
+    return ResponseEntity.ok(mapToUserResponse(user));
+  }
+
+  private static <T> ResponseEntity<T> serviceUnavailable(PasswordHashingUnavailableException e) {
+    return ResponseEntity.status(503)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+        .build();
   }
 
   private UserResponseDTO mapToUserResponse(User user) {
@@ -1,18 +1,18 @@
 package com.teamboard.controller;
 
+import com.teamboard.DTO.CursorPage;
 import com.teamboard.DTO.ProjectCreateRequestDTO;
 import com.teamboard.DTO.ProjectResponseDTO;
 import com.teamboard.entity.Project;
 import com.teamboard.entity.User;
 import com.teamboard.entity.Workspace;
-import com.teamboard.entity.WorkspaceMember;
+import com.teamboard.pagination.PageQuery;
+import com.teamboard.security.CurrentUser;
+import com.teamboard.security.Permission;
+import com.teamboard.security.RequiresPermission;
 import com.teamboard.service.BoardColumnService;
 import com.teamboard.service.ProjectService;
-import com.teamboard.service.UserService;
-import com.teamboard.service.WorkspaceMemberService;
 import com.teamboard.service.WorkspaceService;
-import com.teamboard.util.JwtUtil;
-import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,7 +21,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -31,72 +30,15 @@ public class ProjectController {
 
   private final ProjectService projectService;
   private final WorkspaceService workspaceService;
-  private final JwtUtil jwtUtil;
-  private final WorkspaceMemberService workspaceMemberService;
-  private final UserService userService;
   private final BoardColumnService boardColumnService;
 
-  public ProjectController(WorkspaceService workspaceService, JwtUtil jwtUtil,
-                           WorkspaceMemberService workspaceMemberService, UserService userService,
+  public ProjectController(WorkspaceService workspaceService,
                            ProjectService projectService, BoardColumnService boardColumnService) {
     this.workspaceService = workspaceService;
-    this.jwtUtil = jwtUtil;
-    this.workspaceMemberService = workspaceMemberService;
-    this.userService = userService;
     this.projectService = projectService;
     this.boardColumnService = boardColumnService;
   }
 
-  /**
-   * Validates JWT token and returns the current user
-   * @param bearerToken Authorization header with format "Bearer {token}"
-   * @return User object if valid
-   * @throws IllegalArgumentException if token is invalid or user not found
-   */
-  private User validateAndGetUser(String bearerToken) throws Exception {
-    if (bearerToken == null || !bearerToken.startsWith("Bearer ")) {
-      throw new IllegalArgumentException("Invalid authorization header");
-    }
-
-    String token = bearerToken.substring(7);
-    String email = jwtUtil.extractUsername(token);
-    User currentUser = userService.findByEmail(email);
-
-    if (currentUser == null) {
-      throw new IllegalArgumentException("Invalid user");
-    }
-
-    return currentUser;
-  }
-
-  /**
-   * Validates that user has access to workspace (either owner or member)
-   * @param workspaceId ID of the workspace
-   * @param currentUser Current authenticated user
-   * @return Workspace object if user is owner or member
-   * @throws IllegalArgumentException if workspace doesn't exist or user doesn't have access
-   */
-  private Workspace validateWorkspaceAccess(Long workspaceId, User currentUser) throws Exception {
-    Workspace workspace = workspaceService.getWorkspace(workspaceId);
-    if (workspace == null) {
-      throw new IllegalArgumentException("Workspace not found");
-    }
-
-    // ✅ CHECK IF USER IS OWNER
-    boolean isOwner = workspace.getOwner().getId().equals(currentUser.getId());
-
-    // ✅ CHECK IF USER IS MEMBER
-    WorkspaceMember member = workspaceMemberService.getMember(currentUser.getId(), workspace.getId());
-    boolean isMember = member != null;
-
-    // ✅ ALLOW ACCESS IF OWNER OR MEMBER
-    if (!isOwner && !isMember) {
-      throw new IllegalArgumentException("You don't have access to this workspace");
-    }
-
-    return workspace;
-  }
-
   /**
    * Validates that user is the creator of the project
    * @param projectId ID of the project
@@ -118,13 +60,16 @@ public class ProjectController {
   }
 
   @PostMapping("/{workspaceId}/projects")
+  @RequiresPermission(Permission.WRITE_PROJECT)
   public ResponseEntity<?> createProject(
       @PathVariable Long workspaceId,
-      @RequestHeader("Authorization") String bearerToken,
+      @CurrentUser User currentUser,
       @RequestBody ProjectCreateRequestDTO projectRequestDTO) throws Exception {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
-      Workspace workspace = validateWorkspaceAccess(workspaceId, currentUser);
+      Workspace workspace = workspaceService.getWorkspace(workspaceId);
+      if (workspace == null) {
+        throw new IllegalArgumentException("Workspace not found");
+      }
 
       Project project = new Project();
       project.setName(projectRequestDTO.getName());
@@ -149,17 +94,14 @@ public class ProjectController {
   }
 
   @GetMapping("/{workspaceId}/projects")
+  @RequiresPermission(Permission.READ_BOARD)
   public ResponseEntity<?> getProjects(
       @PathVariable Long workspaceId,
-      @RequestHeader("Authorization") String bearerToken) throws Exception {
+      PageQuery page,
+      @CurrentUser User currentUser) throws Exception {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
-      Workspace workspace = validateWorkspaceAccess(workspaceId, currentUser);
-
-      List<Project> projects = projectService.getProjectsByWorkspaceId(workspaceId);
-      List<ProjectResponseDTO> responseDTOs = projects.stream()
-          .map(this::convertToResponseDTO)
-          .toList();
+      CursorPage<ProjectResponseDTO> responseDTOs =
+          projectService.getProjectResponsesByWorkspaceId(workspaceId, page);
       return ResponseEntity.ok(responseDTOs);
 
     } catch (IllegalArgumentException e) {
@@ -171,19 +113,16 @@ public class ProjectController {
   }
 
   @GetMapping("/{workspaceId}/projects/{projectId}")
+  @RequiresPermission(Permission.READ_BOARD)
   public ResponseEntity<?> getProject
       (
           @PathVariable Long projectId,
-          @RequestHeader("Authorization") String bearerToken,
+          @CurrentUser User currentUser,
           @PathVariable Long workspaceId
       )throws Exception
   {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
-      Workspace workspace = validateWorkspaceAccess(workspaceId, currentUser);
-
-      // ✅ FIX: Changed from validateProjectOwnership to workspace membership check
-      // Now allows any workspace member (not just creator) to view the project
+      // Any workspace member (not just the creator) may view the project
       Project project = projectService.getProjectById(projectId);
       if (project == null) {
         throw new IllegalArgumentException("Project not found");
@@ -206,18 +145,18 @@ public class ProjectController {
   }
 
   @DeleteMapping("/{workspaceId}/projects/{projectId}")
+  @RequiresPermission(Permission.WRITE_PROJECT)
   public ResponseEntity<?> deleteProject
       (
       @PathVariable Long projectId,
-      @RequestHeader("Authorization") String bearerToken,
+      @CurrentUser User currentUser,
       @PathVariable Long workspaceId
       ) throws Exception {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
-      Workspace workspace = validateWorkspaceAccess(workspaceId, currentUser);
-      Project project = validateProjectOwnership(projectId, currentUser);
+      validateProjectOwnership(projectId, currentUser);
       projectService.deleteProject(projectId);
-      return ResponseEntity.noContent().build();
+      // Gone from every read now; its columns and tasks are purged in the background
+      return ResponseEntity.accepted().build();
     } catch (IllegalArgumentException e) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
     } catch (Exception e) {
@@ -227,15 +166,15 @@ public class ProjectController {
   }
 
   @PutMapping("/{workspaceId}/projects/{projectId}")
+  @RequiresPermission(Permission.WRITE_PROJECT)
   public ResponseEntity<?> updateProject
       (
       @PathVariable Long projectId,
-      @RequestHeader("Authorization") String bearerToken,
+      @CurrentUser User currentUser,
       @RequestBody ProjectCreateRequestDTO projectRequestDTO,
       @PathVariable Long workspaceId
       ) throws Exception {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
       Project existingProject = validateProjectOwnership(projectId, currentUser);
       existingProject.setName(projectRequestDTO.getName());
       existingProject.setDescription(projectRequestDTO.getDescription());
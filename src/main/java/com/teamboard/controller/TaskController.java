@@ -1,20 +1,35 @@
 package com.teamboard.controller;
 
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.TaskBulkRequestDTO;
+import com.teamboard.DTO.TaskBulkResultDTO;
 import com.teamboard.DTO.TaskCreateRequestDTO;
+import com.teamboard.DTO.TaskImportResultDTO;
 import com.teamboard.DTO.TaskResponseDTO;
 import com.teamboard.entity.Project;
 import com.teamboard.entity.Task;
 import com.teamboard.entity.User;
-import com.teamboard.entity.Workspace;
-import com.teamboard.entity.WorkspaceMember;
+import com.teamboard.pagination.PageQuery;
+import com.teamboard.security.CurrentUser;
+import com.teamboard.security.Permission;
+import com.teamboard.security.RequiresPermission;
 import com.teamboard.service.ProjectService;
+import com.teamboard.service.TaskImportService;
 import com.teamboard.service.TaskService;
 import com.teamboard.service.UserService;
-import com.teamboard.service.WorkspaceMemberService;
-import com.teamboard.service.WorkspaceService;
-import com.teamboard.util.JwtUtil;
-import java.util.List;
+import com.teamboard.taskimport.TaskImportFormat;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,79 +40,42 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api")
 public class TaskController {
 
+  private static final Logger log = LoggerFactory.getLogger(TaskController.class);
+
   private final TaskService taskService;
+  private final TaskImportService taskImportService;
   private final ProjectService projectService;
-  private final WorkspaceMemberService workspaceMemberService;
   private final UserService userService;
-  private final JwtUtil jwtUtil;
   private final com.teamboard.repository.BoardColumnRepository boardColumnRepository;
 
-  public TaskController(TaskService taskService, ProjectService projectService,
-      WorkspaceService workspaceService, WorkspaceMemberService workspaceMemberService,
-      UserService userService, JwtUtil jwtUtil, com.teamboard.repository.BoardColumnRepository boardColumnRepository) {
+  public TaskController(TaskService taskService, TaskImportService taskImportService,
+      ProjectService projectService, UserService userService,
+      com.teamboard.repository.BoardColumnRepository boardColumnRepository) {
     this.taskService = taskService;
+    this.taskImportService = taskImportService;
     this.projectService = projectService;
-    this.workspaceMemberService = workspaceMemberService;
     this.userService = userService;
-    this.jwtUtil = jwtUtil;
     this.boardColumnRepository = boardColumnRepository;
   }
 
-  private User validateAndGetUser(String bearerToken) {
-    if (bearerToken == null || !bearerToken.startsWith("Bearer ")) {
-      throw new IllegalArgumentException("Invalid authorization header");
-    }
-
-    String token = bearerToken.substring(7);
-    String email = jwtUtil.extractUsername(token);
-    User currentUser = userService.findByEmail(email);
-
-    if (currentUser == null) {
-      throw new IllegalArgumentException("Invalid user");
-    }
-
-    return currentUser;
-  }
-
-  private Workspace validateProjectAccess(Long projectId, User currentUser) {
-    Project project = projectService.getProjectById(projectId);
-    if (project == null) {
-      throw new IllegalArgumentException("Project not found");
-    }
-
-    Workspace workspace = project.getWorkspace();
-
-    // ✅ CHECK IF USER IS WORKSPACE OWNER
-    boolean isOwner = workspace.getOwner().getId().equals(currentUser.getId());
-
-    // ✅ CHECK IF USER IS WORKSPACE MEMBER
-    WorkspaceMember member = workspaceMemberService.getMember(currentUser.getId(), workspace.getId());
-    boolean isMember = member != null;
-
-    // ✅ ALLOW ACCESS IF OWNER OR MEMBER
-    if (!isOwner && !isMember) {
-      throw new IllegalArgumentException("You are not a member of this workspace");
-    }
-
-    return workspace;
-  }
-
   @PostMapping("/projects/{projectId}/tasks")
+  @RequiresPermission(Permission.WRITE_TASK)
   public ResponseEntity<?> createTask(
       @PathVariable Long projectId,
-      @RequestHeader("Authorization") String bearerToken,
+      @CurrentUser User currentUser,
       @RequestBody TaskCreateRequestDTO taskRequestDTO) {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
-      validateProjectAccess(projectId, currentUser);
-
       Project project = projectService.getProjectById(projectId);
+      if (project == null) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Project not found");
+      }
       Task task = new Task();
       task.setTitle(taskRequestDTO.getTitle());
       task.setDescription(taskRequestDTO.getDescription());
@@ -143,19 +121,76 @@ public class TaskController {
     }
   }
 
-  @GetMapping("/projects/{projectId}/tasks")
-  public ResponseEntity<?> getTasksByProject(
+  // The body is read as a stream, a batch at a time, so imports of any size run in constant memory
+  @PostMapping(path = "/projects/{projectId}/tasks/import", consumes = {
+      TaskImportFormat.CSV_TYPE, TaskImportFormat.NDJSON_TYPE, TaskImportFormat.JSONL_TYPE})
+  @RequiresPermission(Permission.WRITE_TASK)
+  public ResponseEntity<?> importTasks(
       @PathVariable Long projectId,
-      @RequestHeader("Authorization") String bearerToken) {
+      @CurrentUser User currentUser,
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+      InputStream body) {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
-      validateProjectAccess(projectId, currentUser);
+      MediaType mediaType = MediaType.parseMediaType(contentType);
+      Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+      TaskImportResultDTO result = taskImportService.importTasks(projectId, currentUser,
+          TaskImportFormat.of(mediaType), new BufferedReader(new InputStreamReader(body, charset)));
+      log.info("Imported {} tasks into project {} ({} rows failed)",
+          result.getImported(), projectId, result.getFailed());
+      return ResponseEntity.ok(result);
 
-      List<Task> tasks = taskService.getTasksByProject(projectId);
-      List<TaskResponseDTO> responseDTOs = tasks.stream()
-          .map(this::convertToResponseDTO)
-          .toList();
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    } catch (IOException e) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+          .body("Could not read the import: " + e.getMessage());
+    } catch (Exception e) {
+      log.error("Failed to import tasks into project {}", projectId, e);
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+          .body("An error occurred while importing tasks: " + e.getMessage());
+    }
+  }
 
+  // Multi-select actions: WRITE_TASK is checked once for the project, and ids of tasks outside it
+  // come back NOT_FOUND
+  @PostMapping("/projects/{projectId}/tasks/bulk")
+  @RequiresPermission(Permission.WRITE_TASK)
+  public ResponseEntity<?> bulkUpdateTasks(
+      @PathVariable Long projectId,
+      @CurrentUser User currentUser,
+      @RequestBody TaskBulkRequestDTO bulkRequestDTO) {
+    try {
+      TaskBulkResultDTO result = taskService.bulkUpdate(projectId, bulkRequestDTO);
+      return ResponseEntity.ok(result);
+
+    } catch (IllegalArgumentException e) {
+      String errorMsg = e.getMessage();
+
+      // Resource not found errors
+      if (errorMsg != null && errorMsg.contains("not found")) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMsg);
+      }
+
+      // All other IllegalArgumentExceptions are validation errors
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+          .body(errorMsg != null ? errorMsg : "Invalid request");
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+          .body("An error occurred while updating tasks: " + e.getMessage());
+    }
+  }
+
+  // Tasks completed long ago have been moved to the archive; includeArchived=true lists them too
+  @GetMapping("/projects/{projectId}/tasks")
+  @RequiresPermission(Permission.READ_BOARD)
+  public ResponseEntity<?> getTasksByProject(
+      @PathVariable Long projectId,
+      PageQuery page,
+      @RequestParam(defaultValue = "false") boolean includeArchived,
+      @CurrentUser User currentUser) {
+    try {
+      CursorPage<TaskResponseDTO> responseDTOs =
+          taskService.getTaskResponsesByProject(projectId, page, includeArchived);
       return ResponseEntity.ok(responseDTOs);
 
     } catch (IllegalArgumentException e) {
@@ -166,16 +201,14 @@ public class TaskController {
     }
   }
 
+  // Archived tasks are found here too, with archived set; they can no longer be changed
   @GetMapping("/tasks/{taskId}")
+  @RequiresPermission(Permission.READ_BOARD)
   public ResponseEntity<?> getTask(
       @PathVariable Long taskId,
-      @RequestHeader("Authorization") String bearerToken) {
+      @CurrentUser User currentUser) {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
-      Task task = taskService.getTaskById(taskId);
-      validateProjectAccess(task.getProject().getId(), currentUser);
-
-      TaskResponseDTO responseDTO = convertToResponseDTO(task);
+      TaskResponseDTO responseDTO = taskService.getTaskResponseById(taskId);
       return ResponseEntity.ok(responseDTO);
 
     } catch (IllegalArgumentException e) {
@@ -187,14 +220,13 @@ public class TaskController {
   }
 
   @PutMapping("/tasks/{taskId}")
+  @RequiresPermission(Permission.WRITE_TASK)
   public ResponseEntity<?> updateTask(
       @PathVariable Long taskId,
-      @RequestHeader("Authorization") String bearerToken,
+      @CurrentUser User currentUser,
       @RequestBody TaskCreateRequestDTO taskRequestDTO) {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
       Task existingTask = taskService.getTaskById(taskId);
-      validateProjectAccess(existingTask.getProject().getId(), currentUser);
 
       existingTask.setTitle(taskRequestDTO.getTitle());
       existingTask.setDescription(taskRequestDTO.getDescription());
@@ -214,6 +246,10 @@ public class TaskController {
 
     } catch (IllegalArgumentException e) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+    } catch (OptimisticLockingFailureException e) {
+      // Another request changed the task between this one's read and write
+      return ResponseEntity.status(HttpStatus.CONFLICT)
+          .body("The task was changed by another request; reload it and try again");
     } catch (Exception e) {
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
           .body("An error occurred while updating the task: " + e.getMessage());
@@ -221,14 +257,11 @@ public class TaskController {
   }
 
   @DeleteMapping("/tasks/{taskId}")
+  @RequiresPermission(Permission.WRITE_TASK)
   public ResponseEntity<?> deleteTask(
       @PathVariable Long taskId,
-      @RequestHeader("Authorization") String bearerToken) {
+      @CurrentUser User currentUser) {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
-      Task task = taskService.getTaskById(taskId);
-      validateProjectAccess(task.getProject().getId(), currentUser);
-
       taskService.deleteTask(taskId);
       return ResponseEntity.ok("Task deleted successfully");
 
@@ -240,100 +273,65 @@ public class TaskController {
     }
   }
 
+  // version is the task's version from the response the client last saw; without it the move
+  // applies to whatever version is current. after and before are the ids of the cards the task is
+  // dropped between (either may be left out); without both it goes to the bottom of the column.
+  // The column may be the task's own, to reorder it
   @PatchMapping("/tasks/{taskId}/column/{columnId}")
+  @RequiresPermission(Permission.WRITE_TASK)
   public ResponseEntity<?> moveTaskToColumn(
       @PathVariable Long taskId,
       @PathVariable Long columnId,
-      @RequestHeader("Authorization") String bearerToken) {
+      @RequestParam(name = "after", required = false) Long afterTaskId,
+      @RequestParam(name = "before", required = false) Long beforeTaskId,
+      @RequestParam(name = "version", required = false) Long version,
+      @CurrentUser User currentUser) {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
-      Task task = taskService.getTaskById(taskId);
-      validateProjectAccess(task.getProject().getId(), currentUser);
-
-      Task movedTask = taskService.moveTaskToColumn(taskId, columnId);
+      Task movedTask = taskService.moveTask(taskId, columnId, afterTaskId, beforeTaskId, version);
       TaskResponseDTO responseDTO = convertToResponseDTO(movedTask);
       return ResponseEntity.ok(responseDTO);
 
     } catch (IllegalArgumentException e) {
-      return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+      String errorMsg = e.getMessage();
+      if (errorMsg != null && errorMsg.contains("not found")) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMsg);
+      }
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorMsg);
+    } catch (OptimisticLockingFailureException e) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
     } catch (Exception e) {
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
           .body("An error occurred while moving the task: " + e.getMessage());
     }
   }
 
+  // A project outside the path's workspace is answered with 404 by PermissionInterceptor
   @PostMapping("/workspaces/{workspaceId}/projects/{projectId}/tasks")
+  @RequiresPermission(Permission.WRITE_TASK)
   public ResponseEntity<?> createTaskAlias(
       @PathVariable Long workspaceId,
       @PathVariable Long projectId,
-      @RequestHeader("Authorization") String bearerToken,
+      @CurrentUser User currentUser,
       @RequestBody TaskCreateRequestDTO taskRequestDTO) {
-    System.out.println("========================================");
-    System.out.println("TASK CREATION REQUEST START");
-    System.out.println("========================================");
-    System.out.println("Endpoint: POST /api/workspaces/" + workspaceId + "/projects/" + projectId + "/tasks");
-    System.out.println("Request DTO: " + taskRequestDTO);
+    log.debug("Create task: workspace={} project={} user={} request={}",
+        workspaceId, projectId, currentUser.getId(), taskRequestDTO);
 
     try {
-      System.out.println("Step 1: Validating JWT token...");
-      User currentUser = validateAndGetUser(bearerToken);
-      System.out.println("✓ JWT Valid - User ID: " + currentUser.getId() + ", Email: " + currentUser.getEmail());
-
-      System.out.println("Step 2: Fetching project with ID: " + projectId);
       Project project = projectService.getProjectById(projectId);
       if (project == null) {
-        System.out.println("✗ ERROR: Project not found - ID: " + projectId);
+        log.debug("Create task rejected: project {} not found", projectId);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Project not found");
       }
-      System.out.println("✓ Project found - ID: " + project.getId() + ", Name: " + project.getName());
-
-      System.out.println("Step 3: Validating project belongs to workspace...");
-      System.out.println("  - URL workspaceId: " + workspaceId);
-      System.out.println("  - Project's workspaceId: " + project.getWorkspace().getId());
-      if (!project.getWorkspace().getId().equals(workspaceId)) {
-        System.out.println("✗ ERROR: Project does not belong to workspace");
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Project not found in workspace");
-      }
-      System.out.println("✓ Project belongs to workspace");
-
-      // Check if user is workspace owner OR workspace member
-      Workspace workspace = project.getWorkspace();
-      System.out.println("Step 4: Checking workspace access...");
-      System.out.println("  - Workspace ID: " + workspace.getId());
-      System.out.println("  - Workspace Name: " + workspace.getName());
-      System.out.println("  - Workspace Owner ID: " + workspace.getOwner().getId());
-      System.out.println("  - Current User ID: " + currentUser.getId());
-
-      boolean isOwner = workspace.getOwner().getId().equals(currentUser.getId());
-      System.out.println("  - Is Owner? " + isOwner);
-
-      WorkspaceMember member = workspaceMemberService.getMember(currentUser.getId(), workspaceId);
-      boolean isMember = member != null;
-      System.out.println("  - Is Member? " + isMember);
-      if (isMember && member != null) {
-        System.out.println("  - Member Role: " + member.getRole());
-      }
 
-      if (!isOwner && !isMember) {
-        System.out.println("✗ AUTHORIZATION FAILED: User is neither owner nor member");
-        System.out.println("========================================");
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body("You are not a member of this workspace");
-      }
-      System.out.println("✓ Authorization passed - User has access");
-
-      System.out.println("Step 5: Fetching Backlog column for project...");
       java.util.List<com.teamboard.entity.BoardColumn> columns = boardColumnRepository.findByProjectIdOrderByPosition(projectId);
       if (columns == null || columns.isEmpty()) {
-        System.out.println("✗ ERROR: Project has no columns");
-        System.out.println("========================================");
+        log.debug("Create task rejected: project {} has no columns", projectId);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Project has no columns. Please create columns first.");
       }
 
       // Get first column (Backlog or first column in order)
       com.teamboard.entity.BoardColumn backlogColumn = columns.get(0);
-      System.out.println("✓ Column found - ID: " + backlogColumn.getId() + ", Name: " + backlogColumn.getName());
 
-      System.out.println("Step 6: Creating task object...");
       Task task = new Task();
       task.setTitle(taskRequestDTO.getTitle());
       task.setDescription(taskRequestDTO.getDescription());
@@ -343,42 +341,24 @@ public class TaskController {
       task.setDueDate(taskRequestDTO.getDueDate());
       task.setCreatedBy(currentUser);
 
-      System.out.println("  - Title: " + taskRequestDTO.getTitle());
-      System.out.println("  - Description: " + taskRequestDTO.getDescription());
-      System.out.println("  - Priority: " + taskRequestDTO.getPriority());
-      System.out.println("  - DueDate: " + taskRequestDTO.getDueDate());
-      System.out.println("  - AssignedToId: " + taskRequestDTO.getAssignedToId());
-      System.out.println("  - Column: " + backlogColumn.getName());
-
       if (taskRequestDTO.getAssignedToId() != null) {
-        System.out.println("Step 7: Fetching assigned user...");
         User assignedUser = userService.getUser(taskRequestDTO.getAssignedToId());
         if (assignedUser != null) {
           task.setAssignedTo(assignedUser);
-          System.out.println("✓ Assigned to user: " + assignedUser.getName() + " (ID: " + assignedUser.getId() + ")");
         } else {
-          System.out.println("⚠ Warning: Assigned user not found - ID: " + taskRequestDTO.getAssignedToId());
+          log.debug("Create task: assignee {} not found, leaving unassigned",
+              taskRequestDTO.getAssignedToId());
         }
       }
 
-      System.out.println("Step 8: Calling taskService.createTask()...");
       Task createdTask = taskService.createTask(task);
-      System.out.println("✓ Task created successfully - ID: " + createdTask.getId());
+      log.debug("Created task {} in column {}", createdTask.getId(), backlogColumn.getId());
 
-      System.out.println("Step 9: Converting to response DTO...");
       TaskResponseDTO responseDTO = convertToResponseDTO(createdTask);
-      System.out.println("✓ Response DTO created");
-      System.out.println("========================================");
-      System.out.println("TASK CREATION SUCCESS - Returning 201");
-      System.out.println("========================================");
       return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
 
     } catch (IllegalArgumentException e) {
-      System.out.println("✗ EXCEPTION CAUGHT: IllegalArgumentException");
-      System.out.println("  - Message: " + e.getMessage());
-      System.out.println("  - Stack trace:");
-      e.printStackTrace();
-      System.out.println("========================================");
+      log.debug("Create task rejected: {}", e.getMessage(), e);
       String errorMsg = e.getMessage();
 
       // Authorization-related errors
@@ -386,64 +366,36 @@ public class TaskController {
           errorMsg.contains("don't have access") ||
           errorMsg.contains("Only the") ||
           errorMsg.contains("Cannot remove"))) {
-        System.out.println("Returning 403 FORBIDDEN - Authorization error");
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorMsg);
       }
 
       // Resource not found errors
       if (errorMsg != null && (errorMsg.contains("not found") ||
           errorMsg.contains("Backlog column not found"))) {
-        System.out.println("Returning 404 NOT FOUND - Resource missing");
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMsg);
       }
 
       // All other IllegalArgumentExceptions are validation errors
-      System.out.println("Returning 400 BAD REQUEST - Validation error");
       return ResponseEntity.status(HttpStatus.BAD_REQUEST)
           .body(errorMsg != null ? errorMsg : "Invalid request");
     } catch (Exception e) {
-      System.out.println("✗ EXCEPTION CAUGHT: " + e.getClass().getName());
-      System.out.println("  - Message: " + e.getMessage());
-      System.out.println("  - Stack trace:");
-      e.printStackTrace();
-      System.out.println("========================================");
-      System.out.println("Returning 500 INTERNAL SERVER ERROR");
+      log.error("Failed to create task in project {}", projectId, e);
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
           .body("An error occurred while creating the task: " + e.getMessage());
     }
   }
 
   @GetMapping("/workspaces/{workspaceId}/projects/{projectId}/tasks")
+  @RequiresPermission(Permission.READ_BOARD)
   public ResponseEntity<?> getTasksByProjectAlias(
       @PathVariable Long workspaceId,
       @PathVariable Long projectId,
-      @RequestHeader("Authorization") String bearerToken) {
+      PageQuery page,
+      @RequestParam(defaultValue = "false") boolean includeArchived,
+      @CurrentUser User currentUser) {
     try {
-      User currentUser = validateAndGetUser(bearerToken);
-
-      Project project = projectService.getProjectById(projectId);
-      if (project == null) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Project not found");
-      }
-      if (!project.getWorkspace().getId().equals(workspaceId)) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Project not found in workspace");
-      }
-
-      // Check if user is workspace owner OR workspace member
-      Workspace workspace = project.getWorkspace();
-      boolean isOwner = workspace.getOwner().getId().equals(currentUser.getId());
-      WorkspaceMember member = workspaceMemberService.getMember(currentUser.getId(), workspaceId);
-      boolean isMember = member != null;
-
-      if (!isOwner && !isMember) {
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body("You are not a member of this workspace");
-      }
-
-      List<Task> tasks = taskService.getTasksByProject(projectId);
-      List<TaskResponseDTO> responseDTOs = tasks.stream()
-          .map(this::convertToResponseDTO)
-          .toList();
-
+      CursorPage<TaskResponseDTO> responseDTOs =
+          taskService.getTaskResponsesByProject(projectId, page, includeArchived);
       return ResponseEntity.ok(responseDTOs);
 
     } catch (IllegalArgumentException e) {
@@ -486,6 +438,8 @@ public class TaskController {
         .createdAt(task.getCreatedAt())
         .updatedAt(task.getUpdatedAt())
         .completedAt(task.getCompletedAt())
+        .version(task.getVersion())
+        .rank(task.getRank())
         .build();
   }
 }
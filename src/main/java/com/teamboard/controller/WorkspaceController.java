@@ -1,5 +1,6 @@
 package com.teamboard.controller;
 
+import com.teamboard.DTO.CursorPage;
 import com.teamboard.DTO.WorkspaceCreateRequestDTO;
 import com.teamboard.DTO.WorkspaceMemberRequestDTO;
 import com.teamboard.DTO.WorkspaceMemberResponseDTO;
@@ -8,12 +9,12 @@ import com.teamboard.entity.MemberRole;
 import com.teamboard.entity.User;
 import com.teamboard.entity.Workspace;
 import com.teamboard.entity.WorkspaceMember;
-import com.teamboard.service.UserService;
+import com.teamboard.pagination.PageQuery;
+import com.teamboard.security.CurrentUser;
+import com.teamboard.security.Permission;
+import com.teamboard.security.RequiresPermission;
 import com.teamboard.service.WorkspaceService;
 import com.teamboard.service.WorkspaceMemberService;
-import com.teamboard.util.JwtUtil;
-import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,7 +23,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.slf4j.Logger;
@@ -34,18 +34,12 @@ public class WorkspaceController {
   private static final Logger log = LoggerFactory.getLogger(WorkspaceController.class);
   private final WorkspaceService workspaceService;
   private final WorkspaceMemberService workspaceMemberService;
-  private final JwtUtil jwtUtil;
-  private final UserService userImp;
 
   public WorkspaceController(
       WorkspaceService workspaceService,
-      WorkspaceMemberService workspaceMemberService,
-      JwtUtil jwtUtil,
-      UserService userImp) {
+      WorkspaceMemberService workspaceMemberService) {
     this.workspaceService = workspaceService;
     this.workspaceMemberService = workspaceMemberService;
-    this.jwtUtil = jwtUtil;
-    this.userImp = userImp;
   }
 
   /**
@@ -54,14 +48,9 @@ public class WorkspaceController {
    */
   @PostMapping
   public ResponseEntity<?> createWorkspace(
-      @RequestHeader("Authorization") String bearerToken,
+      @CurrentUser User owner,
       @RequestBody WorkspaceCreateRequestDTO requestDTO) {
     try {
-      // Extract JWT token
-      String token = bearerToken.substring(7);
-      String email = jwtUtil.extractUsername(token);
-      User owner = userImp.findByEmail(email);
-
       if (owner == null) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not found");
       }
@@ -83,20 +72,9 @@ public class WorkspaceController {
       workspace.setDescription(requestDTO.getDescription());
       workspace.setOwner(owner);
 
+      // Also adds the owner as an ADMIN member
       Workspace savedWorkspace = workspaceService.createWorkspace(workspace);
 
-      // ✅ ADD THIS: Auto-add owner as ADMIN member
-      try {
-        workspaceMemberService.addMember(
-            owner.getId(),
-            savedWorkspace.getId(),
-            MemberRole.ADMIN
-        );
-      } catch (Exception e) {
-        // Log but don't fail workspace creation
-        System.err.println("Warning: Failed to add owner as member: " + e.getMessage());
-      }
-
       WorkspaceResponseDTO responseDTO = convertToResponseDTO(savedWorkspace);
 
       return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
@@ -107,24 +85,18 @@ public class WorkspaceController {
   }
 
   /**
-   * Get all workspaces visible to the authenticated user (owner or member).
-   * GET /api/workspaces
+   * Get one page of the workspaces visible to the authenticated user (owner or member).
+   * GET /api/workspaces?limit=50&cursor={next}
    */
   @GetMapping
-  public ResponseEntity<?> getAllWorkspaces(@RequestHeader(value = "Authorization") String bearerToken) {
+  public ResponseEntity<?> getAllWorkspaces(@CurrentUser User currentUser, PageQuery page) {
     try {
-      // Extract JWT and resolve current user
-      String token = bearerToken.substring(7);
-      String email = jwtUtil.extractUsername(token);
-      User currentUser = userImp.findByEmail(email);
-
       if (currentUser == null) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not found");
       }
 
-      List<Workspace> workspaces = workspaceService.getWorkspacesForUser(currentUser.getId());
-      List<WorkspaceResponseDTO> responseDTOs =
-          workspaces.stream().map(this::convertToResponseDTO).collect(Collectors.toList());
+      CursorPage<WorkspaceResponseDTO> responseDTOs =
+          workspaceService.getWorkspaceResponsesForUser(currentUser.getId(), page);
       return ResponseEntity.ok(responseDTOs);
     } catch (Exception e) {
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -134,10 +106,11 @@ public class WorkspaceController {
 
   /**
    * Get single workspace by ID.
-   * GET /api/workspaces/{id}
+   * GET /api/workspaces/{workspaceId}
    */
-  @GetMapping("/{id}")
-  public ResponseEntity<?> getWorkspace(@PathVariable Long id) {
+  @GetMapping("/{workspaceId}")
+  @RequiresPermission(Permission.READ_BOARD)
+  public ResponseEntity<?> getWorkspace(@PathVariable("workspaceId") Long id) {
     try {
       Workspace workspace = workspaceService.getWorkspace(id);
       if (workspace == null) {
@@ -153,19 +126,15 @@ public class WorkspaceController {
 
   /**
    * Update workspace (owner-only). Updates name and description.
-   * PUT /api/workspaces/{id}
+   * PUT /api/workspaces/{workspaceId}
    */
-  @PutMapping("/{id}")
+  @PutMapping("/{workspaceId}")
+  @RequiresPermission(Permission.MANAGE_WORKSPACE)
   public ResponseEntity<?> updateWorkspace(
-      @PathVariable Long id,
-      @RequestHeader("Authorization") String bearerToken,
+      @PathVariable("workspaceId") Long id,
+      @CurrentUser User currentUser,
       @RequestBody WorkspaceCreateRequestDTO requestDTO) {
     try {
-      // Extract JWT token and resolve current user
-      String token = bearerToken.substring(7);
-      String email = jwtUtil.extractUsername(token);
-      User currentUser = userImp.findByEmail(email);
-
       if (currentUser == null) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not found");
       }
@@ -176,12 +145,6 @@ public class WorkspaceController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Workspace not found");
       }
 
-      // Check ownership
-      if (!workspace.getOwner().getId().equals(currentUser.getId())) {
-        return ResponseEntity.status(HttpStatus.FORBIDDEN)
-            .body("Only workspace owner can update it");
-      }
-
       // Validate request
       if (requestDTO.getName() == null || requestDTO.getName().trim().isEmpty()) {
         return ResponseEntity.badRequest().body("Workspace name is required");
@@ -202,18 +165,15 @@ public class WorkspaceController {
   }
 
   /**
-   * Delete workspace (owner-only).
-   * DELETE /api/workspaces/{id}
+   * Delete workspace (owner-only). The workspace and its projects are gone from every read at
+   * once; their rows are purged in the background, hence 202 Accepted.
+   * DELETE /api/workspaces/{workspaceId}
    */
-  @DeleteMapping("/{id}")
+  @DeleteMapping("/{workspaceId}")
+  @RequiresPermission(Permission.MANAGE_WORKSPACE)
   public ResponseEntity<?> deleteWorkspace(
-      @PathVariable Long id, @RequestHeader("Authorization") String bearerToken) {
+      @PathVariable("workspaceId") Long id, @CurrentUser User currentUser) {
     try {
-      // Extract JWT token and resolve current user
-      String token = bearerToken.substring(7);
-      String email = jwtUtil.extractUsername(token);
-      User currentUser = userImp.findByEmail(email);
-
       if (currentUser == null) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not found");
       }
@@ -224,16 +184,10 @@ public class WorkspaceController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Workspace not found");
       }
 
-      // Check ownership
-      if (!workspace.getOwner().getId().equals(currentUser.getId())) {
-        return ResponseEntity.status(HttpStatus.FORBIDDEN)
-            .body("Only workspace owner can delete it");
-      }
-
       // Delete workspace
       workspaceService.deleteWorkspace(id);
 
-      return ResponseEntity.noContent().build();
+      return ResponseEntity.accepted().build();
     } catch (Exception e) {
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
           .body("Failed to delete workspace: " + e.getMessage());
@@ -241,15 +195,14 @@ public class WorkspaceController {
   }
 
   /**
-   * Get workspaces owned by a specific user (for admin/debugging).
-   * GET /api/workspaces/owner/{ownerId}
+   * Get one page of the workspaces owned by a specific user (for admin/debugging).
+   * GET /api/workspaces/owner/{ownerId}?limit=50&cursor={next}
    */
   @GetMapping("/owner/{ownerId}")
-  public ResponseEntity<?> getWorkspacesByOwner(@PathVariable Long ownerId) {
+  public ResponseEntity<?> getWorkspacesByOwner(@PathVariable Long ownerId, PageQuery page) {
     try {
-      List<Workspace> workspaces = workspaceService.getWorkspacesByOwner(ownerId);
-      List<WorkspaceResponseDTO> responseDTOs =
-          workspaces.stream().map(this::convertToResponseDTO).collect(Collectors.toList());
+      CursorPage<WorkspaceResponseDTO> responseDTOs =
+          workspaceService.getWorkspaceResponsesByOwner(ownerId, page);
       return ResponseEntity.ok(responseDTOs);
     } catch (Exception e) {
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -262,29 +215,17 @@ public class WorkspaceController {
    * POST /api/workspaces/{workspaceId}/members
    *
    * @param workspaceId ID of the workspace to add member to
-   * @param bearerToken JWT token of the workspace owner
+   * @param currentUser authenticated workspace owner or admin
    * @param requestDTO contains userId (ID of user to add) and role (ADMIN, MEMBER, VIEWER)
    * @return WorkspaceMemberResponseDTO with member details
    */
   @PostMapping("/{workspaceId}/members")
+  @RequiresPermission(Permission.MANAGE_MEMBERS)
   public ResponseEntity<?> addMemberToWorkspace(
       @PathVariable Long workspaceId,
-      @RequestHeader("Authorization") String bearerToken,
+      @CurrentUser User currentUser,
       @RequestBody WorkspaceMemberRequestDTO requestDTO) {
     try {
-      System.out.println("=== START addMemberToWorkspace");
-      System.out.println("bearerToken: " + bearerToken);
-
-      // Extract JWT token and resolve current user
-      String token = bearerToken.substring(7);
-      System.out.println("token extracted: " + token);
-
-      String email = jwtUtil.extractUsername(token);
-      System.out.println("email from JWT: " + email);
-
-      User currentUser = userImp.findByEmail(email);
-      System.out.println("currentUser: " + currentUser);
-
       if (currentUser == null) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not found");
       }
@@ -295,12 +236,6 @@ public class WorkspaceController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Workspace not found");
       }
 
-      // Check if current user is owner
-      if (!workspace.getOwner().getId().equals(currentUser.getId())) {
-        return ResponseEntity.status(HttpStatus.FORBIDDEN)
-            .body("Only workspace owner can add members");
-      }
-
       // Validate request
       if (requestDTO.getUserId() == null) {
         return ResponseEntity.badRequest().body("User ID is required");
@@ -339,19 +274,15 @@ public class WorkspaceController {
    *
    * @param workspaceId ID of the workspace to remove member from
    * @param userId ID of the user to remove from workspace
-   * @param bearerToken JWT token of the workspace owner
+   * @param currentUser authenticated workspace owner or admin
    */
   @DeleteMapping("/{workspaceId}/members/{userId}")
+  @RequiresPermission(Permission.MANAGE_MEMBERS)
   public ResponseEntity<?> removeMemberFromWorkspace(
       @PathVariable Long workspaceId,
       @PathVariable Long userId,
-      @RequestHeader("Authorization") String bearerToken) {
+      @CurrentUser User currentUser) {
     try {
-      // Extract JWT token and resolve current user
-      String token = bearerToken.substring(7);
-      String email = jwtUtil.extractUsername(token);
-      User currentUser = userImp.findByEmail(email);
-
       if (currentUser == null) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not found");
       }
@@ -362,12 +293,6 @@ public class WorkspaceController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Workspace not found");
       }
 
-      // Check if current user is owner
-      if (!workspace.getOwner().getId().equals(currentUser.getId())) {
-        return ResponseEntity.status(HttpStatus.FORBIDDEN)
-            .body("Only workspace owner can remove members");
-      }
-
       // Remove member
       workspaceMemberService.removeMember(userId, workspaceId);
 
@@ -381,29 +306,23 @@ public class WorkspaceController {
   }
 
   /**
-   * List all members of a workspace.
-   * GET /api/workspaces/{workspaceId}/members
+   * List the members of a workspace, one page at a time.
+   * GET /api/workspaces/{workspaceId}/members?limit=50&cursor={next}
    *
    * @param workspaceId ID of the workspace to get members from
-   * @return List of WorkspaceMemberResponseDTO
+   * @param page cursor from the previous page's next, and the page size
+   * @return CursorPage of WorkspaceMemberResponseDTO
    */
   @GetMapping("/{workspaceId}/members")
-  public ResponseEntity<?> getWorkspaceMembers(@PathVariable Long workspaceId) {
+  @RequiresPermission(Permission.READ_BOARD)
+  public ResponseEntity<?> getWorkspaceMembers(@PathVariable Long workspaceId, PageQuery page) {
     try {
-      // Validate workspace exists
-      Workspace workspace = workspaceService.getWorkspace(workspaceId);
-      if (workspace == null) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Workspace not found");
-      }
-
-      // Get members
-      List<WorkspaceMember> members = workspaceMemberService.getMembersOfWorkspace(workspaceId);
-      List<WorkspaceMemberResponseDTO> responseDTOs =
-          members.stream()
-              .map(this::convertToMemberResponseDTO)
-              .collect(Collectors.toList());
-
+      CursorPage<WorkspaceMemberResponseDTO> responseDTOs =
+          workspaceMemberService.getMemberResponsesOfWorkspace(workspaceId, page);
       return ResponseEntity.ok(responseDTOs);
+    } catch (IllegalArgumentException e) {
+      // The workspace does not exist
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Workspace not found");
     } catch (Exception e) {
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
           .body("Failed to fetch members: " + e.getMessage());
@@ -0,0 +1,42 @@
+package com.teamboard.datasource;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the read replicas when any are
+ * configured. The auto-configured DataSource is wrapped in a {@link LazyConnectionDataSourceProxy}:
+ * it fetches the physical connection on the first statement, after the transaction has marked the
+ * connection read-only, and takes read-only connections from {@link ReplicaRoutingDataSource}.
+ * Everything else, Flyway included, keeps using the primary pool.
+ */
+@Component
+public class ReadReplicaDataSourcePostProcessor implements BeanPostProcessor {
+
+  private final ObjectProvider<ReadReplicas> readReplicas;
+  private final ObjectProvider<ReadYourWrites> readYourWrites;
+
+  public ReadReplicaDataSourcePostProcessor(ObjectProvider<ReadReplicas> readReplicas,
+      ObjectProvider<ReadYourWrites> readYourWrites) {
+    this.readReplicas = readReplicas;
+    this.readYourWrites = readYourWrites;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!(bean instanceof DataSource primary) || bean instanceof LazyConnectionDataSourceProxy) {
+      return bean;
+    }
+    ReadReplicas replicas = readReplicas.getObject();
+    if (!replicas.isEnabled()) {
+      return bean;
+    }
+    LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+    proxy.setReadOnlyDataSource(
+        new ReplicaRoutingDataSource(primary, replicas, readYourWrites.getObject()));
+    return proxy;
+  }
+}
@@ -0,0 +1,148 @@
+package com.teamboard.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Connection pools for the read replicas listed in {@code datasource.replicas.urls}, and the
+ * health of each. Connections are handed out round-robin over the healthy replicas. A replica is
+ * healthy while it accepts connections and, on PostgreSQL, replays the primary's WAL no more than
+ * {@code max-lag} behind. It is marked down as soon as a connection attempt fails and back up by
+ * the next health check that passes.
+ */
+@Component
+public class ReadReplicas {
+
+  private static final Logger log = LoggerFactory.getLogger(ReadReplicas.class);
+
+  // Seconds the replica is behind: zero when it has replayed everything it received, since
+  // pg_last_xact_replay_timestamp() stops advancing while the primary is idle
+  private static final String LAG_QUERY = """
+      select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+          else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end
+      """;
+
+  private final List<Replica> replicas = new ArrayList<>();
+  private final AtomicInteger next = new AtomicInteger();
+  private final Duration maxLag;
+
+  public ReadReplicas(
+      @Value("${datasource.replicas.urls:}") List<String> urls,
+      @Value("${datasource.replicas.username:${spring.datasource.username:}}") String username,
+      @Value("${datasource.replicas.password:${spring.datasource.password:}}") String password,
+      @Value("${datasource.replicas.pool-size:10}") int poolSize,
+      @Value("${datasource.replicas.connection-timeout:PT2S}") Duration connectionTimeout,
+      @Value("${datasource.replicas.max-lag:PT10S}") Duration maxLag,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.maxLag = maxLag;
+    for (String url : urls) {
+      if (url.isBlank()) {
+        continue;
+      }
+      HikariConfig config = new HikariConfig();
+      config.setPoolName("replica-" + (replicas.size() + 1));
+      config.setJdbcUrl(url.strip());
+      config.setUsername(username);
+      config.setPassword(password);
+      config.setMaximumPoolSize(poolSize);
+      config.setConnectionTimeout(connectionTimeout.toMillis());
+      config.setReadOnly(true);
+      // Start even if a replica is down; the health check brings it in once it is reachable
+      config.setInitializationFailTimeout(-1);
+      replicas.add(new Replica(config.getPoolName(), new HikariDataSource(config)));
+    }
+    meterRegistry.ifAvailable(registry -> Gauge.builder("datasource.replicas.healthy", this,
+        r -> r.replicas.stream().filter(replica -> replica.healthy).count()).register(registry));
+  }
+
+  public boolean isEnabled() {
+    return !replicas.isEmpty();
+  }
+
+  /**
+   * A connection to the next healthy replica, or null if none can be reached.
+   */
+  public Connection connect() {
+    int size = replicas.size();
+    int start = Math.floorMod(next.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (!replica.healthy) {
+        continue;
+      }
+      try {
+        return replica.pool.getConnection();
+      } catch (SQLException e) {
+        markDown(replica, e.getMessage());
+      }
+    }
+    return null;
+  }
+
+  @Scheduled(fixedDelayString = "${datasource.replicas.health-check-interval:PT5S}")
+  public void checkHealth() {
+    for (Replica replica : replicas) {
+      try (Connection connection = replica.pool.getConnection()) {
+        double lagSeconds = lagSeconds(connection);
+        if (lagSeconds * 1000 > maxLag.toMillis()) {
+          markDown(replica, "replication lag " + lagSeconds + "s");
+        } else if (!replica.healthy) {
+          replica.healthy = true;
+          log.info("Read replica {} is back in rotation", replica.name);
+        }
+      } catch (SQLException e) {
+        markDown(replica, e.getMessage());
+      }
+    }
+  }
+
+  private static double lagSeconds(Connection connection) throws SQLException {
+    if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+      return 0;
+    }
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+      return rs.next() ? rs.getDouble(1) : 0;
+    }
+  }
+
+  private static void markDown(Replica replica, String reason) {
+    if (replica.healthy) {
+      replica.healthy = false;
+      log.warn("Read replica {} taken out of rotation: {}", replica.name, reason);
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    replicas.forEach(replica -> replica.pool.close());
+  }
+
+  private static final class Replica {
+    private final String name;
+    private final HikariDataSource pool;
+    private volatile boolean healthy = true;
+
+    private Replica(String name, HikariDataSource pool) {
+      this.name = name;
+      this.pool = pool;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.teamboard.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamboard.security.AuthenticatedUser;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Remembers which users committed a write in the last {@code read-your-writes-window}, so their
+ * read-only transactions run on the primary until the replicas have caught up with it. Spring Boot
+ * registers this listener with the transaction manager. Users are identified by the authenticated
+ * principal of the thread, so work without one is never pinned. The window is tracked per
+ * instance.
+ */
+@Component
+public class ReadYourWrites implements TransactionExecutionListener {
+
+  // Null when the window is zero: reads always go to the replicas
+  private final Cache<Long, Boolean> recentWriters;
+
+  public ReadYourWrites(
+      @Value("${datasource.replicas.read-your-writes-window:PT5S}") Duration window,
+      @Value("${datasource.replicas.read-your-writes-max-users:100000}") long maxUsers) {
+    this.recentWriters = window.isZero() ? null : Caffeine.newBuilder()
+        .maximumSize(maxUsers)
+        .expireAfterWrite(window)
+        .build();
+  }
+
+  @Override
+  public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+    if (recentWriters == null || commitFailure != null || transaction.isReadOnly()) {
+      return;
+    }
+    Long userId = currentUserId();
+    if (userId != null) {
+      recentWriters.put(userId, Boolean.TRUE);
+    }
+  }
+
+  /**
+   * True if the current user wrote within the window and must not read from a replica.
+   */
+  public boolean mustReadPrimary() {
+    if (recentWriters == null) {
+      return false;
+    }
+    Long userId = currentUserId();
+    return userId != null && recentWriters.getIfPresent(userId) != null;
+  }
+
+  private static Long currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+      return user.getId();
+    }
+    return null;
+  }
+}
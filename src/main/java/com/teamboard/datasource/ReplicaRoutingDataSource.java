@@ -0,0 +1,41 @@
+package com.teamboard.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Connections for read-only transactions: from a healthy replica, or from the primary when the
+ * current user has just written or no replica can be reached.
+ */
+class ReplicaRoutingDataSource extends AbstractDataSource {
+
+  private final DataSource primary;
+  private final ReadReplicas readReplicas;
+  private final ReadYourWrites readYourWrites;
+
+  ReplicaRoutingDataSource(DataSource primary, ReadReplicas readReplicas,
+      ReadYourWrites readYourWrites) {
+    this.primary = primary;
+    this.readReplicas = readReplicas;
+    this.readYourWrites = readYourWrites;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!readYourWrites.mustReadPrimary()) {
+      Connection connection = readReplicas.connect();
+      if (connection != null) {
+        return connection;
+      }
+    }
+    return primary.getConnection();
+  }
+
+  // Replica pools only hold the configured credentials, so other credentials go to the primary
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return primary.getConnection(username, password);
+  }
+}
@@ -0,0 +1,97 @@
+package com.teamboard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * A task completed long enough ago to be moved out of {@code tasks} by TaskArchiver, under the
+ * same id. Archived tasks are read-only: they are only read, for lists that include them and for
+ * lookups of a single task, and leave with their project.
+ */
+@Data
+@Builder
+@Entity
+@Immutable
+@Table(name = "tasks_archive")
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTask {
+
+  @Id
+  private Long id;
+
+  @Column(nullable = false)
+  private String title;
+
+  @Column(columnDefinition = "TEXT")
+  private String description;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  @JoinColumn(name = "project_id", nullable = false)
+  private Project project;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  @JoinColumn(name = "column_id", nullable = false)
+  private BoardColumn column;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @JoinColumn(name = "assigned_to", nullable = true)
+  private User assignedTo;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private Priority priority;
+
+  @Column(nullable = true)
+  private LocalDateTime dueDate;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @JoinColumn(name = "created_by", nullable = false)
+  private User createdBy;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Column(nullable = false)
+  private LocalDateTime completedAt;
+
+  @Column(nullable = false, length = 255)
+  private String rank;
+
+  // The task's version when it was archived; archived tasks are never written again
+  @Column(nullable = false)
+  private Long version;
+
+  @Column(nullable = false)
+  private LocalDateTime archivedAt;
+}
@@ -1,5 +1,6 @@
 package com.teamboard.entity;
 
+import com.teamboard.cache.CacheRegions;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -10,24 +11,38 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CacheLayout;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.QueryCacheLayout;
 
 @Data
 @Builder
 @Entity
 @Table(name = "board_columns")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.BOARD_COLUMNS)
+// Cached column lists hold only ids; the columns themselves are read from their region
+@QueryCacheLayout(layout = CacheLayout.SHALLOW)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BoardColumn {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_columns_id_seq")
+  @SequenceGenerator(name = "board_columns_id_seq",
+      sequenceName = "board_columns_id_seq", allocationSize = 50)
   private Long id;
 
   @Enumerated(EnumType.STRING)
@@ -37,7 +52,10 @@ public class BoardColumn {
   @Column(nullable = false)
   private Integer position;
 
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @OnDelete(action = OnDeleteAction.CASCADE)
   @JoinColumn(name = "project_id", nullable = false)
   private Project project;
 
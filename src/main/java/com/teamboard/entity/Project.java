@@ -1,5 +1,6 @@
 package com.teamboard.entity;
 
+import com.teamboard.cache.CacheRegions;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -8,25 +9,42 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
+@NamedEntityGraph(name = Project.WITH_CREATOR_GRAPH,
+    attributeNodes = @NamedAttributeNode("createdBy"))
 @Data
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
 @Table(name = "projects")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECTS)
 public class Project {
 
+  /** Fetches the creator shown in project responses; the workspace is only read by id. */
+  public static final String WITH_CREATOR_GRAPH = "Project.withCreator";
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_id_seq")
+  @SequenceGenerator(name = "projects_id_seq",
+      sequenceName = "projects_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -34,12 +52,17 @@ public class Project {
   @Column(columnDefinition = "TEXT")
   private String description;
 
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @OnDelete(action = OnDeleteAction.CASCADE)
   @JoinColumn(name = "workspace_id", nullable = false)
   private Workspace workspace;
 
 
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
   @JoinColumn(name = "created_by", nullable = false)
   private User createdBy;
 
@@ -51,4 +74,11 @@ public class Project {
   @UpdateTimestamp
   @Column(nullable = false)
   private LocalDateTime updatedAt;
+
+  /** Set when the project is deleted; it is hidden from then on and purged in the background. */
+  private LocalDateTime deletedAt;
+
+  public boolean isDeleted() {
+    return deletedAt != null;
+  }
 }
@@ -0,0 +1,34 @@
+package com.teamboard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Data
+@Builder
+@Entity
+@Table(name = "revoked_tokens")
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+  // jti claim of the revoked token
+  @Id
+  @Column(name = "token_id", length = 64)
+  private String tokenId;
+
+  // exp claim of the token, epoch seconds
+  @Column(name = "expires_at", nullable = false)
+  private long expiresAt;
+
+  @CreationTimestamp
+  @Column(name = "revoked_at", nullable = false)
+  private LocalDateTime revokedAt;
+}
@@ -1,5 +1,6 @@
 package com.teamboard.entity;
 
+import com.teamboard.ranking.RankKeys;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -10,25 +11,41 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Data
 @Builder
 @Entity
+@NamedEntityGraph(name = Task.CARD_GRAPH, attributeNodes = {
+    @NamedAttributeNode("assignedTo"),
+    @NamedAttributeNode("createdBy")
+})
 @Table(name = "tasks")
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+  /** Fetches the people shown on a task card; project and column are only read by id. */
+  public static final String CARD_GRAPH = "Task.card";
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+  @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -37,15 +54,23 @@ public class Task {
   @Column(columnDefinition = "TEXT")
   private String description;
 
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @OnDelete(action = OnDeleteAction.CASCADE)
   @JoinColumn(name = "project_id", nullable = false)
   private Project project;
 
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @OnDelete(action = OnDeleteAction.CASCADE)
   @JoinColumn(name = "column_id", nullable = false)
   private BoardColumn column;
 
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
   @JoinColumn(name = "assigned_to", nullable = true)
   private User assignedTo;
 
@@ -56,7 +81,9 @@ public class Task {
   @Column(nullable = true)
   private LocalDateTime dueDate;
 
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
   @JoinColumn(name = "created_by", nullable = false)
   private User createdBy;
 
@@ -70,5 +97,16 @@ public class Task {
 
   @Column(nullable = true)
   private LocalDateTime completedAt;
+
+  // Order within the column (see RankKeys), chosen by TaskRanker whenever the task is placed.
+  // Tasks saved without one share the middle key and sort among themselves by id
+  @Builder.Default
+  @Column(nullable = false, length = 255)
+  private String rank = RankKeys.MIDDLE;
+
+  // Null until persisted, which is how Spring Data tells a new task from a detached one
+  @Version
+  @Column(nullable = false)
+  private Long version;
 }
 
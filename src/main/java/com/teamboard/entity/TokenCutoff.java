@@ -0,0 +1,32 @@
+package com.teamboard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@Entity
+@Table(name = "token_cutoffs")
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenCutoff {
+
+  // sub claim (user email)
+  @Id
+  @Column(name = "subject")
+  private String subject;
+
+  // Tokens issued before this instant are rejected, epoch seconds
+  @Column(name = "not_before", nullable = false)
+  private long notBefore;
+
+  // Once passed, every token the cutoff applies to has expired, epoch seconds
+  @Column(name = "expires_at", nullable = false)
+  private long expiresAt;
+}
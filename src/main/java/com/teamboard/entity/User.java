@@ -1,15 +1,20 @@
 package com.teamboard.entity;
 
+import com.teamboard.cache.CacheRegions;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,10 +22,12 @@ import org.hibernate.annotations.UpdateTimestamp;
 @Getter @Setter
 @NoArgsConstructor
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 public class User {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+  @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "email", nullable = false, unique = true)
@@ -43,5 +50,10 @@ public class User {
   @Column(name = "updated_at")
   private LocalDateTime updatedAt;
 
+  // Only changed by UserRepo.incrementMembershipVersions, so entity saves never write it back
+  @ColumnDefault("0")
+  @Column(name = "membership_version", nullable = false, insertable = false, updatable = false)
+  private long membershipVersion;
+
 
 }
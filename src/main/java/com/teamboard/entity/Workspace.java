@@ -1,5 +1,6 @@
 package com.teamboard.entity;
 
+import com.teamboard.cache.CacheRegions;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -8,25 +9,42 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Data
 @Builder
 @Entity
+@NamedEntityGraph(name = Workspace.WITH_OWNER_GRAPH,
+    attributeNodes = @NamedAttributeNode("owner"))
 @Table(name = "workspaces")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.WORKSPACES)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Workspace {
 
+  /** Fetches the owner shown in workspace responses. */
+  public static final String WITH_OWNER_GRAPH = "Workspace.withOwner";
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspaces_id_seq")
+  @SequenceGenerator(name = "workspaces_id_seq",
+      sequenceName = "workspaces_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -35,7 +53,10 @@ public class Workspace {
   @Column(columnDefinition = "TEXT")
   private String description;
 
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @OnDelete(action = OnDeleteAction.CASCADE)
   @JoinColumn(name = "owner_id", nullable = false)
   private User owner;
 
@@ -46,4 +67,10 @@ public class Workspace {
   @Column(nullable = false)
   private LocalDateTime updatedAt;
 
+  /** Set when the workspace is deleted; it is hidden from then on and purged in the background. */
+  private LocalDateTime deletedAt;
+
+  public boolean isDeleted() {
+    return deletedAt != null;
+  }
 }
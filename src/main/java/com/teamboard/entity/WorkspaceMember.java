@@ -10,32 +10,52 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Data
 @Builder
 @Entity
+@NamedEntityGraph(name = WorkspaceMember.WITH_USER_GRAPH,
+    attributeNodes = @NamedAttributeNode("user"))
 @Table(name = "workspace_members")
 @NoArgsConstructor
 @AllArgsConstructor
 public class WorkspaceMember {
 
+  /** Fetches the user shown in member lists; the workspace is only read by id. */
+  public static final String WITH_USER_GRAPH = "WorkspaceMember.withUser";
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspace_members_id_seq")
+  @SequenceGenerator(name = "workspace_members_id_seq",
+      sequenceName = "workspace_members_id_seq", allocationSize = 50)
   private Long id;
 
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @OnDelete(action = OnDeleteAction.CASCADE)
   @JoinColumn(name = "workspace_id", nullable = false)
   private Workspace workspace;
 
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  @OnDelete(action = OnDeleteAction.CASCADE)
   @JoinColumn(name = "user_id", nullable = false)
   private User user;
 
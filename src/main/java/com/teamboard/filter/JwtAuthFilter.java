@@ -1,11 +1,14 @@
 package com.teamboard.filter;
 
 import com.teamboard.service.CustomUserDetailsService;
+import com.teamboard.security.jwt.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,6 +20,8 @@ import com.teamboard.util.JwtUtil;
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+  private static final Logger log = LoggerFactory.getLogger(JwtAuthFilter.class);
+
   @Autowired
   private CustomUserDetailsService userDetailsService;
 
@@ -32,90 +37,60 @@ public class JwtAuthFilter extends OncePerRequestFilter {
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-    String requestURI = request.getRequestURI();
-    String method = request.getMethod();
-
     // Skip JWT validation for CORS preflight requests
     if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
-      System.out.println("⏭ Skipping JWT validation for OPTIONS preflight: " + requestURI);
       filterChain.doFilter(request, response);
       return;
     }
 
-    System.out.println("========================================");
-    System.out.println("JWT FILTER START");
-    System.out.println("========================================");
-    System.out.println("Request URI: " + requestURI);
-    System.out.println("Method: " + method);
-
-    String authHeader = request.getHeader("Authorization");
-    System.out.println("Has Authorization Header: " + (authHeader != null));
-
-    if (authHeader != null) {
-      System.out.println("Authorization Header Starts With 'Bearer ': " + authHeader.startsWith("Bearer "));
-      if (authHeader.startsWith("Bearer ")) {
-        String tokenPreview = authHeader.substring(0, Math.min(30, authHeader.length()));
-        System.out.println("Token Preview: " + tokenPreview + "...");
-      }
-    } else {
-      System.out.println("⚠ WARNING: No Authorization header present - request will fail authentication");
-    }
-
     try{
       String token = extractToken(request);
-      System.out.println("Token extracted: " + (token != null));
 
       if(token != null){
-        System.out.println("Step 1: Validating token...");
-        boolean isValid = jwtUtil.validateToken(token);
-        System.out.println("Token validation result: " + isValid);
-
-        if(isValid){
-          System.out.println("Step 2: Extracting username from token...");
-          String username = jwtUtil.extractUsername(token);
-          System.out.println("Username extracted: " + username);
-
-          if(username != null) {
-            System.out.println("Step 3: Loading user details for: " + username);
-            var userDetails = userDetailsService.loadUserByUsername(username);
-            System.out.println("User details loaded: " + userDetails.getUsername());
-            System.out.println("User authorities: " + userDetails.getAuthorities());
-
-            System.out.println("Step 4: Creating authentication token...");
-            UsernamePasswordAuthenticationToken authentication =
-                UsernamePasswordAuthenticationToken.authenticated(
-                    userDetails,
-                    null,
-                    userDetails.getAuthorities()
-                );
-            authentication.setDetails(
-                new WebAuthenticationDetailsSource().buildDetails(request)
-            );
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            System.out.println("✅ Authentication set successfully in SecurityContext");
-          } else {
-            System.out.println("❌ Username extraction failed - null username");
-          }
+        // Single verification: signature, expiry and subject all come from one parse
+        VerifiedToken verified = jwtUtil.verify(token);
+
+        if(verified != null && verified.subject() != null){
+          var userDetails = userDetailsService.loadUserByUsername(verified.subject());
+          UsernamePasswordAuthenticationToken authentication =
+              // The verified token is kept as the credential so its embedded claims can be
+              // used for authorization later in the request
+              UsernamePasswordAuthenticationToken.authenticated(
+                  userDetails,
+                  verified,
+                  userDetails.getAuthorities()
+              );
+          authentication.setDetails(
+              new WebAuthenticationDetailsSource().buildDetails(request)
+          );
+          SecurityContextHolder.getContext().setAuthentication(authentication);
+          log.atDebug().setMessage("Authenticated request")
+              .addKeyValue("method", request.getMethod())
+              .addKeyValue("uri", request.getRequestURI())
+              .addKeyValue("user", verified.subject())
+              .log();
         } else {
-          System.out.println("❌ Token validation FAILED - token is invalid or expired");
+          log.atDebug().setMessage("Rejected bearer token")
+              .addKeyValue("method", request.getMethod())
+              .addKeyValue("uri", request.getRequestURI())
+              .addKeyValue("reason", verified == null ? "invalid or expired" : "no subject")
+              .log();
         }
       } else {
-        System.out.println("❌ No token extracted from Authorization header");
+        log.atDebug().setMessage("No bearer token")
+            .addKeyValue("method", request.getMethod())
+            .addKeyValue("uri", request.getRequestURI())
+            .addKeyValue("hasAuthorizationHeader", request.getHeader("Authorization") != null)
+            .log();
       }
     }catch(Exception e){
-      System.out.println("========================================");
-      System.out.println("❌ EXCEPTION CAUGHT IN JWT FILTER");
-      System.out.println("Exception Type: " + e.getClass().getName());
-      System.out.println("Exception Message: " + e.getMessage());
-      System.out.println("Stack trace:");
-      e.printStackTrace();
-      System.out.println("========================================");
+      log.atDebug().setMessage("Bearer authentication failed")
+          .addKeyValue("method", request.getMethod())
+          .addKeyValue("uri", request.getRequestURI())
+          .setCause(e)
+          .log();
     }
 
-    System.out.println("JWT Filter completed - Passing to next filter");
-    System.out.println("Current Authentication: " + SecurityContextHolder.getContext().getAuthentication());
-    System.out.println("========================================");
-
     filterChain.doFilter(request, response);
   }
 
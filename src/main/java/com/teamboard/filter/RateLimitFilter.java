@@ -0,0 +1,77 @@
+package com.teamboard.filter;
+
+import com.teamboard.security.AuthenticatedUser;
+import com.teamboard.security.RateLimiter;
+import com.teamboard.security.RateLimiter.Category;
+import com.teamboard.security.RateLimiter.Decision;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies {@link RateLimiter} budgets after JwtAuthFilter has resolved the caller. Authenticated
+ * requests are limited per user id, anonymous ones per client address. {@code /api/auth/**} has its
+ * own budget; other requests use the read budget for GET and HEAD and the write budget otherwise.
+ *
+ * <p>Every limited response carries RateLimit-Limit, RateLimit-Remaining and RateLimit-Reset;
+ * rejected requests get 429 with Retry-After.
+ *
+ * <p>Not a bean, so Spring Boot does not also register it as a servlet filter ahead of security.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private final RateLimiter rateLimiter;
+
+  public RateLimitFilter(RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    Decision decision = rateLimiter.tryAcquire(category(request), caller(request));
+    response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+    response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+    response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+    if (!decision.allowed()) {
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  private static Category category(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    if (path.startsWith("/api/auth/")) {
+      return Category.AUTH;
+    }
+    String method = request.getMethod();
+    return "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method)
+        ? Category.READ
+        : Category.WRITE;
+  }
+
+  private static Object caller(HttpServletRequest request) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.getPrincipal() instanceof AuthenticatedUser principal
+        && principal.getId() != null) {
+      // Long ids and String addresses never compare equal, so the two share one key space
+      return principal.getId();
+    }
+    return request.getRemoteAddr();
+  }
+}
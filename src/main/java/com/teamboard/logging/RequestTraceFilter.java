@@ -0,0 +1,62 @@
+package com.teamboard.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Picks requests for debug tracing, ahead of the security chain: those sending the trace header
+ * (when allowed) and a random sample of the rest. For a traced request the MDC carries a trace id,
+ * which {@link RequestTraceTurboFilter} uses to let that request's DEBUG events through and which
+ * structured log output includes on every event. The id is echoed in the response header.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+  public static final String TRACE_KEY = "trace";
+  static final String TRACE_HEADER = "X-Debug-Trace";
+
+  private final boolean headerEnabled;
+  private final double sampleRate;
+
+  public RequestTraceFilter(
+      @Value("${logging.request-trace.header-enabled:false}") boolean headerEnabled,
+      @Value("${logging.request-trace.sample-rate:0}") double sampleRate) {
+    this.headerEnabled = headerEnabled;
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    if (!isTraced(request)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    String traceId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    response.setHeader(TRACE_HEADER, traceId);
+    MDC.put(TRACE_KEY, traceId);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      MDC.remove(TRACE_KEY);
+    }
+  }
+
+  private boolean isTraced(HttpServletRequest request) {
+    if (headerEnabled && request.getHeader(TRACE_HEADER) != null) {
+      return true;
+    }
+    return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+  }
+}
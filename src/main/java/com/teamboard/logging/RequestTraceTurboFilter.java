@@ -0,0 +1,29 @@
+package com.teamboard.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Accepts DEBUG events from application loggers while the current request is being traced, even
+ * when the configured level is INFO. Also answers {@code isDebugEnabled()}, so untraced requests
+ * never build the arguments of a debug statement.
+ */
+public class RequestTraceTurboFilter extends TurboFilter {
+
+  private static final String APPLICATION_PACKAGE = "com.teamboard";
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+      Object[] params, Throwable t) {
+    if (level.isGreaterOrEqual(Level.DEBUG)
+        && logger.getName().startsWith(APPLICATION_PACKAGE)
+        && MDC.get(RequestTraceFilter.TRACE_KEY) != null) {
+      return FilterReply.ACCEPT;
+    }
+    return FilterReply.NEUTRAL;
+  }
+}
@@ -0,0 +1,42 @@
+package com.teamboard.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Sort key of the last row on a page, handed to clients as an opaque string. Lists sorted by
+ * creation time carry the row's createdAt and id; lists sorted by id carry the id only.
+ */
+public record Cursor(LocalDateTime createdAt, long id) {
+
+  private static final char SEPARATOR = '|';
+
+  public static Cursor of(long id) {
+    return new Cursor(null, id);
+  }
+
+  public String encode() {
+    String raw = createdAt != null ? createdAt.toString() + SEPARATOR + id : Long.toString(id);
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+   */
+  public static Cursor decode(String value) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+      int split = raw.indexOf(SEPARATOR);
+      if (split < 0) {
+        return of(Long.parseLong(raw));
+      }
+      return new Cursor(LocalDateTime.parse(raw.substring(0, split)),
+          Long.parseLong(raw.substring(split + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+  }
+}
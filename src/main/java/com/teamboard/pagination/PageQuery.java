@@ -0,0 +1,44 @@
+package com.teamboard.pagination;
+
+import com.teamboard.DTO.CursorPage;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
+
+/**
+ * Request for one page of a keyset-paginated list: the cursor of the last row already returned
+ * (null for the first page) and the page size. Controllers take it as a parameter, resolved from
+ * the {@code cursor} and {@code limit} query parameters by {@link PageQueryArgumentResolver}.
+ */
+public record PageQuery(Cursor after, int limit) {
+
+  public static PageQuery first(int limit) {
+    return new PageQuery(null, limit);
+  }
+
+  /**
+   * Rows to fetch: one more than the page, so a full page shows whether another one follows.
+   */
+  public Limit fetchLimit() {
+    return Limit.of(limit + 1);
+  }
+
+  /**
+   * Id to continue after for lists sorted by id; 0 on the first page, below every generated id.
+   */
+  public long afterId() {
+    return after != null ? after.id() : 0L;
+  }
+
+  /**
+   * Builds the page from rows fetched with {@link #fetchLimit()}.
+   * @param cursorOf sort key of a row, in the form the next query continues after
+   */
+  public <T> CursorPage<T> toPage(List<T> rows, Function<T, Cursor> cursorOf) {
+    if (rows.size() <= limit) {
+      return new CursorPage<>(rows, null);
+    }
+    List<T> items = rows.subList(0, limit);
+    return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)).encode());
+  }
+}
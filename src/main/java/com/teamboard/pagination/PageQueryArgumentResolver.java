@@ -0,0 +1,63 @@
+package com.teamboard.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Resolves {@link PageQuery} parameters from the {@code cursor} and {@code limit} query
+ * parameters. A missing limit gets the default and larger ones are capped; a malformed cursor or
+ * limit is answered with 400.
+ */
+@Component
+public class PageQueryArgumentResolver implements HandlerMethodArgumentResolver {
+
+  private final int defaultLimit;
+  private final int maxLimit;
+
+  public PageQueryArgumentResolver(
+      @Value("${pagination.default-limit:50}") int defaultLimit,
+      @Value("${pagination.max-limit:200}") int maxLimit) {
+    this.defaultLimit = defaultLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    return PageQuery.class.equals(parameter.getParameterType());
+  }
+
+  @Override
+  public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+      NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+    int limit = defaultLimit;
+    String limitParam = webRequest.getParameter("limit");
+    if (limitParam != null) {
+      try {
+        limit = Integer.parseInt(limitParam);
+      } catch (NumberFormatException e) {
+        limit = 0;
+      }
+      if (limit < 1) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be a positive integer");
+      }
+    }
+
+    Cursor after = null;
+    String cursorParam = webRequest.getParameter("cursor");
+    if (cursorParam != null && !cursorParam.isEmpty()) {
+      try {
+        after = Cursor.decode(cursorParam);
+      } catch (IllegalArgumentException e) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+      }
+    }
+    return new PageQuery(after, Math.min(limit, maxLimit));
+  }
+}
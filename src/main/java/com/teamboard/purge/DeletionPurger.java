@@ -0,0 +1,181 @@
+package com.teamboard.purge;
+
+import com.teamboard.cache.CascadeEviction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Removes deleted projects and workspaces in the background. Deleting one only marks its row, so
+ * the request is done at once; the purge then takes a project's tasks, archived tasks and
+ * columns, or a workspace's projects and members, {@code deletion-purge.batch-size} rows per
+ * transaction, and the final ON DELETE CASCADE finds nothing left to remove. No transaction
+ * locks more than a batch.
+ * <p>
+ * The marked rows are the work queue, oldest first, so a purge cut short by a restart carries on
+ * from what is left, on whichever instance runs next. Each run, every
+ * {@code deletion-purge.interval}, works for at most {@code deletion-purge.run-time} and then
+ * leaves the database to request traffic until the next. Rows removed are counted in
+ * {@code purge.rows} by table, and the projects and workspaces still waiting are gauged in
+ * {@code purge.pending}.
+ */
+@Component
+public class DeletionPurger {
+
+  private static final Logger log = LoggerFactory.getLogger(DeletionPurger.class);
+
+  // The pending lookups and counts read the partial (deleted_at, id) indexes
+  private static final String NEXT_PROJECT =
+      "select id from projects where deleted_at is not null order by deleted_at, id"
+          + " fetch first 1 rows only";
+  private static final String NEXT_WORKSPACE =
+      "select id from workspaces where deleted_at is not null order by deleted_at, id"
+          + " fetch first 1 rows only";
+  private static final String COUNT_PROJECTS =
+      "select count(*) from projects where deleted_at is not null";
+  private static final String COUNT_WORKSPACES =
+      "select count(*) from workspaces where deleted_at is not null";
+
+  // One batch of a parent's children, each found by the index on its parent id
+  private static final String DELETE_TASKS = "delete from tasks where id in"
+      + " (select id from tasks where project_id = ? fetch first ? rows only)";
+  private static final String DELETE_ARCHIVED_TASKS = "delete from tasks_archive where id in"
+      + " (select id from tasks_archive where project_id = ? fetch first ? rows only)";
+  private static final String DELETE_COLUMNS = "delete from board_columns where id in"
+      + " (select id from board_columns where project_id = ? fetch first ? rows only)";
+  private static final String DELETE_MEMBERS = "delete from workspace_members where id in"
+      + " (select id from workspace_members where workspace_id = ? fetch first ? rows only)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final CascadeEviction cascadeEviction;
+  private final int batchSize;
+  private final Duration runTime;
+  private final MeterRegistry meterRegistry;
+  private volatile long pendingProjects;
+  private volatile long pendingWorkspaces;
+
+  public DeletionPurger(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+      CascadeEviction cascadeEviction,
+      @Value("${deletion-purge.batch-size:1000}") int batchSize,
+      @Value("${deletion-purge.run-time:PT1S}") Duration runTime,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.cascadeEviction = cascadeEviction;
+    this.batchSize = batchSize;
+    this.runTime = runTime;
+    this.meterRegistry = meterRegistry.getIfAvailable();
+    if (this.meterRegistry != null) {
+      this.meterRegistry.gauge("purge.pending", Tags.of("kind", "project"), this,
+          purger -> purger.pendingProjects);
+      this.meterRegistry.gauge("purge.pending", Tags.of("kind", "workspace"), this,
+          purger -> purger.pendingWorkspaces);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${deletion-purge.interval:PT5S}",
+      initialDelayString = "${deletion-purge.interval:PT5S}")
+  public void purgePending() {
+    long deadline = System.nanoTime() + runTime.toNanos();
+    int batches = 0;
+    try {
+      while (System.nanoTime() < deadline && purgeBatch()) {
+        batches++;
+      }
+    } catch (RuntimeException e) {
+      log.warn("Deletion purge stopped after {} batches; the next run carries on", batches, e);
+    }
+    pendingProjects = jdbcTemplate.queryForObject(COUNT_PROJECTS, Long.class);
+    pendingWorkspaces = jdbcTemplate.queryForObject(COUNT_WORKSPACES, Long.class);
+    if (batches > 0) {
+      log.info("Deletion purge ran {} batches; {} projects and {} workspaces still pending",
+          batches, pendingProjects, pendingWorkspaces);
+    }
+  }
+
+  /**
+   * Purges the next batch of the oldest deletion, in one transaction: a deleted project's tasks,
+   * then its archived tasks, then its columns, then its row; once no deleted project is left, a
+   * deleted workspace's members, then its row.
+   * @return false if nothing was left to purge
+   */
+  public boolean purgeBatch() {
+    return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+      Long projectId = first(NEXT_PROJECT);
+      if (projectId != null) {
+        purgeProject(projectId);
+        return true;
+      }
+      Long workspaceId = first(NEXT_WORKSPACE);
+      if (workspaceId != null) {
+        purgeWorkspace(workspaceId);
+        return true;
+      }
+      return false;
+    }));
+  }
+
+  /**
+   * Projects and workspaces deleted and not yet purged, as of the last run.
+   */
+  public long pending() {
+    return pendingProjects + pendingWorkspaces;
+  }
+
+  private void purgeProject(Long projectId) {
+    if (deleteBatch(DELETE_TASKS, "tasks", projectId) > 0
+        || deleteBatch(DELETE_ARCHIVED_TASKS, "tasks_archive", projectId) > 0
+        || deleteBatch(DELETE_COLUMNS, "board_columns", projectId) > 0) {
+      return;
+    }
+    jdbcTemplate.update("delete from projects where id = ?", projectId);
+    purged("projects", 1);
+    cascadeEviction.projectPurged();
+    log.info("Purged deleted project {}", projectId);
+  }
+
+  private void purgeWorkspace(Long workspaceId) {
+    // Its projects were marked with it and purged first, except any created while it was being
+    // deleted; those are marked now and purged on the next batches
+    int unmarked = jdbcTemplate.update(
+        "update projects set deleted_at = ? where workspace_id = ? and deleted_at is null",
+        LocalDateTime.now(), workspaceId);
+    if (unmarked > 0 || deleteBatch(DELETE_MEMBERS, "workspace_members", workspaceId) > 0) {
+      return;
+    }
+    jdbcTemplate.update("delete from workspaces where id = ?", workspaceId);
+    purged("workspaces", 1);
+    cascadeEviction.workspacePurged();
+    log.info("Purged deleted workspace {}", workspaceId);
+  }
+
+  private int deleteBatch(String sql, String table, Long parentId) {
+    int deleted = jdbcTemplate.update(sql, parentId, batchSize);
+    if (deleted > 0) {
+      purged(table, deleted);
+      log.debug("Purged {} rows from {} of deleted parent {}", deleted, table, parentId);
+    }
+    return deleted;
+  }
+
+  private void purged(String table, int rows) {
+    if (meterRegistry != null) {
+      meterRegistry.counter("purge.rows", "table", table).increment(rows);
+    }
+  }
+
+  private Long first(String sql) {
+    return jdbcTemplate.query(sql, rows -> rows.next() ? rows.getLong(1) : null);
+  }
+}
@@ -0,0 +1,243 @@
+package com.teamboard.ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fractional order keys for cards in a column. Keys sort in board order as plain byte strings, and
+ * there is always a key between any two, so placing a card writes only that card's row.
+ * <p>
+ * A key is an integer part followed by an optional fraction. The integer's first character gives
+ * its length ({@code a} to {@code z} for 2 to 27 characters, {@code Z} down to {@code A} for the
+ * negatives), followed by base-62 digits ({@code 0-9A-Za-z}, ascending in ASCII). The fraction is
+ * base-62 digits with no trailing {@code 0}. Placing a card first or last steps the integer, so
+ * the keys at either end grow with the logarithm of the number of cards. Placing it between two
+ * cards extends the fraction by about one digit per six cards dropped into the same gap, until
+ * {@link TaskRankRebalancer} re-spaces the column.
+ */
+public final class RankKeys {
+
+  /** The key {@code between(null, null)} returns, and the first of {@link #sequence}. */
+  public static final String MIDDLE = "a0";
+
+  static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+  private static final char ZERO = '0';
+  private static final char MAX_DIGIT = 'z';
+  // The one integer with nothing below it; a key must be above it
+  private static final String SMALLEST_INTEGER = "A" + "0".repeat(26);
+
+  private RankKeys() {
+  }
+
+  /**
+   * A key strictly between two keys.
+   * @param lower the key just above the new position, or null for the top of the column
+   * @param upper the key just below the new position, or null for the bottom of the column
+   * @throws IllegalArgumentException if a key is malformed or lower is not below upper
+   */
+  public static String between(String lower, String upper) {
+    if (lower != null) {
+      validate(lower);
+    }
+    if (upper != null) {
+      validate(upper);
+    }
+    if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+      throw new IllegalArgumentException("Rank " + lower + " is not below " + upper);
+    }
+
+    if (lower == null) {
+      if (upper == null) {
+        return MIDDLE;
+      }
+      String integer = integerPart(upper);
+      if (integer.equals(SMALLEST_INTEGER)) {
+        return integer + midpoint("", upper.substring(integer.length()));
+      }
+      if (integer.length() < upper.length()) {
+        // upper has a fraction, so its integer alone sorts first
+        return integer;
+      }
+      String decremented = decrement(integer);
+      if (decremented == null) {
+        throw new IllegalStateException("No rank below " + upper);
+      }
+      return decremented;
+    }
+
+    String lowerInteger = integerPart(lower);
+    String lowerFraction = lower.substring(lowerInteger.length());
+    if (upper == null) {
+      String incremented = increment(lowerInteger);
+      return incremented != null ? incremented : lowerInteger + midpoint(lowerFraction, null);
+    }
+    String upperInteger = integerPart(upper);
+    if (lowerInteger.equals(upperInteger)) {
+      return lowerInteger + midpoint(lowerFraction, upper.substring(upperInteger.length()));
+    }
+    String incremented = increment(lowerInteger);
+    if (incremented != null && incremented.compareTo(upper) < 0) {
+      return incremented;
+    }
+    return lowerInteger + midpoint(lowerFraction, null);
+  }
+
+  /**
+   * count keys in ascending order, all strictly between two keys. Between two keys they are
+   * spread by bisection, so they are about log2(count) / 6 digits longer than the bounds; towards
+   * an open end they step the integer.
+   */
+  public static List<String> between(String lower, String upper, int count) {
+    List<String> keys = new ArrayList<>(count);
+    spread(lower, upper, count, keys);
+    return keys;
+  }
+
+  /**
+   * count evenly stepped keys from the middle of the key space, the shortest that keep their order.
+   */
+  public static List<String> sequence(int count) {
+    return between(null, null, count);
+  }
+
+  private static void spread(String lower, String upper, int count, List<String> keys) {
+    if (count == 0) {
+      return;
+    }
+    if (upper == null) {
+      String key = lower;
+      for (int i = 0; i < count; i++) {
+        key = between(key, null);
+        keys.add(key);
+      }
+      return;
+    }
+    if (lower == null) {
+      List<String> above = new ArrayList<>(count);
+      String key = upper;
+      for (int i = 0; i < count; i++) {
+        key = between(null, key);
+        above.add(key);
+      }
+      Collections.reverse(above);
+      keys.addAll(above);
+      return;
+    }
+    String middle = between(lower, upper);
+    spread(lower, middle, count / 2, keys);
+    keys.add(middle);
+    spread(middle, upper, count - count / 2 - 1, keys);
+  }
+
+  // A fraction strictly between two fractions; lower may be empty and upper null (1.0)
+  private static String midpoint(String lower, String upper) {
+    if (upper != null) {
+      int common = 0;
+      while ((common < lower.length() ? lower.charAt(common) : ZERO) == upper.charAt(common)) {
+        common++;
+      }
+      if (common > 0) {
+        return upper.substring(0, common)
+            + midpoint(lower.substring(Math.min(common, lower.length())), upper.substring(common));
+      }
+    }
+    int lowerDigit = lower.isEmpty() ? 0 : digit(lower.charAt(0));
+    int upperDigit = upper != null ? digit(upper.charAt(0)) : DIGITS.length();
+    if (upperDigit - lowerDigit > 1) {
+      return String.valueOf(DIGITS.charAt((lowerDigit + upperDigit + 1) / 2));
+    }
+    if (upper != null && upper.length() > 1) {
+      return upper.substring(0, 1);
+    }
+    return DIGITS.charAt(lowerDigit) + midpoint(lower.isEmpty() ? "" : lower.substring(1), null);
+  }
+
+  // The next integer; null past the largest of all, 'z' and 26 'z' digits
+  private static String increment(String integer) {
+    char head = integer.charAt(0);
+    char[] digits = integer.substring(1).toCharArray();
+    for (int i = digits.length - 1; i >= 0; i--) {
+      int next = digit(digits[i]) + 1;
+      if (next < DIGITS.length()) {
+        digits[i] = DIGITS.charAt(next);
+        return head + new String(digits);
+      }
+      digits[i] = ZERO;
+    }
+    if (head == 'Z') {
+      return "a" + ZERO;
+    }
+    if (head == 'z') {
+      return null;
+    }
+    char nextHead = (char) (head + 1);
+    String zeros = new String(digits);
+    // Positive integers get one digit longer, negative ones one digit shorter
+    return nextHead + (nextHead > 'a' ? zeros + ZERO : zeros.substring(1));
+  }
+
+  private static String decrement(String integer) {
+    char head = integer.charAt(0);
+    char[] digits = integer.substring(1).toCharArray();
+    for (int i = digits.length - 1; i >= 0; i--) {
+      int previous = digit(digits[i]) - 1;
+      if (previous >= 0) {
+        digits[i] = DIGITS.charAt(previous);
+        return head + new String(digits);
+      }
+      digits[i] = MAX_DIGIT;
+    }
+    if (head == 'a') {
+      return "Z" + MAX_DIGIT;
+    }
+    if (head == 'A') {
+      return null;
+    }
+    char previousHead = (char) (head - 1);
+    String maxima = new String(digits);
+    return previousHead + (previousHead < 'Z' ? maxima + MAX_DIGIT : maxima.substring(1));
+  }
+
+  private static String integerPart(String key) {
+    char head = key.charAt(0);
+    int length;
+    if (head >= 'a' && head <= 'z') {
+      length = head - 'a' + 2;
+    } else if (head >= 'A' && head <= 'Z') {
+      length = 'Z' - head + 2;
+    } else {
+      throw new IllegalArgumentException("Invalid rank: " + key);
+    }
+    if (length > key.length()) {
+      throw new IllegalArgumentException("Invalid rank: " + key);
+    }
+    return key.substring(0, length);
+  }
+
+  private static void validate(String key) {
+    if (key.isEmpty() || key.equals(SMALLEST_INTEGER)) {
+      throw new IllegalArgumentException("Invalid rank: " + key);
+    }
+    String integer = integerPart(key);
+    for (int i = 1; i < key.length(); i++) {
+      digit(key.charAt(i));
+    }
+    if (key.length() > integer.length() && key.charAt(key.length() - 1) == ZERO) {
+      throw new IllegalArgumentException("Invalid rank: " + key);
+    }
+  }
+
+  private static int digit(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if (c >= 'A' && c <= 'Z') {
+      return c - 'A' + 10;
+    }
+    if (c >= 'a' && c <= 'z') {
+      return c - 'a' + 36;
+    }
+    throw new IllegalArgumentException("Invalid rank digit: " + c);
+  }
+}
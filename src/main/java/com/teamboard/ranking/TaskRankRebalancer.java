@@ -0,0 +1,103 @@
+package com.teamboard.ranking;
+
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.TaskRepository;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Re-spaces the rank keys of columns whose keys have grown long from many cards dropped into the
+ * same gaps. A column is queued when a key longer than {@code task-rank.rebalance-length} is
+ * written to it, and the queue is drained every {@code task-rank.rebalance-interval}, one
+ * transaction per column. The queue is kept per instance; a column whose entry is lost to a
+ * restart is queued again by its next long key.
+ */
+@Component
+public class TaskRankRebalancer {
+
+  private static final Logger log = LoggerFactory.getLogger(TaskRankRebalancer.class);
+
+  private final TaskRepository taskRepository;
+  private final BoardColumnRepository boardColumnRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int rebalanceLength;
+  private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+  public TaskRankRebalancer(TaskRepository taskRepository,
+      BoardColumnRepository boardColumnRepository, JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${task-rank.rebalance-length:32}") int rebalanceLength) {
+    this.taskRepository = taskRepository;
+    this.boardColumnRepository = boardColumnRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.rebalanceLength = rebalanceLength;
+  }
+
+  /**
+   * Queues the column for re-spacing if the key just written to it is too long.
+   */
+  public void keyWritten(Long columnId, String key) {
+    if (key.length() > rebalanceLength) {
+      pending.add(columnId);
+    }
+  }
+
+  /**
+   * Columns queued and not yet re-spaced.
+   */
+  public Set<Long> pending() {
+    return Set.copyOf(pending);
+  }
+
+  @Scheduled(fixedDelayString = "${task-rank.rebalance-interval:PT30S}",
+      initialDelayString = "${task-rank.rebalance-interval:PT30S}")
+  public void rebalancePending() {
+    for (Iterator<Long> columns = pending.iterator(); columns.hasNext(); ) {
+      Long columnId = columns.next();
+      columns.remove();
+      try {
+        transactionTemplate.executeWithoutResult(status -> rebalance(columnId));
+      } catch (RuntimeException e) {
+        log.warn("Could not rebalance the ranks of column {}", columnId, e);
+      }
+    }
+  }
+
+  /**
+   * Gives every card of the column a short key, keeping their order, under the column's rank lock.
+   * @return the number of cards re-keyed
+   */
+  @Transactional
+  public int rebalance(Long columnId) {
+    if (boardColumnRepository.lockById(columnId).isEmpty()) {
+      pending.remove(columnId);
+      return 0;
+    }
+    List<Long> taskIds = taskRepository.findIdsByColumnIdInRankOrder(columnId);
+    List<String> keys = RankKeys.sequence(taskIds.size());
+    List<Object[]> rows = new ArrayList<>(taskIds.size());
+    for (int i = 0; i < taskIds.size(); i++) {
+      rows.add(new Object[] {keys.get(i), taskIds.get(i), columnId});
+    }
+    // Only the keys change, not the order anyone sees, so versions and updatedAt are left alone.
+    // Moves out of the column do not take its lock; the column_id condition skips those cards
+    jdbcTemplate.batchUpdate("update tasks set rank = ? where id = ? and column_id = ?", rows);
+    pending.remove(columnId);
+    log.info("Rebalanced the ranks of {} tasks in column {}", taskIds.size(), columnId);
+    return taskIds.size();
+  }
+}
@@ -0,0 +1,142 @@
+package com.teamboard.ranking;
+
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.TaskRank;
+import com.teamboard.repository.TaskRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Chooses the rank keys of cards being placed in a column. Each call locks the column's row for
+ * the rest of the caller's transaction, so writers of one column take turns: two cards dropped
+ * into the same gap get different keys, and {@link TaskRankRebalancer} never re-spaces a column
+ * while a key is being chosen from it. Callers write the key in that same transaction.
+ */
+@Component
+public class TaskRanker {
+
+  // Width of tasks.rank (V13)
+  static final int MAX_LENGTH = 255;
+
+  private final TaskRepository taskRepository;
+  private final BoardColumnRepository boardColumnRepository;
+  private final TaskRankRebalancer rebalancer;
+
+  public TaskRanker(TaskRepository taskRepository, BoardColumnRepository boardColumnRepository,
+      TaskRankRebalancer rebalancer) {
+    this.taskRepository = taskRepository;
+    this.boardColumnRepository = boardColumnRepository;
+    this.rebalancer = rebalancer;
+  }
+
+  /**
+   * The key for a task placed in a column between two of its cards. With only one neighbour the
+   * task goes right next to it; with neither it goes to the bottom of the column.
+   * @param columnId the column the task is placed in, its own or another of its project
+   * @param taskId the task being placed
+   * @param afterTaskId the card that ends up directly above the task, or null
+   * @param beforeTaskId the card that ends up directly below the task, or null
+   * @throws IllegalArgumentException if the column, the task or a neighbour does not exist, the
+   *     column is in another project, or a neighbour is not in the column
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public String place(Long columnId, Long taskId, Long afterTaskId, Long beforeTaskId) {
+    BoardColumn column = lock(columnId);
+    if (taskId.equals(afterTaskId) || taskId.equals(beforeTaskId)) {
+      throw new IllegalArgumentException("A task cannot be placed next to itself");
+    }
+    String key = choose(column, taskId, afterTaskId, beforeTaskId);
+    if (key == null || key.length() > MAX_LENGTH) {
+      // The neighbours share a key or the gap has run out of room
+      rebalancer.rebalance(columnId);
+      key = choose(column, taskId, afterTaskId, beforeTaskId);
+    }
+    rebalancer.keyWritten(columnId, key);
+    return key;
+  }
+
+  /**
+   * The key for a new card at the bottom of a column.
+   * @throws IllegalArgumentException if the column does not exist
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public String append(Long columnId) {
+    return append(columnId, 1).get(0);
+  }
+
+  /**
+   * Keys for count new cards at the bottom of a column, in order.
+   * @throws IllegalArgumentException if the column does not exist
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public List<String> append(Long columnId, int count) {
+    lock(columnId);
+    return RankKeys.between(taskRepository.findLastRank(columnId, null), null, count);
+  }
+
+  private BoardColumn lock(Long columnId) {
+    return boardColumnRepository.lockById(columnId)
+        .orElseThrow(() -> new IllegalArgumentException("Column not found with id: " + columnId));
+  }
+
+  // Null when the two neighbours share a key
+  private String choose(BoardColumn column, Long taskId, Long afterTaskId, Long beforeTaskId) {
+    List<Long> ids = new ArrayList<>(3);
+    ids.add(taskId);
+    if (afterTaskId != null) {
+      ids.add(afterTaskId);
+    }
+    if (beforeTaskId != null) {
+      ids.add(beforeTaskId);
+    }
+    Map<Long, TaskRank> ranks = taskRepository.findRanksByIds(ids).stream()
+        .collect(Collectors.toMap(TaskRank::id, Function.identity()));
+
+    TaskRank task = ranks.get(taskId);
+    if (task == null) {
+      throw new IllegalArgumentException("Task not found with id: " + taskId);
+    }
+    if (!task.projectId().equals(column.getProject().getId())) {
+      throw new IllegalArgumentException("Column does not belong to task's project");
+    }
+    String lower = neighbourRank(ranks, afterTaskId, column.getId());
+    String upper = neighbourRank(ranks, beforeTaskId, column.getId());
+
+    if (lower != null && upper != null) {
+      int order = lower.compareTo(upper);
+      if (order > 0) {
+        throw new IllegalArgumentException(
+            "Task " + afterTaskId + " is not above task " + beforeTaskId + " in the column");
+      }
+      return order == 0 ? null : RankKeys.between(lower, upper);
+    }
+    if (lower != null) {
+      return RankKeys.between(lower, taskRepository.findRankAfter(column.getId(), lower, taskId));
+    }
+    if (upper != null) {
+      return RankKeys.between(taskRepository.findRankBefore(column.getId(), upper, taskId), upper);
+    }
+    return RankKeys.between(taskRepository.findLastRank(column.getId(), taskId), null);
+  }
+
+  private static String neighbourRank(Map<Long, TaskRank> ranks, Long neighbourId, Long columnId) {
+    if (neighbourId == null) {
+      return null;
+    }
+    TaskRank neighbour = ranks.get(neighbourId);
+    if (neighbour == null) {
+      throw new IllegalArgumentException("Task not found with id: " + neighbourId);
+    }
+    if (!neighbour.columnId().equals(columnId)) {
+      throw new IllegalArgumentException("Task " + neighbourId + " is not in column " + columnId);
+    }
+    return neighbour.rank();
+  }
+}
@@ -0,0 +1,72 @@
+package com.teamboard.repository;
+
+import com.teamboard.DTO.TaskResponseDTO;
+import com.teamboard.entity.ArchivedTask;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+// Reads of tasks_archive, each the counterpart of a TaskRepository query so callers can fall back
+// to it or merge the two. Rows are written and removed only by TaskArchiver and DeletionPurger
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+  @Query("""
+      select new com.teamboard.DTO.TaskResponseDTO(
+          t.id, t.title, t.description, t.project.id, t.column.id,
+          a.id, a.name, a.avatarInitials, t.priority, t.dueDate,
+          c.id, c.name, t.createdAt, t.updatedAt, t.completedAt, t.version, t.rank, true)
+      from ArchivedTask t
+      left join t.assignedTo a
+      join t.createdBy c
+      where t.id = :id
+      """)
+  Optional<TaskResponseDTO> findResponseById(@Param("id") Long id);
+
+  // Same order and keyset as the hot list, along the archive's (project_id, created_at, id) index
+  @Query("""
+      select new com.teamboard.DTO.TaskResponseDTO(
+          t.id, t.title, t.description, t.project.id, t.column.id,
+          a.id, a.name, a.avatarInitials, t.priority, t.dueDate,
+          c.id, c.name, t.createdAt, t.updatedAt, t.completedAt, t.version, t.rank, true)
+      from ArchivedTask t
+      left join t.assignedTo a
+      join t.createdBy c
+      where t.project.id = :projectId
+      order by t.createdAt desc, t.id desc
+      """)
+  List<TaskResponseDTO> findResponsesByProjectId(@Param("projectId") Long projectId, Limit limit);
+
+  @Query("""
+      select new com.teamboard.DTO.TaskResponseDTO(
+          t.id, t.title, t.description, t.project.id, t.column.id,
+          a.id, a.name, a.avatarInitials, t.priority, t.dueDate,
+          c.id, c.name, t.createdAt, t.updatedAt, t.completedAt, t.version, t.rank, true)
+      from ArchivedTask t
+      left join t.assignedTo a
+      join t.createdBy c
+      where t.project.id = :projectId
+        and (t.createdAt, t.id) < (:createdAt, :id)
+      order by t.createdAt desc, t.id desc
+      """)
+  List<TaskResponseDTO> findResponsesByProjectIdAfter(@Param("projectId") Long projectId,
+      @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+  // The user's access to the workspace that owns the archived task's project
+  @Query("""
+      select new com.teamboard.repository.WorkspaceAccess(
+          w.id, case when w.owner.id = :userId then true else false end, wm.role)
+      from ArchivedTask t
+      join t.project p
+      join p.workspace w
+      left join com.teamboard.entity.WorkspaceMember wm
+          on wm.workspace.id = w.id and wm.user.id = :userId
+      where t.id = :id and p.deletedAt is null and w.deletedAt is null
+      """)
+  Optional<WorkspaceAccess> findAccessById(@Param("id") Long id, @Param("userId") Long userId);
+}
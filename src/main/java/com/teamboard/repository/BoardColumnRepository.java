@@ -1,12 +1,29 @@
 package com.teamboard.repository;
 
+import com.teamboard.cache.CacheRegions;
 import com.teamboard.entity.BoardColumn;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BoardColumnRepository extends JpaRepository<BoardColumn, Long> {
+  // Read on every board load; the query cache keeps the column ids and the columns come from
+  // their own region. Any write to board_columns through Hibernate makes the cached lists stale
+  @QueryHints({
+      @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+      @QueryHint(name = "org.hibernate.cacheRegion", value = CacheRegions.BOARD_COLUMNS_BY_PROJECT)})
   List<BoardColumn> findByProjectIdOrderByPosition(Long projectId);
-}
 
+  // Row lock held while a rank key is chosen from the column's cards and written (TaskRanker)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select c from BoardColumn c where c.id = :id")
+  Optional<BoardColumn> lockById(@Param("id") Long id);
+}
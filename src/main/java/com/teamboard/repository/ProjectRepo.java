@@ -1,13 +1,73 @@
 package com.teamboard.repository;
 
+import com.teamboard.DTO.ProjectResponseDTO;
 import com.teamboard.entity.Project;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProjectRepo extends JpaRepository<Project, Long> {
-  List<Project> findByWorkspaceId(Long workspaceId);
-  Optional<Project> findByWorkspaceIdAndId(Long workspaceId, Long id);
+  // Also finds deleted projects, which may be served from the second-level cache; callers check
+  // Project.isDeleted. Every other read leaves them out
+  @Override
+  @EntityGraph(Project.WITH_CREATOR_GRAPH)
+  Optional<Project> findById(Long id);
+
+  @EntityGraph(Project.WITH_CREATOR_GRAPH)
+  @Query("select p from Project p where p.workspace.id = :workspaceId and p.deletedAt is null")
+  List<Project> findByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+  // One keyset page of the workspace's projects in id order, from the (workspace_id, id) index
+  @Query("""
+      select new com.teamboard.DTO.ProjectResponseDTO(
+          p.id, p.name, p.description, p.workspace.id, c.id, c.name, p.createdAt, p.updatedAt)
+      from Project p
+      join p.createdBy c
+      where p.workspace.id = :workspaceId and p.id > :afterId and p.deletedAt is null
+      order by p.id
+      """)
+  List<ProjectResponseDTO> findResponsesByWorkspaceId(@Param("workspaceId") Long workspaceId,
+      @Param("afterId") long afterId, Limit limit);
+
+  @EntityGraph(Project.WITH_CREATOR_GRAPH)
+  @Query("""
+      select p from Project p
+      where p.workspace.id = :workspaceId and p.id = :id and p.deletedAt is null
+      """)
+  Optional<Project> findByWorkspaceIdAndId(@Param("workspaceId") Long workspaceId,
+      @Param("id") Long id);
+
+  // The user's access to the project's workspace, without loading any entity
+  @Query("""
+      select new com.teamboard.repository.WorkspaceAccess(
+          w.id, case when w.owner.id = :userId then true else false end, wm.role)
+      from Project p
+      join p.workspace w
+      left join com.teamboard.entity.WorkspaceMember wm
+          on wm.workspace.id = w.id and wm.user.id = :userId
+      where p.id = :id and p.deletedAt is null and w.deletedAt is null
+      """)
+  Optional<WorkspaceAccess> findAccessById(@Param("id") Long id, @Param("userId") Long userId);
+
+  // Marks the project deleted for DeletionPurger. A bulk update, so Hibernate drops the cached
+  // projects too and no cached copy outlives the mark
+  @Modifying
+  @Query("update Project p set p.deletedAt = :now where p.id = :id and p.deletedAt is null")
+  int markDeleted(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query("""
+      update Project p set p.deletedAt = :now
+      where p.workspace.id = :workspaceId and p.deletedAt is null
+      """)
+  int markDeletedByWorkspaceId(@Param("workspaceId") Long workspaceId,
+      @Param("now") LocalDateTime now);
 }
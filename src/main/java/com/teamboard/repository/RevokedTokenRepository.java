@@ -0,0 +1,18 @@
+package com.teamboard.repository;
+
+import com.teamboard.entity.RevokedToken;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+  List<RevokedToken> findByExpiresAtGreaterThan(long epochSeconds);
+
+  @Modifying
+  @Query("delete from RevokedToken r where r.expiresAt <= :epochSeconds")
+  int deleteExpired(@Param("epochSeconds") long epochSeconds);
+}
@@ -0,0 +1,12 @@
+package com.teamboard.repository;
+
+/**
+ * Where one task sits on its board, as read when placing a card.
+ *
+ * @param id the task
+ * @param projectId the project the task belongs to
+ * @param columnId the column the task is in
+ * @param rank the task's order key within the column
+ */
+public record TaskRank(Long id, Long projectId, Long columnId, String rank) {
+}
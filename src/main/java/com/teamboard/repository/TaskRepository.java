@@ -1,15 +1,184 @@
 package com.teamboard.repository;
 
+import com.teamboard.DTO.TaskResponseDTO;
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.Priority;
 import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+  // Finders that feed task responses fetch the assignee and creator in the same query
+  @Override
+  @EntityGraph(Task.CARD_GRAPH)
+  Optional<Task> findById(Long id);
+
+  @EntityGraph(Task.CARD_GRAPH)
   List<Task> findByProjectIdOrderByCreatedAtDesc(Long projectId);
-  List<Task> findByColumnIdOrderByCreatedAtDesc(Long columnId);
+
+  // A single task straight into its response; TaskService falls back to the archive without it
+  @Query("""
+      select new com.teamboard.DTO.TaskResponseDTO(
+          t.id, t.title, t.description, t.project.id, t.column.id,
+          a.id, a.name, a.avatarInitials, t.priority, t.dueDate,
+          c.id, c.name, t.createdAt, t.updatedAt, t.completedAt, t.version, t.rank, false)
+      from Task t
+      left join t.assignedTo a
+      join t.createdBy c
+      where t.id = :id
+      """)
+  Optional<TaskResponseDTO> findResponseById(@Param("id") Long id);
+
+  // Read side of the task list, one keyset page at a time: rows go straight into DTOs, so nothing
+  // is managed or dirty-checked. Pages follow (created_at desc, id desc), the order of the
+  // (project_id, created_at, id) index, so each page is one index range however deep it is
+  @Query("""
+      select new com.teamboard.DTO.TaskResponseDTO(
+          t.id, t.title, t.description, t.project.id, t.column.id,
+          a.id, a.name, a.avatarInitials, t.priority, t.dueDate,
+          c.id, c.name, t.createdAt, t.updatedAt, t.completedAt, t.version, t.rank, false)
+      from Task t
+      left join t.assignedTo a
+      join t.createdBy c
+      where t.project.id = :projectId
+      order by t.createdAt desc, t.id desc
+      """)
+  List<TaskResponseDTO> findResponsesByProjectId(@Param("projectId") Long projectId, Limit limit);
+
+  // Next page after the task at (createdAt, id); the row comparison is what the index range uses
+  @Query("""
+      select new com.teamboard.DTO.TaskResponseDTO(
+          t.id, t.title, t.description, t.project.id, t.column.id,
+          a.id, a.name, a.avatarInitials, t.priority, t.dueDate,
+          c.id, c.name, t.createdAt, t.updatedAt, t.completedAt, t.version, t.rank, false)
+      from Task t
+      left join t.assignedTo a
+      join t.createdBy c
+      where t.project.id = :projectId
+        and (t.createdAt, t.id) < (:createdAt, :id)
+      order by t.createdAt desc, t.id desc
+      """)
+  List<TaskResponseDTO> findResponsesByProjectIdAfter(@Param("projectId") Long projectId,
+      @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+  // A column's cards in board order; equal ranks, left by bulk moves, fall back to id order
+  @EntityGraph(Task.CARD_GRAPH)
+  List<Task> findByColumnIdOrderByRankAscIdAsc(Long columnId);
+
+  @EntityGraph(Task.CARD_GRAPH)
   List<Task> findByAssignedToId(Long userId);
+
+  @EntityGraph(Task.CARD_GRAPH)
   List<Task> findByProjectIdAndColumnIdOrderByCreatedAtDesc(Long projectId, Long columnId);
-}
 
+  // The user's access to the workspace that owns the task's project, without loading any entity.
+  // Tasks of a deleted project stay until it is purged, but are not found
+  @Query("""
+      select new com.teamboard.repository.WorkspaceAccess(
+          w.id, case when w.owner.id = :userId then true else false end, wm.role)
+      from Task t
+      join t.project p
+      join p.workspace w
+      left join com.teamboard.entity.WorkspaceMember wm
+          on wm.workspace.id = w.id and wm.user.id = :userId
+      where t.id = :id and p.deletedAt is null and w.deletedAt is null
+      """)
+  Optional<WorkspaceAccess> findAccessById(@Param("id") Long id, @Param("userId") Long userId);
+
+  // Which of these tasks belong to the project; bulk operations act on these ids only
+  @Query("select t.id from Task t where t.id in :ids and t.project.id = :projectId")
+  List<Long> findIdsInProject(@Param("ids") Collection<Long> ids, @Param("projectId") Long projectId);
+
+  // Moves the task to the rank in the column in one statement, only while it is at expectedVersion
+  // (any version when null) and the column belongs to the task's project. Returns 0 when either
+  // does not hold. A task entering DONE is completed now, one leaving it no longer is
+  @Modifying
+  @Query("""
+      update Task t
+      set t.column = :column, t.rank = :rank, t.version = t.version + 1, t.updatedAt = :now,
+          t.completedAt = case when exists (
+              select 1 from BoardColumn c
+              where c = :column and c.name = com.teamboard.entity.ColumnName.DONE)
+            then coalesce(t.completedAt, :now) else null end
+      where t.id = :id
+        and (:expectedVersion is null or t.version = :expectedVersion)
+        and t.project.id = (select c.project.id from BoardColumn c where c = :column)
+      """)
+  int moveToColumn(@Param("id") Long id, @Param("column") BoardColumn column,
+      @Param("rank") String rank, @Param("expectedVersion") Long expectedVersion,
+      @Param("now") LocalDateTime now);
+
+  // Ranking reads, each a single step along the (column_id, rank, id) index. The task being
+  // placed is left out, so moving a card within its own column does not count it as a neighbour
+  @Query("""
+      select new com.teamboard.repository.TaskRank(t.id, t.project.id, t.column.id, t.rank)
+      from Task t
+      where t.id in :ids
+      """)
+  List<TaskRank> findRanksByIds(@Param("ids") Collection<Long> ids);
+
+  @Query("""
+      select min(t.rank) from Task t
+      where t.column.id = :columnId and t.rank > :rank and t.id <> :excludedId
+      """)
+  String findRankAfter(@Param("columnId") Long columnId, @Param("rank") String rank,
+      @Param("excludedId") Long excludedId);
+
+  @Query("""
+      select max(t.rank) from Task t
+      where t.column.id = :columnId and t.rank < :rank and t.id <> :excludedId
+      """)
+  String findRankBefore(@Param("columnId") Long columnId, @Param("rank") String rank,
+      @Param("excludedId") Long excludedId);
+
+  // excludedId may be null when no existing task is being placed
+  @Query("""
+      select max(t.rank) from Task t
+      where t.column.id = :columnId and (:excludedId is null or t.id <> :excludedId)
+      """)
+  String findLastRank(@Param("columnId") Long columnId, @Param("excludedId") Long excludedId);
+
+  @Query("select t.id from Task t where t.column.id = :columnId order by t.rank, t.id")
+  List<Long> findIdsByColumnIdInRankOrder(@Param("columnId") Long columnId);
+
+  // Set-based bulk operations. They bypass the persistence context, so updatedAt and the version
+  // are set here rather than by @UpdateTimestamp and @Version. Moves, which give every task its
+  // own rank, are moveAll in TaskRepositoryCustom
+  @Modifying
+  @Query("""
+      update Task t set t.assignedTo = :assignee, t.version = t.version + 1, t.updatedAt = :now
+      where t.id in :ids
+      """)
+  int assignAll(@Param("ids") Collection<Long> ids, @Param("assignee") User assignee,
+      @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query("""
+      update Task t set t.assignedTo = null, t.version = t.version + 1, t.updatedAt = :now
+      where t.id in :ids
+      """)
+  int unassignAll(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query("""
+      update Task t set t.priority = :priority, t.version = t.version + 1, t.updatedAt = :now
+      where t.id in :ids
+      """)
+  int prioritizeAll(@Param("ids") Collection<Long> ids, @Param("priority") Priority priority,
+      @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query("delete from Task t where t.id in :ids")
+  int deleteAllByIds(@Param("ids") Collection<Long> ids);
+}
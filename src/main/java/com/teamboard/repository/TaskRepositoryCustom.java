@@ -0,0 +1,16 @@
+package com.teamboard.repository;
+
+import com.teamboard.entity.BoardColumn;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Bulk writes whose statement depends on the number of tasks, so they cannot be an @Query
+public interface TaskRepositoryCustom {
+
+  /**
+   * Moves the tasks to the column in one update, giving each the rank at the same position in
+   * ranks. Sets version, updatedAt and completedAt as moveToColumn does.
+   * @return the number of tasks moved
+   */
+  int moveAll(List<Long> ids, List<String> ranks, BoardColumn column, LocalDateTime now);
+}
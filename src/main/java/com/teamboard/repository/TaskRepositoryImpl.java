@@ -0,0 +1,43 @@
+package com.teamboard.repository;
+
+import com.teamboard.entity.BoardColumn;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Spring Data finds this by its name and merges it into TaskRepository
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+  private final EntityManager entityManager;
+
+  TaskRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public int moveAll(List<Long> ids, List<String> ranks, BoardColumn column, LocalDateTime now) {
+    if (ids.size() != ranks.size()) {
+      throw new IllegalArgumentException("Expected one rank per task");
+    }
+    // One "when" per task picks its rank; the statement bypasses the persistence context
+    StringBuilder jpql = new StringBuilder("update Task t set t.column = :column, t.rank = case t.id");
+    for (int i = 0; i < ids.size(); i++) {
+      jpql.append(" when :id").append(i).append(" then :rank").append(i);
+    }
+    jpql.append(" else t.rank end, t.version = t.version + 1, t.updatedAt = :now,")
+        .append(" t.completedAt = case when exists (")
+        .append(" select 1 from BoardColumn c")
+        .append(" where c = :column and c.name = com.teamboard.entity.ColumnName.DONE)")
+        .append(" then coalesce(t.completedAt, :now) else null end")
+        .append(" where t.id in :ids");
+    Query query = entityManager.createQuery(jpql.toString())
+        .setParameter("column", column)
+        .setParameter("now", now)
+        .setParameter("ids", ids);
+    for (int i = 0; i < ids.size(); i++) {
+      query.setParameter("id" + i, ids.get(i)).setParameter("rank" + i, ranks.get(i));
+    }
+    return query.executeUpdate();
+  }
+}
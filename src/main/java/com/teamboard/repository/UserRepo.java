@@ -1,11 +1,39 @@
 package com.teamboard.repository;
 
 import com.teamboard.entity.User;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepo extends JpaRepository<User, Long> {
   Optional<User> findByEmail(String email);
+
+  boolean existsByEmail(String email);
+
+  // Must be consumed inside a transaction and closed
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+  @Query("select u.email from User u")
+  Stream<String> streamAllEmails();
+
+  // Emails of users created or renamed since the given time; updatedAt is set on insert too
+  @Query("select u.email from User u where u.updatedAt > :since")
+  List<String> findEmailsUpdatedAfter(@Param("since") LocalDateTime since);
+
+  // Which of these users exist; checks a batch of imported assignees in one query
+  @Query("select u.id from User u where u.id in :ids")
+  List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+  @Modifying
+  @Query("update User u set u.membershipVersion = u.membershipVersion + 1 where u.id in :ids")
+  int incrementMembershipVersions(@Param("ids") Collection<Long> ids);
 }
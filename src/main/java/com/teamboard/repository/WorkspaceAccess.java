@@ -0,0 +1,13 @@
+package com.teamboard.repository;
+
+import com.teamboard.entity.MemberRole;
+
+/**
+ * What one user holds in one workspace, as read by the access-check queries.
+ *
+ * @param workspaceId the workspace that owns the requested resource
+ * @param owner whether the user owns the workspace
+ * @param role the user's membership role, or null if they are not a member
+ */
+public record WorkspaceAccess(Long workspaceId, boolean owner, MemberRole role) {
+}
@@ -1,17 +1,53 @@
 package com.teamboard.repository;
 
+import com.teamboard.DTO.WorkspaceMemberResponseDTO;
 import com.teamboard.entity.WorkspaceMember;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember, Long> {
+  @EntityGraph(WorkspaceMember.WITH_USER_GRAPH)
   List<WorkspaceMember> findByWorkspaceId(Long workspaceId);
 
-  List<WorkspaceMember> findByUserId(Long userId);
+  // One keyset page of the workspace's members in id order, from the (workspace_id, id) index
+  @Query("""
+      select new com.teamboard.DTO.WorkspaceMemberResponseDTO(
+          wm.id, u.id, u.email, u.name, wm.role, wm.joinedAt, wm.updatedAt)
+      from WorkspaceMember wm
+      join wm.user u
+      where wm.workspace.id = :workspaceId and wm.id > :afterId
+      order by wm.id
+      """)
+  List<WorkspaceMemberResponseDTO> findResponsesByWorkspaceId(
+      @Param("workspaceId") Long workspaceId, @Param("afterId") long afterId, Limit limit);
+
+  // The user's memberships in workspaces that are not deleted
+  @Query("""
+      select wm from WorkspaceMember wm
+      join wm.workspace w
+      where wm.user.id = :userId and w.deletedAt is null
+      """)
+  List<WorkspaceMember> findByUserId(@Param("userId") Long userId);
 
   Optional<WorkspaceMember> findByUserIdAndWorkspaceId(Long userId, Long workspaceId);
+
+  @Query("select wm.user.id from WorkspaceMember wm where wm.workspace.id = :workspaceId")
+  List<Long> findUserIdsByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+  // Each row is {workspaceId, role}; used to build token claims without loading entities. Members
+  // of a deleted workspace stay until it is purged, but no longer get a claim for it
+  @Query("""
+      select w.id, wm.role from WorkspaceMember wm
+      join wm.workspace w
+      where wm.user.id = :userId and w.deletedAt is null
+      """)
+  List<Object[]> findWorkspaceRolesByUserId(@Param("userId") Long userId);
 }
 
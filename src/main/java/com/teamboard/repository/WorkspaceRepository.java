@@ -1,27 +1,111 @@
 package com.teamboard.repository;
 
+import com.teamboard.DTO.WorkspaceResponseDTO;
 import com.teamboard.entity.Workspace;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 @Repository
 public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
-  List<Workspace> findByOwnerId(Long ownerId);
+  // Also finds deleted workspaces, which may be served from the second-level cache; callers check
+  // Workspace.isDeleted. Every other read leaves them out
+  @Override
+  @EntityGraph(Workspace.WITH_OWNER_GRAPH)
+  Optional<Workspace> findById(Long id);
 
-  Optional<Workspace> findByOwnerIdAndName(Long ownerId, String name);
+  @Override
+  @Query("select w from Workspace w where w.deletedAt is null")
+  List<Workspace> findAll();
 
-  List<Workspace> findByNameContainingIgnoreCase(String name);
+  @EntityGraph(Workspace.WITH_OWNER_GRAPH)
+  @Query("select w from Workspace w where w.owner.id = :ownerId and w.deletedAt is null")
+  List<Workspace> findByOwnerId(@Param("ownerId") Long ownerId);
 
-  // Returns workspaces the user owns or is a member of (DISTINCT to avoid duplicates)
+  // One keyset page of the owner's workspaces in id order, from the (owner_id, id) index
   @Query("""
-      select distinct w
+      select new com.teamboard.DTO.WorkspaceResponseDTO(
+          w.id, w.name, w.description, o.id, o.name, o.email, w.createdAt, w.updatedAt)
       from Workspace w
-      left join com.teamboard.entity.WorkspaceMember wm on wm.workspace.id = w.id
-      where w.owner.id = :userId or wm.user.id = :userId
+      join w.owner o
+      where o.id = :ownerId and w.id > :afterId and w.deletedAt is null
+      order by w.id
+      """)
+  List<WorkspaceResponseDTO> findResponsesByOwnerId(@Param("ownerId") Long ownerId,
+      @Param("afterId") long afterId, Limit limit);
+
+  @Query("select w.id from Workspace w where w.owner.id = :ownerId and w.deletedAt is null")
+  List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId);
+
+  // Ownership and membership in one round trip: the workspace by primary key, the member row by
+  // the (workspace_id, user_id) unique index
+  @Query("""
+      select new com.teamboard.repository.WorkspaceAccess(
+          w.id, case when w.owner.id = :userId then true else false end, wm.role)
+      from Workspace w
+      left join com.teamboard.entity.WorkspaceMember wm
+          on wm.workspace.id = w.id and wm.user.id = :userId
+      where w.id = :id and w.deletedAt is null
+      """)
+  Optional<WorkspaceAccess> findAccessById(@Param("id") Long id, @Param("userId") Long userId);
+
+  // Only live workspaces hold their name (the partial uk_workspaces_owner_name index)
+  @Query("""
+      select w from Workspace w
+      where w.owner.id = :ownerId and w.name = :name and w.deletedAt is null
+      """)
+  Optional<Workspace> findByOwnerIdAndName(@Param("ownerId") Long ownerId,
+      @Param("name") String name);
+
+  @EntityGraph(Workspace.WITH_OWNER_GRAPH)
+  @Query("""
+      select w from Workspace w
+      where upper(w.name) like upper(concat('%', :name, '%')) and w.deletedAt is null
+      """)
+  List<Workspace> findByNameContainingIgnoreCase(@Param("name") String name);
+
+  // Returns workspaces the user owns or is a member of. The ids come from the (user_id,
+  // workspace_id) and (owner_id, id) indexes and the workspaces by primary key; IN drops the
+  // duplicate when the owner is also a member
+  @EntityGraph(Workspace.WITH_OWNER_GRAPH)
+  @Query("""
+      select w
+      from Workspace w
+      where w.id in (
+          select wm.workspace.id from WorkspaceMember wm where wm.user.id = :userId
+          union all
+          select ow.id from Workspace ow where ow.owner.id = :userId)
+        and w.deletedAt is null
       """)
   List<Workspace> findAllAccessibleByUser(@Param("userId") Long userId);
+
+  // One keyset page of the workspaces the user owns or is a member of, in id order, with the ids
+  // read as in findAllAccessibleByUser. Only the user's own workspaces are sorted
+  @Query("""
+      select new com.teamboard.DTO.WorkspaceResponseDTO(
+          w.id, w.name, w.description, o.id, o.name, o.email, w.createdAt, w.updatedAt)
+      from Workspace w
+      join w.owner o
+      where w.id in (
+          select wm.workspace.id from WorkspaceMember wm where wm.user.id = :userId
+          union all
+          select ow.id from Workspace ow where ow.owner.id = :userId)
+        and w.id > :afterId and w.deletedAt is null
+      order by w.id
+      """)
+  List<WorkspaceResponseDTO> findResponsesAccessibleByUser(@Param("userId") Long userId,
+      @Param("afterId") long afterId, Limit limit);
+
+  // Marks the workspace deleted for DeletionPurger. A bulk update, so Hibernate drops the cached
+  // workspaces too and no cached copy outlives the mark
+  @Modifying
+  @Query("update Workspace w set w.deletedAt = :now where w.id = :id and w.deletedAt is null")
+  int markDeleted(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,65 @@
+package com.teamboard.security;
+
+import com.teamboard.entity.MemberRole;
+import com.teamboard.entity.User;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceMemberRepository;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.security.jwt.JwtClaimNames;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the user id, membership version and workspace role claims embedded in access tokens when
+ * {@code jwt.embed-claims} is enabled.
+ */
+@Component
+public class AccessTokenClaims {
+
+  private final UserRepo userRepo;
+  private final WorkspaceMemberRepository workspaceMemberRepository;
+  private final WorkspaceRepository workspaceRepository;
+  private final int maxWorkspaces;
+
+  public AccessTokenClaims(
+      UserRepo userRepo,
+      WorkspaceMemberRepository workspaceMemberRepository,
+      WorkspaceRepository workspaceRepository,
+      @Value("${jwt.embed-claims.max-workspaces:200}") int maxWorkspaces) {
+    this.userRepo = userRepo;
+    this.workspaceMemberRepository = workspaceMemberRepository;
+    this.workspaceRepository = workspaceRepository;
+    this.maxWorkspaces = maxWorkspaces;
+  }
+
+  /**
+   * @return claims for the user's access token, or an empty map if the user does not exist
+   */
+  public Map<String, Object> forUser(String email) {
+    // Read the version before the memberships: a change in between leaves the token with an older
+    // version, which is then treated as stale instead of trusting roles that were already outdated
+    User user = userRepo.findByEmail(email).orElse(null);
+    if (user == null) {
+      return Map.of();
+    }
+    Map<String, Object> claims = new HashMap<>();
+    claims.put(JwtClaimNames.USER_ID, user.getId());
+    claims.put(JwtClaimNames.MEMBERSHIP_VERSION, user.getMembershipVersion());
+
+    Map<Long, Character> roles = new HashMap<>();
+    for (Object[] row : workspaceMemberRepository.findWorkspaceRolesByUserId(user.getId())) {
+      roles.put((Long) row[0], WorkspaceRoles.code((MemberRole) row[1]));
+    }
+    List<Long> owned = workspaceRepository.findIdsByOwnerId(user.getId());
+    owned.forEach(workspaceId -> roles.put(workspaceId, WorkspaceRoles.OWNER));
+
+    // Users in very many workspaces get no ws claim and are always checked against the database
+    if (roles.size() <= maxWorkspaces) {
+      claims.put(JwtClaimNames.WORKSPACES, WorkspaceRoles.encode(roles));
+    }
+    return claims;
+  }
+}
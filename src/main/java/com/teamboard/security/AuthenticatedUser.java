@@ -0,0 +1,51 @@
+package com.teamboard.security;
+
+import com.teamboard.entity.User;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Principal stored in the SecurityContext once JwtAuthFilter has verified a token.
+ * Carries the User row loaded for the token subject so controllers do not have to
+ * parse the token or query the users table again.
+ *
+ * Deliberately not a CredentialsContainer: instances are shared through PrincipalCache,
+ * so the password hash must survive the credential erasure done after login.
+ */
+public class AuthenticatedUser implements UserDetails {
+
+  private static final List<GrantedAuthority> DEFAULT_AUTHORITIES =
+      List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+  private final User user;
+
+  public AuthenticatedUser(User user) {
+    this.user = user;
+  }
+
+  public User getUser() {
+    return user;
+  }
+
+  public Long getId() {
+    return user.getId();
+  }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return DEFAULT_AUTHORITIES;
+  }
+
+  @Override
+  public String getPassword() {
+    return user.getPasswordHash();
+  }
+
+  @Override
+  public String getUsername() {
+    return user.getEmail();
+  }
+}
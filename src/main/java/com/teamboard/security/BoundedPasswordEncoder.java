@@ -0,0 +1,141 @@
+package com.teamboard.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs BCrypt on a small fixed pool instead of the calling request thread, so a burst of logins or
+ * registrations can use at most {@code threads} cores and leaves the rest to other endpoints.
+ *
+ * <p>At most {@code queueCapacity} hashes wait for a worker. Beyond that, or when a queued hash is
+ * not finished within {@code maxWait}, the call fails fast with
+ * {@link PasswordHashingUnavailableException} and the controller answers 503 with Retry-After.
+ *
+ * <p>{@link #upgradeEncoding} reports any hash whose cost differs from the configured strength, so
+ * DaoAuthenticationProvider rehashes the password on the next successful login after the strength
+ * is raised or lowered.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+  private final PasswordEncoder delegate;
+  private final int strength;
+  private final long maxWaitMillis;
+  private final long retryAfterSeconds;
+  private final ThreadPoolExecutor executor;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter rejected;
+
+  /**
+   * @param delegate the BCrypt encoder doing the actual work
+   * @param strength cost factor the delegate encodes with
+   * @param threads number of hashing threads
+   * @param queueCapacity hashes allowed to wait for a thread; 0 rejects as soon as all are busy
+   * @param maxWait longest a caller waits for its hash, queueing included
+   * @param retryAfter suggested client back-off when a hash is rejected
+   */
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int strength, int threads,
+      int queueCapacity, Duration maxWait, Duration retryAfter, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.strength = strength;
+    this.maxWaitMillis = maxWait.toMillis();
+    this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+    BlockingQueue<Runnable> queue = queueCapacity > 0
+        ? new ArrayBlockingQueue<>(queueCapacity)
+        : new SynchronousQueue<>();
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue,
+        runnable -> {
+          Thread thread = new Thread(runnable, "bcrypt-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+
+    this.encodeTimer = Timer.builder("security.password.hash").tag("operation", "encode")
+        .register(registry);
+    this.matchesTimer = Timer.builder("security.password.hash").tag("operation", "matches")
+        .register(registry);
+    this.rejected = Counter.builder("security.password.hash.rejected").register(registry);
+    registry.gauge("security.password.hash.queue", executor, e -> e.getQueue().size());
+    registry.gauge("security.password.hash.active", executor, ThreadPoolExecutor::getActiveCount);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return run(() -> delegate.encode(rawPassword), encodeTimer);
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return run(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    int cost = cost(encodedPassword);
+    return cost > 0 && cost != strength;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * @return the cost factor of a BCrypt hash such as {@code $2a$10$...}, or -1 if it is not one
+   */
+  static int cost(String encodedPassword) {
+    if (encodedPassword == null || encodedPassword.length() < 7
+        || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$'
+        || encodedPassword.charAt(6) != '$') {
+      return -1;
+    }
+    char tens = encodedPassword.charAt(4);
+    char units = encodedPassword.charAt(5);
+    if (tens < '0' || tens > '9' || units < '0' || units > '9') {
+      return -1;
+    }
+    return (tens - '0') * 10 + (units - '0');
+  }
+
+  private <T> T run(Callable<T> task, Timer timer) {
+    Future<T> future;
+    try {
+      future = executor.submit(() -> timer.recordCallable(task));
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new PasswordHashingUnavailableException(retryAfterSeconds);
+    }
+    try {
+      return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejected.increment();
+      throw new PasswordHashingUnavailableException(retryAfterSeconds);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new PasswordHashingUnavailableException(retryAfterSeconds);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.teamboard.security;
+
+/**
+ * Thrown when the password hashing pool is saturated; callers should answer 503 with Retry-After.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+  private final long retryAfterSeconds;
+
+  public PasswordHashingUnavailableException(long retryAfterSeconds) {
+    super("Password hashing is temporarily overloaded");
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
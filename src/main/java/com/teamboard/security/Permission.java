@@ -0,0 +1,47 @@
+package com.teamboard.security;
+
+/**
+ * Actions a user can be granted within a workspace. A user's grants for one workspace are held as
+ * a bitmask of {@link #mask()} values, compiled from their role by {@link #grantedTo(char)}.
+ */
+public enum Permission {
+  /** See the workspace, its members, projects, columns and tasks. */
+  READ_BOARD,
+  /** Create, edit, move and delete tasks. */
+  WRITE_TASK,
+  /** Create projects, and edit or delete the ones the user created. */
+  WRITE_PROJECT,
+  /** Add and remove members. */
+  MANAGE_MEMBERS,
+  /** Rename or delete the workspace itself. */
+  MANAGE_WORKSPACE;
+
+  public static final int NONE = 0;
+
+  private static final int VIEWER = READ_BOARD.mask();
+  private static final int MEMBER = VIEWER | WRITE_TASK.mask() | WRITE_PROJECT.mask();
+  private static final int ADMIN = MEMBER | MANAGE_MEMBERS.mask();
+  private static final int OWNER = ADMIN | MANAGE_WORKSPACE.mask();
+
+  public int mask() {
+    return 1 << ordinal();
+  }
+
+  public boolean isGrantedBy(int permissions) {
+    return (permissions & mask()) != 0;
+  }
+
+  /**
+   * @param roleCode a {@link WorkspaceRoles} code: O (owner), A, M, V, or NONE
+   * @return the permissions that role holds in its workspace
+   */
+  public static int grantedTo(char roleCode) {
+    return switch (roleCode) {
+      case WorkspaceRoles.OWNER -> OWNER;
+      case 'A' -> ADMIN;
+      case 'M' -> MEMBER;
+      case 'V' -> VIEWER;
+      default -> NONE;
+    };
+  }
+}
@@ -0,0 +1,111 @@
+package com.teamboard.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Permission bitmasks per (user id, workspace id), looked up without boxing either id.
+ *
+ * <p>A fixed power-of-two table where each pair hashes to one slot and a newer pair simply
+ * replaces an older one, so memory is bounded and reads and writes take no lock. Entries carry the
+ * user's membership version, which every membership change bumps, so an entry for an older version
+ * is a miss even before the explicit invalidation arrives; the TTL bounds how long another
+ * instance's changes can go unseen.
+ */
+@Component
+public class PermissionCache {
+
+  public static final int MISS = -1;
+
+  private record Entry(long userId, long workspaceId, long membershipVersion, int permissions,
+      long expiresAtNanos) {
+  }
+
+  private final AtomicReferenceArray<Entry> slots;
+  private final int indexMask;
+  private final long ttlNanos;
+
+  // Bumped on every invalidation so a lookup that raced with a change does not store a stale mask
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public PermissionCache(
+      @Value("${security.permission-cache.size:65536}") int size,
+      @Value("${security.permission-cache.ttl:PT1M}") Duration ttl) {
+    int capacity = Integer.highestOneBit(Math.max(16, Math.min(size, 1 << 30)) - 1) << 1;
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.indexMask = capacity - 1;
+    this.ttlNanos = ttl.toNanos();
+  }
+
+  /**
+   * @return the cached permissions, or {@link #MISS}
+   */
+  public int get(long userId, long workspaceId, long membershipVersion) {
+    Entry entry = slots.get(index(userId, workspaceId));
+    if (entry == null || entry.userId() != userId || entry.workspaceId() != workspaceId
+        || entry.membershipVersion() != membershipVersion
+        || entry.expiresAtNanos() - System.nanoTime() <= 0) {
+      return MISS;
+    }
+    return entry.permissions();
+  }
+
+  /**
+   * Value to pass to {@link #put}; read it before loading the permissions.
+   */
+  public long stamp() {
+    return invalidations.get();
+  }
+
+  /**
+   * Caches permissions loaded after {@code stamp} was taken, unless an invalidation ran since.
+   */
+  public void put(long userId, long workspaceId, long membershipVersion, int permissions,
+      long stamp) {
+    if (invalidations.get() != stamp) {
+      return;
+    }
+    int index = index(userId, workspaceId);
+    Entry entry = new Entry(userId, workspaceId, membershipVersion, permissions,
+        System.nanoTime() + ttlNanos);
+    slots.set(index, entry);
+    // An invalidation between the check and the write may have missed this entry
+    if (invalidations.get() != stamp) {
+      slots.compareAndSet(index, entry, null);
+    }
+  }
+
+  public void invalidate(long userId, long workspaceId) {
+    invalidations.incrementAndGet();
+    int index = index(userId, workspaceId);
+    Entry entry = slots.get(index);
+    if (entry != null && entry.userId() == userId && entry.workspaceId() == workspaceId) {
+      slots.compareAndSet(index, entry, null);
+    }
+  }
+
+  /**
+   * Drops every entry for the workspace. Scans the whole table, so meant for rare events such as
+   * deleting the workspace.
+   */
+  public void invalidateWorkspace(long workspaceId) {
+    invalidations.incrementAndGet();
+    for (int i = 0; i < slots.length(); i++) {
+      Entry entry = slots.get(i);
+      if (entry != null && entry.workspaceId() == workspaceId) {
+        slots.compareAndSet(i, entry, null);
+      }
+    }
+  }
+
+  private int index(long userId, long workspaceId) {
+    long h = userId * 0x9e3779b97f4a7c15L ^ workspaceId;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    return (int) h & indexMask;
+  }
+}
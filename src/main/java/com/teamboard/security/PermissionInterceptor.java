@@ -0,0 +1,116 @@
+package com.teamboard.security;
+
+import com.teamboard.entity.User;
+import com.teamboard.security.WorkspaceAccessChecker.Grant;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Enforces {@link RequiresPermission} before the handler runs. The workspace comes from the most
+ * specific path variable present: {@code taskId}, then {@code projectId}, then
+ * {@code workspaceId}. When a route names both a workspace and a project, the project must belong
+ * to that workspace. Resolving the workspace and the user's role there takes at most one query.
+ */
+@Component
+public class PermissionInterceptor implements HandlerInterceptor {
+
+  private final WorkspaceAccessChecker workspaceAccessChecker;
+
+  public PermissionInterceptor(WorkspaceAccessChecker workspaceAccessChecker) {
+    this.workspaceAccessChecker = workspaceAccessChecker;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) throws IOException {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+    RequiresPermission required = handlerMethod.getMethodAnnotation(RequiresPermission.class);
+    User user = currentUser();
+    if (required == null || user == null) {
+      // Unauthenticated requests are turned away by the security chain before they get here
+      return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<String, String> variables = (Map<String, String>)
+        request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    if (variables == null) {
+      variables = Map.of();
+    }
+
+    int permissions;
+    String taskId = variables.get("taskId");
+    String projectId = variables.get("projectId");
+    String pathWorkspaceId = variables.get("workspaceId");
+    try {
+      if (taskId != null) {
+        Grant grant = workspaceAccessChecker.forTask(user, Long.parseLong(taskId));
+        if (grant == null) {
+          return reject(response, HttpStatus.NOT_FOUND, "Task not found");
+        }
+        permissions = grant.permissions();
+      } else if (projectId != null) {
+        Grant grant = workspaceAccessChecker.forProject(user, Long.parseLong(projectId));
+        if (grant == null) {
+          return reject(response, HttpStatus.NOT_FOUND, "Project not found");
+        }
+        if (pathWorkspaceId != null && grant.workspaceId() != Long.parseLong(pathWorkspaceId)) {
+          return reject(response, HttpStatus.NOT_FOUND, "Project not found in workspace");
+        }
+        permissions = grant.permissions();
+      } else if (pathWorkspaceId != null) {
+        permissions = workspaceAccessChecker.permissions(user, Long.parseLong(pathWorkspaceId));
+      } else {
+        throw new IllegalStateException(
+            "@RequiresPermission on a route without a workspace, project or task id: " + handlerMethod);
+      }
+    } catch (NumberFormatException e) {
+      return reject(response, HttpStatus.BAD_REQUEST, "Invalid id");
+    }
+
+    if (!required.value().isGrantedBy(permissions)) {
+      return reject(response, HttpStatus.FORBIDDEN, "You don't have permission to "
+          + describe(required.value()) + " in this workspace");
+    }
+    return true;
+  }
+
+  private static boolean reject(HttpServletResponse response, HttpStatus status, String message)
+      throws IOException {
+    response.setStatus(status.value());
+    response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    response.getWriter().write(message);
+    return false;
+  }
+
+  private static String describe(Permission permission) {
+    return switch (permission) {
+      case READ_BOARD -> "view this board";
+      case WRITE_TASK -> "change tasks";
+      case WRITE_PROJECT -> "change projects";
+      case MANAGE_MEMBERS -> "manage members";
+      case MANAGE_WORKSPACE -> "manage the workspace";
+    };
+  }
+
+  private static User currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+      return principal.getUser();
+    }
+    return null;
+  }
+}
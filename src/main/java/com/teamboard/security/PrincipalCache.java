@@ -0,0 +1,122 @@
+package com.teamboard.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.teamboard.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by email and by user id.
+ * Sits in front of the users table for CustomUserDetailsService and UserService lookups,
+ * which run on every authenticated request.
+ *
+ * Entries are detached User snapshots and must be treated as read-only. UserImp invalidates
+ * an entry whenever the underlying row changes.
+ */
+@Component
+public class PrincipalCache {
+
+  private final Cache<String, AuthenticatedUser> byEmail;
+  private final Cache<Long, AuthenticatedUser> byId;
+
+  // Bumped on every invalidation so a lookup that raced with an update does not re-cache a stale row
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public PrincipalCache(
+      @Value("${security.principal-cache.max-size:10000}") long maxSize,
+      @Value("${security.principal-cache.ttl:PT5M}") Duration ttl,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.byEmail = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    this.byId = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    meterRegistry.ifAvailable(registry -> {
+      CaffeineCacheMetrics.monitor(registry, byEmail, "principals", "key", "email");
+      CaffeineCacheMetrics.monitor(registry, byId, "principals", "key", "id");
+    });
+  }
+
+  /**
+   * Returns the cached principal for an email, loading and caching it on a miss.
+   * @param email the user's email (token subject)
+   * @param loader database lookup used on a miss; may return null
+   * @return the principal, or null if the loader found no user
+   */
+  public AuthenticatedUser getByEmail(String email, Function<String, User> loader) {
+    AuthenticatedUser cached = byEmail.getIfPresent(email);
+    if (cached != null) {
+      return cached;
+    }
+    long epoch = invalidations.get();
+    return cache(loader.apply(email), epoch);
+  }
+
+  /**
+   * Returns the cached principal for a user id, loading and caching it on a miss.
+   * @param userId the user id
+   * @param loader database lookup used on a miss; may return null
+   * @return the principal, or null if the loader found no user
+   */
+  public AuthenticatedUser getById(Long userId, Function<Long, User> loader) {
+    AuthenticatedUser cached = byId.getIfPresent(userId);
+    if (cached != null) {
+      return cached;
+    }
+    long epoch = invalidations.get();
+    return cache(loader.apply(userId), epoch);
+  }
+
+  /**
+   * Drops every entry for the given user. Call after the users row was changed or deleted.
+   * @param userId the user id; entries cached under any email for that id are evicted too
+   */
+  public void invalidate(Long userId) {
+    invalidations.incrementAndGet();
+    byId.invalidate(userId);
+    evictEmailEntriesFor(userId);
+  }
+
+  public void invalidateAll() {
+    invalidations.incrementAndGet();
+    byId.invalidateAll();
+    byEmail.invalidateAll();
+  }
+
+  public CacheStats emailStats() {
+    return byEmail.stats();
+  }
+
+  public CacheStats idStats() {
+    return byId.stats();
+  }
+
+  private AuthenticatedUser cache(User user, long epoch) {
+    if (user == null) {
+      return null;
+    }
+    AuthenticatedUser principal = new AuthenticatedUser(user);
+    if (invalidations.get() == epoch) {
+      byEmail.put(user.getEmail(), principal);
+      byId.put(user.getId(), principal);
+    }
+    return principal;
+  }
+
+  private void evictEmailEntriesFor(Long userId) {
+    byEmail.asMap().values().removeIf(principal -> userId.equals(principal.getId()));
+  }
+}
@@ -0,0 +1,110 @@
+package com.teamboard.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per caller and request category, each allowing {@code limit} requests per
+ * {@code period} with bursts up to {@code limit}.
+ *
+ * <p>A bucket is a single {@link AtomicLong} holding the time at which it will be full again
+ * (the GCRA form of a token bucket), so taking a token is one compare-and-set and needs no lock.
+ * Buckets live in a bounded Caffeine cache, whose striped buffers keep concurrent callers apart.
+ * A bucket untouched for a whole period is full and identical to a new one, so it expires after
+ * {@code period} of idleness without changing any decision; memory tracks active callers only.
+ * If more than {@code maxCallers} callers are active at once the least recent ones are dropped,
+ * which at worst hands them a fresh bucket.
+ */
+public class RateLimiter {
+
+  public enum Category { READ, WRITE, AUTH }
+
+  /**
+   * @param limit requests allowed per period, which is also the burst size
+   * @param period time for an empty bucket to refill completely
+   */
+  public record Budget(long limit, Duration period) {
+  }
+
+  /**
+   * @param remaining tokens left after this request
+   * @param resetSeconds seconds until the bucket is full again
+   * @param retryAfterSeconds seconds until the next request is allowed; 0 when allowed
+   */
+  public record Decision(boolean allowed, long limit, long remaining, long resetSeconds,
+      long retryAfterSeconds) {
+  }
+
+  private final Map<Category, Limiter> limiters = new EnumMap<>(Category.class);
+  private final LongSupplier nanoClock;
+
+  public RateLimiter(Map<Category, Budget> budgets, long maxCallers, MeterRegistry registry) {
+    this(budgets, maxCallers, registry, System::nanoTime);
+  }
+
+  public RateLimiter(Map<Category, Budget> budgets, long maxCallers, MeterRegistry registry,
+      LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+    for (Category category : Category.values()) {
+      Budget budget = budgets.get(category);
+      if (budget == null || budget.limit() <= 0) {
+        throw new IllegalArgumentException("Missing rate limit budget for " + category);
+      }
+      long periodNanos = budget.period().toNanos();
+      Cache<Object, AtomicLong> buckets = Caffeine.newBuilder()
+          .maximumSize(maxCallers)
+          .expireAfterAccess(periodNanos, TimeUnit.NANOSECONDS)
+          .ticker(nanoClock::getAsLong)
+          .build();
+      String tag = category.name().toLowerCase();
+      Counter rejected = Counter.builder("security.rate-limit.rejected").tag("category", tag)
+          .register(registry);
+      registry.gauge("security.rate-limit.callers", Tags.of("category", tag), buckets,
+          Cache::estimatedSize);
+      limiters.put(category, new Limiter(budget.limit(), periodNanos / budget.limit(), periodNanos,
+          buckets, rejected));
+    }
+  }
+
+  /**
+   * Takes one token from the caller's bucket for the category.
+   * @param caller stable caller identity, e.g. a user id or a client address
+   */
+  public Decision tryAcquire(Category category, Object caller) {
+    Limiter limiter = limiters.get(category);
+    long now = nanoClock.getAsLong();
+    AtomicLong fullAt = limiter.buckets().get(caller, key -> new AtomicLong(now));
+    while (true) {
+      long current = fullAt.get();
+      long next = Math.max(current, now) + limiter.intervalNanos();
+      long debt = next - now;
+      if (debt > limiter.periodNanos()) {
+        limiter.rejected().increment();
+        long remainingDebt = Math.max(current, now) - now;
+        return new Decision(false, limiter.limit(), 0, seconds(remainingDebt),
+            Math.max(1, seconds(debt - limiter.periodNanos())));
+      }
+      if (fullAt.compareAndSet(current, next)) {
+        long remaining = (limiter.periodNanos() - debt) / limiter.intervalNanos();
+        return new Decision(true, limiter.limit(), remaining, seconds(debt), 0);
+      }
+    }
+  }
+
+  private static long seconds(long nanos) {
+    return (nanos + 999_999_999L) / 1_000_000_000L;
+  }
+
+  private record Limiter(long limit, long intervalNanos, long periodNanos,
+      Cache<Object, AtomicLong> buckets, Counter rejected) {
+  }
+}
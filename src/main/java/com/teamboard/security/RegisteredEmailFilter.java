@@ -0,0 +1,163 @@
+package com.teamboard.security;
+
+import com.teamboard.repository.UserRepo;
+import com.teamboard.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bloom filter over the emails in the users table, so logins and registrations for an email that
+ * was never registered are answered without a query.
+ *
+ * <p>The filter is built at startup by streaming the emails and rebuilt on an interval, which drops
+ * deleted and renamed accounts. Emails registered or renamed here are added immediately, including
+ * while a rebuild is streaming; those registered or renamed on other instances are added by a
+ * catch-up every {@code catch-up-interval}, which reads the users updated since the previous one
+ * from the primary. A negative answer must hold on every instance, so the catch-up reaches back
+ * {@code catch-up-overlap} further, for transactions that committed after their timestamp was set
+ * and for clock skew between instances.
+ */
+@Component
+public class RegisteredEmailFilter {
+
+  private final UserRepo userRepo;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+  private final Duration catchUpOverlap;
+  private final Counter rejections;
+
+  // Serialises add() against the swap at the end of a rebuild; readers only touch the volatile
+  private final Object lock = new Object();
+  private volatile BloomFilter filter;
+  // Emails added while a rebuild is streaming, copied into the new filter before it is published
+  private Set<String> pending;
+  // When the last rebuild or catch-up started; users updated after it may be missing
+  private volatile LocalDateTime caughtUpTo;
+
+  public RegisteredEmailFilter(
+      UserRepo userRepo,
+      TransactionTemplate transactionTemplate,
+      @Value("${security.email-filter.enabled:true}") boolean enabled,
+      @Value("${security.email-filter.expected-insertions:100000}") long expectedInsertions,
+      @Value("${security.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+      @Value("${security.email-filter.catch-up-overlap:PT1M}") Duration catchUpOverlap,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.userRepo = userRepo;
+    this.transactionTemplate = transactionTemplate;
+    this.enabled = enabled;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.catchUpOverlap = catchUpOverlap;
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    this.rejections = registry != null
+        ? Counter.builder("security.email-filter.rejections").register(registry)
+        : null;
+  }
+
+  @PostConstruct
+  public void init() {
+    if (enabled) {
+      rebuild();
+    }
+  }
+
+  /**
+   * False only if no user has this email; true means a lookup is needed to be sure.
+   */
+  public boolean mightExist(String email) {
+    BloomFilter current = filter;
+    if (current == null || email == null || current.mightContain(email)) {
+      return true;
+    }
+    if (rejections != null) {
+      rejections.increment();
+    }
+    return false;
+  }
+
+  /**
+   * Records an email that now belongs to a user. Call after the row is saved.
+   */
+  public void add(String email) {
+    if (email == null) {
+      return;
+    }
+    synchronized (lock) {
+      if (filter != null) {
+        filter.put(email);
+      }
+      if (pending != null) {
+        pending.add(email);
+      }
+    }
+  }
+
+  /**
+   * Rebuilds the filter from the users table, sized for the current row count.
+   */
+  @Scheduled(fixedDelayString = "${security.email-filter.refresh-interval:PT5M}",
+      initialDelayString = "${security.email-filter.refresh-interval:PT5M}")
+  public void refresh() {
+    if (enabled) {
+      rebuild();
+    }
+  }
+
+  /**
+   * Adds the emails of users created or renamed since the last rebuild or catch-up.
+   */
+  @Scheduled(fixedDelayString = "${security.email-filter.catch-up-interval:PT5S}",
+      initialDelayString = "${security.email-filter.catch-up-interval:PT5S}")
+  public synchronized void catchUp() {
+    LocalDateTime since = caughtUpTo;
+    if (!enabled || since == null) {
+      return;
+    }
+    LocalDateTime start = LocalDateTime.now();
+    // Read-write, so it is answered by the primary rather than a lagging replica
+    List<String> emails = transactionTemplate.execute(
+        status -> userRepo.findEmailsUpdatedAfter(since.minus(catchUpOverlap)));
+    emails.forEach(this::add);
+    caughtUpTo = start;
+  }
+
+  private synchronized void rebuild() {
+    synchronized (lock) {
+      pending = ConcurrentHashMap.newKeySet();
+    }
+    LocalDateTime start = LocalDateTime.now();
+    try {
+      long count = userRepo.count();
+      BloomFilter next = new BloomFilter(Math.max(expectedInsertions, count * 2), falsePositiveRate);
+      transactionTemplate.execute(status -> {
+        try (Stream<String> emails = userRepo.streamAllEmails()) {
+          emails.forEach(next::put);
+        }
+        return null;
+      });
+      synchronized (lock) {
+        pending.forEach(next::put);
+        filter = next;
+      }
+      caughtUpTo = start;
+    } finally {
+      synchronized (lock) {
+        pending = null;
+      }
+    }
+  }
+}
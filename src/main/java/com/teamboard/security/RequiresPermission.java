@@ -0,0 +1,17 @@
+package com.teamboard.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the workspace permission a handler needs. {@link PermissionInterceptor} finds the
+ * workspace from the {@code taskId}, {@code projectId} or {@code workspaceId} path variable and
+ * answers 403 (or 404 for a missing project or task) before the handler runs.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresPermission {
+  Permission value();
+}
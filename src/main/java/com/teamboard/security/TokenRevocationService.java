@@ -0,0 +1,195 @@
+package com.teamboard.security;
+
+import com.teamboard.entity.RevokedToken;
+import com.teamboard.entity.TokenCutoff;
+import com.teamboard.repository.RevokedTokenRepository;
+import com.teamboard.repository.TokenCutoffRepository;
+import com.teamboard.security.jwt.VerifiedToken;
+import com.teamboard.util.BloomFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deny-list for issued tokens, checked on every authenticated request.
+ *
+ * <p>Two kinds of revocation are supported: a single token by its {@code jti} (logout), and every
+ * token of a subject issued before a cutoff (logout everywhere, password change). Both are
+ * persisted so they survive restarts and reach other instances on the next refresh, and are held
+ * in memory behind a Bloom filter, so a token that was never revoked is cleared with a few bit
+ * probes and no map lookup. Entries are pruned once the tokens they apply to have expired.
+ */
+@Component
+public class TokenRevocationService {
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final TokenCutoffRepository tokenCutoffRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final long maxTokenLifetimeSeconds;
+  private final long bloomExpectedInsertions;
+  private final double bloomFalsePositiveRate;
+
+  // Serialises writers (revocations and reloads); readers only touch the volatile snapshot
+  private final Object lock = new Object();
+  private volatile State state;
+
+  private record State(Map<String, Long> revokedTokens, Map<String, Long> cutoffs, BloomFilter filter) {
+  }
+
+  public TokenRevocationService(
+      RevokedTokenRepository revokedTokenRepository,
+      TokenCutoffRepository tokenCutoffRepository,
+      TransactionTemplate transactionTemplate,
+      @Value("${jwt.expiration}") long accessTokenExpirationMillis,
+      @Value("${jwt.refreshTokenExpiration:604800000}") long refreshTokenExpirationMillis,
+      @Value("${security.revocation.bloom.expected-insertions:100000}") long bloomExpectedInsertions,
+      @Value("${security.revocation.bloom.false-positive-rate:0.01}") double bloomFalsePositiveRate,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.tokenCutoffRepository = tokenCutoffRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.maxTokenLifetimeSeconds =
+        Math.max(accessTokenExpirationMillis, refreshTokenExpirationMillis) / 1000L + 1;
+    this.bloomExpectedInsertions = bloomExpectedInsertions;
+    this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+    meterRegistry.ifAvailable(registry -> {
+      registry.gauge("security.revocations", Tags.of("kind", "token"), this,
+          service -> service.state == null ? 0 : service.state.revokedTokens().size());
+      registry.gauge("security.revocations", Tags.of("kind", "subject"), this,
+          service -> service.state == null ? 0 : service.state.cutoffs().size());
+    });
+  }
+
+  @PostConstruct
+  public void init() {
+    reload();
+  }
+
+  /**
+   * True if the token was revoked individually or issued at or before its subject's cutoff.
+   */
+  public boolean isRevoked(VerifiedToken token) {
+    State current = state;
+    String tokenId = token.tokenId();
+    if (tokenId != null && current.filter().mightContain(tokenId)
+        && current.revokedTokens().containsKey(tokenId)) {
+      return true;
+    }
+    String subject = token.subject();
+    if (subject != null && current.filter().mightContain(subject)) {
+      Long notBefore = current.cutoffs().get(subject);
+      return notBefore != null && token.issuedAt() <= notBefore;
+    }
+    return false;
+  }
+
+  /**
+   * Issue time, in epoch millis, for a new token of the subject. iat has second precision, so a
+   * token minted in the same second as a cutoff is dated just past it; otherwise it would be
+   * indistinguishable from the tokens the cutoff revoked.
+   */
+  public long issuedAtMillis(String subject) {
+    long nowMillis = System.currentTimeMillis();
+    Long notBefore = subject != null ? state.cutoffs().get(subject) : null;
+    if (notBefore != null && nowMillis / 1000L <= notBefore) {
+      return (notBefore + 1) * 1000L;
+    }
+    return nowMillis;
+  }
+
+  /**
+   * Revokes a single token until its expiry.
+   * @return false if the token has no jti and can only be revoked through its subject
+   */
+  public boolean revoke(VerifiedToken token) {
+    String tokenId = token.tokenId();
+    if (tokenId == null) {
+      return false;
+    }
+    long expiresAt = token.expiresAt() != VerifiedToken.MISSING
+        ? token.expiresAt()
+        : epochSeconds() + maxTokenLifetimeSeconds;
+    revokedTokenRepository.save(RevokedToken.builder().tokenId(tokenId).expiresAt(expiresAt).build());
+    synchronized (lock) {
+      state.revokedTokens().put(tokenId, expiresAt);
+      state.filter().put(tokenId);
+    }
+    return true;
+  }
+
+  /**
+   * Revokes every token issued to the subject up to now, including earlier in the current second.
+   */
+  public void revokeAllForSubject(String subject) {
+    long notBefore = epochSeconds();
+    long expiresAt = notBefore + maxTokenLifetimeSeconds;
+    tokenCutoffRepository.save(
+        TokenCutoff.builder().subject(subject).notBefore(notBefore).expiresAt(expiresAt).build());
+    synchronized (lock) {
+      state.cutoffs().merge(subject, notBefore, Math::max);
+      state.filter().put(subject);
+    }
+  }
+
+  /**
+   * Deletes expired rows and reloads the deny-list from the database, picking up revocations made
+   * by other instances and rebuilding the Bloom filter without pruned entries.
+   */
+  @Scheduled(fixedDelayString = "${security.revocation.refresh-interval:PT30S}",
+      initialDelayString = "${security.revocation.refresh-interval:PT30S}")
+  public void refresh() {
+    long now = epochSeconds();
+    transactionTemplate.executeWithoutResult(status -> {
+      revokedTokenRepository.deleteExpired(now);
+      tokenCutoffRepository.deleteExpired(now);
+    });
+    reload();
+  }
+
+  private void reload() {
+    long now = epochSeconds();
+    List<RevokedToken> revokedRows = revokedTokenRepository.findByExpiresAtGreaterThan(now);
+    List<TokenCutoff> cutoffRows = tokenCutoffRepository.findByExpiresAtGreaterThan(now);
+
+    synchronized (lock) {
+      Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+      Map<String, Long> cutoffs = new ConcurrentHashMap<>();
+      revokedRows.forEach(row -> revokedTokens.put(row.getTokenId(), row.getExpiresAt()));
+      cutoffRows.forEach(row -> cutoffs.merge(row.getSubject(), row.getNotBefore(), Math::max));
+
+      // Keep revocations made locally after the query above
+      State previous = state;
+      if (previous != null) {
+        previous.revokedTokens().forEach((tokenId, expiresAt) -> {
+          if (expiresAt > now) {
+            revokedTokens.putIfAbsent(tokenId, expiresAt);
+          }
+        });
+        previous.cutoffs().forEach((subject, notBefore) -> {
+          if (notBefore + maxTokenLifetimeSeconds > now) {
+            cutoffs.merge(subject, notBefore, Math::max);
+          }
+        });
+      }
+
+      long size = revokedTokens.size() + cutoffs.size();
+      BloomFilter filter = new BloomFilter(Math.max(bloomExpectedInsertions, size * 2),
+          bloomFalsePositiveRate);
+      revokedTokens.keySet().forEach(filter::put);
+      cutoffs.keySet().forEach(filter::put);
+      state = new State(revokedTokens, cutoffs, filter);
+    }
+  }
+
+  private static long epochSeconds() {
+    return System.currentTimeMillis() / 1000L;
+  }
+}
@@ -0,0 +1,117 @@
+package com.teamboard.security;
+
+import com.teamboard.entity.User;
+import com.teamboard.repository.ArchivedTaskRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.WorkspaceAccess;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.security.jwt.VerifiedToken;
+import java.util.Optional;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides what the current user may do in a workspace. When the request's access token
+ * carries workspace claims minted at the user's current membership version, the answer comes from
+ * the token; otherwise (claims disabled, or memberships changed since the token was issued) it falls
+ * back to the database, with {@link #permissions} results kept in {@link PermissionCache}.
+ *
+ * <p>Every database fallback is one {@code findAccessById} query that returns the owning
+ * workspace, the owner flag and the member role together, so a guard never loads entities or
+ * makes more than one round trip.
+ */
+@Component
+public class WorkspaceAccessChecker {
+
+  private final WorkspaceRepository workspaceRepository;
+  private final ProjectRepo projectRepo;
+  private final TaskRepository taskRepository;
+  private final ArchivedTaskRepository archivedTaskRepository;
+  private final PermissionCache permissionCache;
+
+  /**
+   * @param workspaceId the workspace that owns the requested project or task
+   * @param permissions the user's {@link Permission} bitmask there
+   */
+  public record Grant(long workspaceId, int permissions) {
+  }
+
+  public WorkspaceAccessChecker(WorkspaceRepository workspaceRepository, ProjectRepo projectRepo,
+      TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+      PermissionCache permissionCache) {
+    this.workspaceRepository = workspaceRepository;
+    this.projectRepo = projectRepo;
+    this.taskRepository = taskRepository;
+    this.archivedTaskRepository = archivedTaskRepository;
+    this.permissionCache = permissionCache;
+  }
+
+  public boolean hasPermission(User user, long workspaceId, Permission permission) {
+    return permission.isGrantedBy(permissions(user, workspaceId));
+  }
+
+  /**
+   * @return the user's {@link Permission} bitmask in the workspace; {@link Permission#NONE} if
+   *     they have no access or the workspace does not exist
+   */
+  public int permissions(User user, long workspaceId) {
+    VerifiedToken token = currentToken();
+    if (token != null && token.hasCurrentWorkspaceClaims(user.getId(), user.getMembershipVersion())) {
+      return Permission.grantedTo(token.workspaces().codeFor(workspaceId));
+    }
+    int cached = permissionCache.get(user.getId(), workspaceId, user.getMembershipVersion());
+    if (cached != PermissionCache.MISS) {
+      return cached;
+    }
+    long stamp = permissionCache.stamp();
+    Grant grant = grant(user, workspaceRepository.findAccessById(workspaceId, user.getId()), stamp);
+    return grant != null ? grant.permissions() : Permission.NONE;
+  }
+
+  /**
+   * Resolves the project's workspace and the user's permissions there in one query. The query is
+   * needed to find the workspace anyway, so its answer is used instead of the token or the cache.
+   *
+   * @return the grant, or null if the project does not exist
+   */
+  public Grant forProject(User user, long projectId) {
+    long stamp = permissionCache.stamp();
+    return grant(user, projectRepo.findAccessById(projectId, user.getId()), stamp);
+  }
+
+  /**
+   * Like {@link #forProject}, for the workspace that owns the task. A task not in {@code tasks}
+   * is looked for in the archive, which takes a second query.
+   *
+   * @return the grant, or null if the task does not exist
+   */
+  public Grant forTask(User user, long taskId) {
+    long stamp = permissionCache.stamp();
+    Optional<WorkspaceAccess> access = taskRepository.findAccessById(taskId, user.getId())
+        .or(() -> archivedTaskRepository.findAccessById(taskId, user.getId()));
+    return grant(user, access, stamp);
+  }
+
+  private Grant grant(User user, Optional<WorkspaceAccess> found, long stamp) {
+    if (found.isEmpty()) {
+      return null;
+    }
+    WorkspaceAccess access = found.get();
+    char roleCode = access.owner() ? WorkspaceRoles.OWNER
+        : access.role() != null ? WorkspaceRoles.code(access.role()) : WorkspaceRoles.NONE;
+    int permissions = Permission.grantedTo(roleCode);
+    permissionCache.put(user.getId(), access.workspaceId(), user.getMembershipVersion(),
+        permissions, stamp);
+    return new Grant(access.workspaceId(), permissions);
+  }
+
+  private static VerifiedToken currentToken() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getCredentials() instanceof VerifiedToken token) {
+      return token;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,122 @@
+package com.teamboard.security;
+
+import com.teamboard.entity.MemberRole;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact workspace id → role map carried in the {@code ws} claim of an access token, encoded as
+ * {@code "3:O,7:A,12:V"}. Codes are O (owner), A (admin), M (member) and V (viewer).
+ * Lookups are a binary search over a sorted id array.
+ */
+public final class WorkspaceRoles {
+
+  public static final char OWNER = 'O';
+  public static final char NONE = 0;
+
+  private final long[] workspaceIds;
+  private final char[] roles;
+
+  private WorkspaceRoles(long[] workspaceIds, char[] roles) {
+    this.workspaceIds = workspaceIds;
+    this.roles = roles;
+  }
+
+  public static char code(MemberRole role) {
+    return switch (role) {
+      case ADMIN -> 'A';
+      case MEMBER -> 'M';
+      case VIEWER -> 'V';
+    };
+  }
+
+  /**
+   * @return the member role for a code; owners map to ADMIN
+   */
+  public static MemberRole role(char code) {
+    return switch (code) {
+      case OWNER, 'A' -> MemberRole.ADMIN;
+      case 'M' -> MemberRole.MEMBER;
+      case 'V' -> MemberRole.VIEWER;
+      default -> null;
+    };
+  }
+
+  public static String encode(Map<Long, Character> roles) {
+    StringBuilder sb = new StringBuilder(roles.size() * 8);
+    for (Map.Entry<Long, Character> entry : new TreeMap<>(roles).entrySet()) {
+      if (sb.length() > 0) {
+        sb.append(',');
+      }
+      sb.append(entry.getKey()).append(':').append(entry.getValue());
+    }
+    return sb.toString();
+  }
+
+  /**
+   * @return the parsed map, or null if the value is not a well-formed claim
+   */
+  public static WorkspaceRoles parse(String value) {
+    if (value == null) {
+      return null;
+    }
+    if (value.isEmpty()) {
+      return new WorkspaceRoles(new long[0], new char[0]);
+    }
+    int count = 1;
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) == ',') {
+        count++;
+      }
+    }
+    long[] ids = new long[count];
+    char[] codes = new char[count];
+    int n = 0;
+    int i = 0;
+    while (i < value.length()) {
+      long id = 0;
+      int start = i;
+      while (i < value.length() && value.charAt(i) >= '0' && value.charAt(i) <= '9' && i - start < 18) {
+        id = id * 10 + (value.charAt(i) - '0');
+        i++;
+      }
+      if (i == start || i + 1 >= value.length() || value.charAt(i) != ':') {
+        return null;
+      }
+      char code = value.charAt(i + 1);
+      if (code != OWNER && role(code) == null) {
+        return null;
+      }
+      ids[n] = id;
+      codes[n] = code;
+      n++;
+      i += 2;
+      if (i < value.length()) {
+        if (value.charAt(i) != ',' || i + 1 == value.length()) {
+          return null;
+        }
+        i++;
+      }
+    }
+    // encode() emits ids in order; anything else did not come from us
+    for (int k = 1; k < n; k++) {
+      if (ids[k] <= ids[k - 1]) {
+        return null;
+      }
+    }
+    return new WorkspaceRoles(Arrays.copyOf(ids, n), Arrays.copyOf(codes, n));
+  }
+
+  /**
+   * @return the role code for a workspace, or {@link #NONE} if the token grants no access to it
+   */
+  public char codeFor(long workspaceId) {
+    int index = Arrays.binarySearch(workspaceIds, workspaceId);
+    return index >= 0 ? roles[index] : NONE;
+  }
+
+  public int size() {
+    return workspaceIds.length;
+  }
+}
@@ -0,0 +1,126 @@
+package com.teamboard.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+
+/**
+ * Remembers tokens that already passed verification until their own {@code exp}, so a client that
+ * re-sends the same access token skips the HMAC and claim parsing on every later request.
+ *
+ * <p>Entries are keyed by a 64-bit digest of the raw token and hold the token itself; a hit only
+ * counts if the stored token is equal, so a digest collision can cause a miss but never returns
+ * another token's claims. Only successful verifications are cached.
+ */
+public class CachingTokenVerifier implements TokenVerifier {
+
+  private final TokenVerifier delegate;
+  private final Cache<Long, Entry> cache;
+
+  private record Entry(String token, VerifiedToken verified) {
+  }
+
+  /**
+   * @param delegate verifier consulted on a miss
+   * @param maxSize maximum number of cached tokens
+   * @param maxTtl upper bound on how long a token stays cached, also used for tokens without exp
+   */
+  public CachingTokenVerifier(TokenVerifier delegate, long maxSize, Duration maxTtl) {
+    this.delegate = delegate;
+    long maxTtlNanos = maxTtl.toNanos();
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new Expiry<Long, Entry>() {
+          @Override
+          public long expireAfterCreate(Long key, Entry entry, long currentTime) {
+            long expiresAt = entry.verified().expiresAt();
+            if (expiresAt == VerifiedToken.MISSING) {
+              return maxTtlNanos;
+            }
+            long remainingMillis = expiresAt * 1000L - System.currentTimeMillis();
+            return Math.max(0, Math.min(maxTtlNanos, remainingMillis * 1_000_000L));
+          }
+
+          @Override
+          public long expireAfterUpdate(Long key, Entry entry, long currentTime,
+              long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(Long key, Entry entry, long currentTime,
+              long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public VerifiedToken verify(String token) {
+    long key = digest(token);
+    Entry entry = cache.getIfPresent(key);
+    if (entry != null && entry.token().equals(token)) {
+      // Expiry runs on Caffeine's clock; re-check so a token is never accepted past its exp
+      if (!entry.verified().isExpired(System.currentTimeMillis())) {
+        return entry.verified();
+      }
+      cache.invalidate(key);
+      return null;
+    }
+    VerifiedToken verified = delegate.verify(token);
+    if (verified != null) {
+      cache.put(key, new Entry(token, verified));
+    }
+    return verified;
+  }
+
+  /**
+   * Drops a single token, e.g. on logout.
+   */
+  public void evict(String token) {
+    long key = digest(token);
+    cache.asMap().computeIfPresent(key, (k, entry) -> entry.token().equals(token) ? null : entry);
+  }
+
+  /**
+   * Drops every cached token issued to a subject, e.g. after a password change.
+   */
+  public void evictSubject(String subject) {
+    cache.asMap().values().removeIf(entry -> subject.equals(entry.verified().subject()));
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public Cache<Long, ?> cache() {
+    return cache;
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * 64-bit FNV-1a over the signature segment, finished with a murmur3 mix. The signature is already
+   * a MAC of header and payload, so hashing it alone spreads keys as well as hashing the whole token
+   * at a fraction of the cost; the full-token comparison on hit keeps lookups exact.
+   */
+  static long digest(String token) {
+    long h = 0xcbf29ce484222325L;
+    for (int i = token.lastIndexOf('.') + 1, n = token.length(); i < n; i++) {
+      h ^= token.charAt(i);
+      h *= 0x100000001b3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,423 @@
+package com.teamboard.security.jwt;
+
+import com.teamboard.security.WorkspaceRoles;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Hand-rolled verifier for the tokens this application issues: header {"alg":"HS256"}, a flat JSON
+ * payload and a 32-byte HMAC-SHA256 signature.
+ *
+ * <p>Decoding, MAC computation and claim parsing work on per-thread reusable buffers, so a valid
+ * token only allocates its result (subject and token id strings, plus the workspace map when
+ * present).
+ * Anything outside the expected shape (a different header, escaped strings, fractional numbers,
+ * {@code nbf}) is handed to the fallback verifier, so the accepted token set never differs from
+ * jjwt's.
+ */
+public class Hs256TokenVerifier implements TokenVerifier {
+
+  private static final String HEADER = Base64.getUrlEncoder().withoutPadding()
+      .encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+
+  private static final int SIGNATURE_LENGTH = 32;
+  private static final int ENCODED_SIGNATURE_LENGTH = 43;
+  // Claims are small; anything bigger is unusual enough to leave to jjwt
+  private static final int MAX_TOKEN_LENGTH = 4096;
+
+  private static final int OK = 0;
+  private static final int INVALID = 1;
+  private static final int FALLBACK = 2;
+
+  private static final byte[] DECODE = new byte[128];
+
+  static {
+    Arrays.fill(DECODE, (byte) -1);
+    String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    for (int i = 0; i < alphabet.length(); i++) {
+      DECODE[alphabet.charAt(i)] = (byte) i;
+    }
+  }
+
+  private final SecretKeySpec key;
+  private final TokenVerifier fallback;
+  private final ThreadLocal<Buffers> buffers;
+
+  public Hs256TokenVerifier(byte[] keyBytes, TokenVerifier fallback) {
+    this.key = new SecretKeySpec(keyBytes, "HmacSHA256");
+    this.fallback = fallback;
+    // Fail fast on a bad key rather than on the first request
+    newMac(key);
+    this.buffers = ThreadLocal.withInitial(() -> new Buffers(newMac(key)));
+  }
+
+  @Override
+  public VerifiedToken verify(String token) {
+    if (token == null) {
+      return null;
+    }
+    int length = token.length();
+    int firstDot = token.indexOf('.');
+    int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+    if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+      return null;
+    }
+    if (firstDot != HEADER.length() || !token.startsWith(HEADER) || length > MAX_TOKEN_LENGTH) {
+      return fallback.verify(token);
+    }
+    if (length - secondDot - 1 != ENCODED_SIGNATURE_LENGTH) {
+      return null;
+    }
+
+    Buffers b = buffers.get();
+    if (decode(token, secondDot + 1, length, b.signature) != SIGNATURE_LENGTH) {
+      return null;
+    }
+    for (int i = 0; i < secondDot; i++) {
+      char c = token.charAt(i);
+      if (c > 0x7f) {
+        return null;
+      }
+      b.signingInput[i] = (byte) c;
+    }
+    try {
+      b.mac.update(b.signingInput, 0, secondDot);
+      b.mac.doFinal(b.expected, 0);
+    } catch (ShortBufferException e) {
+      throw new IllegalStateException(e);
+    }
+    if (!constantTimeEquals(b.expected, b.signature)) {
+      return null;
+    }
+
+    int payloadLength = decode(token, firstDot + 1, secondDot, b.payload);
+    if (payloadLength < 0) {
+      return null;
+    }
+    int status = parseClaims(b, payloadLength);
+    if (status == FALLBACK) {
+      return fallback.verify(token);
+    }
+    if (status == INVALID) {
+      return null;
+    }
+    VerifiedToken verified = new VerifiedToken(b.subject, b.issuedAt, b.expiresAt, b.userId,
+        b.membershipVersion, WorkspaceRoles.parse(b.workspaces), b.tokenId);
+    b.subject = null;
+    b.workspaces = null;
+    b.tokenId = null;
+    return verified.isExpired(System.currentTimeMillis()) ? null : verified;
+  }
+
+  private static Mac newMac(SecretKeySpec key) {
+    try {
+      Mac mac = Mac.getInstance("HmacSHA256");
+      mac.init(key);
+      return mac;
+    } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+      throw new IllegalStateException("HmacSHA256 is not available for the configured key", e);
+    }
+  }
+
+  /**
+   * Decodes unpadded base64url from {@code src[from, to)} into {@code dst}.
+   * @return the number of bytes written, or -1 if the input is not valid base64url
+   */
+  static int decode(String src, int from, int to, byte[] dst) {
+    int length = to - from;
+    int remainder = length & 3;
+    if (remainder == 1 || (length / 4) * 3 + Math.max(remainder - 1, 0) > dst.length) {
+      return -1;
+    }
+    int out = 0;
+    int i = from;
+    int end = to - remainder;
+    while (i < end) {
+      int bits = (value(src.charAt(i)) << 18) | (value(src.charAt(i + 1)) << 12)
+          | (value(src.charAt(i + 2)) << 6) | value(src.charAt(i + 3));
+      if (bits < 0) {
+        return -1;
+      }
+      dst[out++] = (byte) (bits >> 16);
+      dst[out++] = (byte) (bits >> 8);
+      dst[out++] = (byte) bits;
+      i += 4;
+    }
+    if (remainder == 2) {
+      int bits = (value(src.charAt(i)) << 6) | value(src.charAt(i + 1));
+      // Unused trailing bits must be zero so each signature has exactly one encoding
+      if (bits < 0 || (bits & 0xf) != 0) {
+        return -1;
+      }
+      dst[out++] = (byte) (bits >> 4);
+    } else if (remainder == 3) {
+      int bits = (value(src.charAt(i)) << 12) | (value(src.charAt(i + 1)) << 6)
+          | value(src.charAt(i + 2));
+      if (bits < 0 || (bits & 0x3) != 0) {
+        return -1;
+      }
+      dst[out++] = (byte) (bits >> 10);
+      dst[out++] = (byte) (bits >> 2);
+    }
+    return out;
+  }
+
+  // Negative for characters outside the alphabet, which makes the combined bits negative too
+  private static int value(char c) {
+    return c < 128 ? DECODE[c] : -1;
+  }
+
+  private static boolean constantTimeEquals(byte[] a, byte[] b) {
+    int diff = 0;
+    for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+      diff |= a[i] ^ b[i];
+    }
+    return diff == 0;
+  }
+
+  private static final int CLAIM_OTHER = 0;
+  private static final int CLAIM_SUB = 1;
+  private static final int CLAIM_EXP = 2;
+  private static final int CLAIM_IAT = 3;
+  private static final int CLAIM_NBF = 4;
+  private static final int CLAIM_UID = 5;
+  private static final int CLAIM_MV = 6;
+  private static final int CLAIM_WS = 7;
+  private static final int CLAIM_JTI = 8;
+
+  /**
+   * Reads sub, iat, exp, jti and the embedded uid/mv/ws claims from a flat JSON object, skipping any
+   * other member.
+   */
+  private static int parseClaims(Buffers b, int length) {
+    byte[] p = b.payload;
+    b.subject = null;
+    b.workspaces = null;
+    b.tokenId = null;
+    b.issuedAt = VerifiedToken.MISSING;
+    b.expiresAt = VerifiedToken.MISSING;
+    b.userId = VerifiedToken.MISSING;
+    b.membershipVersion = VerifiedToken.MISSING;
+
+    int i = skipWhitespace(p, 0, length);
+    if (i >= length || p[i] != '{') {
+      return INVALID;
+    }
+    i = skipWhitespace(p, i + 1, length);
+    if (i < length && p[i] == '}') {
+      return skipWhitespace(p, i + 1, length) == length ? OK : INVALID;
+    }
+    while (i < length) {
+      if (p[i] != '"') {
+        return INVALID;
+      }
+      int keyStart = i + 1;
+      int keyEnd = endOfString(p, keyStart, length);
+      if (keyEnd < 0) {
+        return keyEnd == -2 ? FALLBACK : INVALID;
+      }
+      i = skipWhitespace(p, keyEnd + 1, length);
+      if (i >= length || p[i] != ':') {
+        return INVALID;
+      }
+      i = skipWhitespace(p, i + 1, length);
+      if (i >= length) {
+        return INVALID;
+      }
+
+      int claim = claimOf(p, keyStart, keyEnd - keyStart);
+      switch (claim) {
+        case CLAIM_SUB, CLAIM_WS, CLAIM_JTI -> {
+          if (p[i] != '"') {
+            return FALLBACK;
+          }
+          int end = endOfString(p, i + 1, length);
+          if (end < 0) {
+            return end == -2 ? FALLBACK : INVALID;
+          }
+          String value = new String(p, i + 1, end - i - 1, StandardCharsets.UTF_8);
+          switch (claim) {
+            case CLAIM_SUB -> b.subject = value;
+            case CLAIM_WS -> b.workspaces = value;
+            default -> b.tokenId = value;
+          }
+          i = end + 1;
+        }
+        case CLAIM_EXP, CLAIM_IAT, CLAIM_UID, CLAIM_MV -> {
+          long value = 0;
+          int start = i;
+          while (i < length && p[i] >= '0' && p[i] <= '9' && i - start < 18) {
+            value = value * 10 + (p[i] - '0');
+            i++;
+          }
+          if (i == start || (i < length && isNumberPart(p[i]))) {
+            return FALLBACK;
+          }
+          switch (claim) {
+            case CLAIM_EXP -> b.expiresAt = value;
+            case CLAIM_IAT -> b.issuedAt = value;
+            case CLAIM_UID -> b.userId = value;
+            default -> b.membershipVersion = value;
+          }
+        }
+        case CLAIM_NBF -> {
+          return FALLBACK;
+        }
+        default -> {
+          i = skipValue(p, i, length);
+          if (i < 0) {
+            return INVALID;
+          }
+        }
+      }
+
+      i = skipWhitespace(p, i, length);
+      if (i >= length) {
+        return INVALID;
+      }
+      if (p[i] == '}') {
+        return skipWhitespace(p, i + 1, length) == length ? OK : INVALID;
+      }
+      if (p[i] != ',') {
+        return INVALID;
+      }
+      i = skipWhitespace(p, i + 1, length);
+    }
+    return INVALID;
+  }
+
+  private static int claimOf(byte[] p, int start, int length) {
+    if (length == 2) {
+      if (p[start] == 'm' && p[start + 1] == 'v') {
+        return CLAIM_MV;
+      }
+      if (p[start] == 'w' && p[start + 1] == 's') {
+        return CLAIM_WS;
+      }
+    } else if (length == 3) {
+      if (isKey(p, start, 's', 'u', 'b')) {
+        return CLAIM_SUB;
+      }
+      if (isKey(p, start, 'e', 'x', 'p')) {
+        return CLAIM_EXP;
+      }
+      if (isKey(p, start, 'i', 'a', 't')) {
+        return CLAIM_IAT;
+      }
+      if (isKey(p, start, 'n', 'b', 'f')) {
+        return CLAIM_NBF;
+      }
+      if (isKey(p, start, 'u', 'i', 'd')) {
+        return CLAIM_UID;
+      }
+      if (isKey(p, start, 'j', 't', 'i')) {
+        return CLAIM_JTI;
+      }
+    }
+    return CLAIM_OTHER;
+  }
+
+  private static boolean isKey(byte[] p, int start, char a, char b, char c) {
+    return p[start] == a && p[start + 1] == b && p[start + 2] == c;
+  }
+
+  private static boolean isNumberPart(byte c) {
+    return (c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '-' || c == '+';
+  }
+
+  private static int skipWhitespace(byte[] p, int i, int length) {
+    while (i < length && (p[i] == ' ' || p[i] == '\t' || p[i] == '\n' || p[i] == '\r')) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * @return index of the closing quote, -1 if the string is unterminated, -2 if it contains an escape
+   */
+  private static int endOfString(byte[] p, int i, int length) {
+    while (i < length) {
+      byte c = p[i];
+      if (c == '"') {
+        return i;
+      }
+      if (c == '\\') {
+        return -2;
+      }
+      if (c >= 0 && c < 0x20) {
+        return -1;
+      }
+      i++;
+    }
+    return -1;
+  }
+
+  /**
+   * Skips any JSON value, including nested objects and arrays.
+   * @return index just past the value, or -1 if it is malformed
+   */
+  private static int skipValue(byte[] p, int i, int length) {
+    int depth = 0;
+    do {
+      if (i >= length) {
+        return -1;
+      }
+      byte c = p[i];
+      if (c == '"') {
+        i++;
+        while (i < length && p[i] != '"') {
+          i += p[i] == '\\' ? 2 : 1;
+        }
+        if (i >= length) {
+          return -1;
+        }
+        i++;
+      } else if (c == '{' || c == '[') {
+        depth++;
+        i++;
+      } else if (c == '}' || c == ']') {
+        if (--depth < 0) {
+          return -1;
+        }
+        i++;
+      } else if (depth > 0 && (c == ',' || c == ':' || c == ' ' || c == '\t' || c == '\n' || c == '\r')) {
+        i++;
+      } else {
+        int start = i;
+        while (i < length && p[i] != ',' && p[i] != '}' && p[i] != ']' && p[i] != ' '
+            && p[i] != '\t' && p[i] != '\n' && p[i] != '\r') {
+          i++;
+        }
+        if (i == start) {
+          return -1;
+        }
+      }
+    } while (depth > 0);
+    return i;
+  }
+
+  private static final class Buffers {
+    final Mac mac;
+    final byte[] signature = new byte[SIGNATURE_LENGTH];
+    final byte[] expected = new byte[SIGNATURE_LENGTH];
+    final byte[] signingInput = new byte[MAX_TOKEN_LENGTH];
+    final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+    String subject;
+    String workspaces;
+    String tokenId;
+    long issuedAt;
+    long expiresAt;
+    long userId;
+    long membershipVersion;
+
+    Buffers(Mac mac) {
+      this.mac = mac;
+    }
+  }
+}
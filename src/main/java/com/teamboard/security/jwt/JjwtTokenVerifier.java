@@ -0,0 +1,41 @@
+package com.teamboard.security.jwt;
+
+import com.teamboard.security.WorkspaceRoles;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import java.util.Date;
+
+/**
+ * General-purpose verifier backed by jjwt. Handles any header or claim layout jjwt supports.
+ */
+public class JjwtTokenVerifier implements TokenVerifier {
+
+  private final JwtParser parser;
+
+  public JjwtTokenVerifier(JwtParser parser) {
+    this.parser = parser;
+  }
+
+  @Override
+  public VerifiedToken verify(String token) {
+    try {
+      Claims claims = parser.parseClaimsJws(token).getBody();
+      Object workspaces = claims.get(JwtClaimNames.WORKSPACES);
+      return new VerifiedToken(claims.getSubject(), epochSeconds(claims.getIssuedAt()),
+          epochSeconds(claims.getExpiration()), number(claims.get(JwtClaimNames.USER_ID)),
+          number(claims.get(JwtClaimNames.MEMBERSHIP_VERSION)),
+          workspaces instanceof String value ? WorkspaceRoles.parse(value) : null, claims.getId());
+    } catch (JwtException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static long number(Object value) {
+    return value instanceof Number number ? number.longValue() : VerifiedToken.MISSING;
+  }
+
+  private static long epochSeconds(Date date) {
+    return date != null ? date.getTime() / 1000L : VerifiedToken.MISSING;
+  }
+}
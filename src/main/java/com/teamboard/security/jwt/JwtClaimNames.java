@@ -0,0 +1,14 @@
+package com.teamboard.security.jwt;
+
+/**
+ * Private claims added to access tokens when {@code jwt.embed-claims} is enabled.
+ */
+public final class JwtClaimNames {
+
+  public static final String USER_ID = "uid";
+  public static final String MEMBERSHIP_VERSION = "mv";
+  public static final String WORKSPACES = "ws";
+
+  private JwtClaimNames() {
+  }
+}
@@ -0,0 +1,14 @@
+package com.teamboard.security.jwt;
+
+/**
+ * Verifies a compact JWS access token and extracts the claims the application uses.
+ * Implementations must be thread-safe.
+ */
+public interface TokenVerifier {
+
+  /**
+   * @param token compact JWS string (header.payload.signature)
+   * @return the verified claims, or null if the token is malformed, tampered with or expired
+   */
+  VerifiedToken verify(String token);
+}
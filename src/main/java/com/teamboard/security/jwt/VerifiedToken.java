@@ -0,0 +1,35 @@
+package com.teamboard.security.jwt;
+
+import com.teamboard.security.WorkspaceRoles;
+
+/**
+ * Claims of a token whose signature and expiry have been checked.
+ * @param subject the {@code sub} claim (user email)
+ * @param issuedAt the {@code iat} claim in epoch seconds, or {@link #MISSING}
+ * @param expiresAt the {@code exp} claim in epoch seconds, or {@link #MISSING}
+ * @param userId the {@code uid} claim, or {@link #MISSING} for tokens without embedded claims
+ * @param membershipVersion the {@code mv} claim, or {@link #MISSING}
+ * @param workspaces the parsed {@code ws} claim, or null
+ * @param tokenId the {@code jti} claim, or null for tokens issued before token ids were added
+ */
+public record VerifiedToken(String subject, long issuedAt, long expiresAt, long userId,
+    long membershipVersion, WorkspaceRoles workspaces, String tokenId) {
+
+  public static final long MISSING = Long.MIN_VALUE;
+
+  public VerifiedToken(String subject, long issuedAt, long expiresAt) {
+    this(subject, issuedAt, expiresAt, MISSING, MISSING, null, null);
+  }
+
+  public boolean isExpired(long nowMillis) {
+    return expiresAt != MISSING && nowMillis > expiresAt * 1000L;
+  }
+
+  /**
+   * True if the token carries workspace roles minted at the given membership version.
+   */
+  public boolean hasCurrentWorkspaceClaims(long userId, long membershipVersion) {
+    return workspaces != null && this.userId == userId
+        && this.membershipVersion == membershipVersion;
+  }
+}
@@ -2,7 +2,11 @@ package com.teamboard.service;
 
 import com.teamboard.DTO.AuthRequest;
 import com.teamboard.DTO.AuthResponse;
+import com.teamboard.security.AccessTokenClaims;
+import com.teamboard.security.TokenRevocationService;
+import com.teamboard.security.jwt.VerifiedToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -20,6 +24,14 @@ public class AuthService {
   private JwtUtil jwtUtil;
   @Autowired
   private AuthenticationManager authenticationManager;
+  @Autowired
+  private AccessTokenClaims accessTokenClaims;
+  @Autowired
+  private TokenRevocationService tokenRevocationService;
+
+  // Opt-in: embed user id, membership version and workspace roles in access tokens
+  @Value("${jwt.embed-claims:false}")
+  private boolean embedClaims;
 
 
   public AuthResponse login (AuthRequest authRequest){
@@ -32,7 +44,7 @@ public class AuthService {
     SecurityContextHolder
         .getContext()
         .setAuthentication(authentication);
-    String accessToken = jwtUtil.generateToken(authRequest.getEmail());
+    String accessToken = accessToken(authRequest.getEmail());
     String refreshToken = jwtUtil.generateRefreshToken(authRequest.getEmail());
 
     return AuthResponse.builder()
@@ -44,18 +56,55 @@ public class AuthService {
   }
 
   public AuthResponse refreshToken(String refreshToken){
-    if(jwtUtil.validateToken(refreshToken)){
-      String username = jwtUtil.extractUsername(refreshToken);
-      String accessToken = jwtUtil.generateToken(username);
-
-      return AuthResponse.builder()
-          .accessToken(accessToken)
-          .refreshToken(refreshToken)
-          .username(username)
-          .expiresIn("86400")
-          .build();
+    // One signature and revocation check for the whole refresh
+    VerifiedToken verified = jwtUtil.verify(refreshToken);
+    if (verified == null) {
+      throw new RuntimeException("Invalid refresh token");
+    }
+    String username = verified.subject();
+    String accessToken = accessToken(username);
+    // Rotated: the presented token is revoked, so each refresh token is good for one refresh.
+    // Tokens issued without a jti cannot be revoked singly and run until they expire
+    tokenRevocationService.revoke(verified);
+    jwtUtil.evictCachedToken(refreshToken);
+
+    return AuthResponse.builder()
+        .accessToken(accessToken)
+        .refreshToken(jwtUtil.generateRefreshToken(username))
+        .username(username)
+        .expiresIn("86400")
+        .build();
+  }
+
+  /**
+   * Revokes the given tokens; tokens that are already invalid are ignored.
+   */
+  public void logout(String accessToken, String refreshToken){
+    revoke(accessToken);
+    revoke(refreshToken);
+  }
+
+  /**
+   * Revokes every token issued to the user so far, on all devices, including the one presented.
+   */
+  public void logoutAll(String username){
+    tokenRevocationService.revokeAllForSubject(username);
+    jwtUtil.evictCachedTokens(username);
+  }
+
+  private void revoke(String token){
+    VerifiedToken verified = jwtUtil.verify(token);
+    if (verified != null) {
+      tokenRevocationService.revoke(verified);
+      jwtUtil.evictCachedToken(token);
+    }
+  }
+
+  private String accessToken(String username){
+    if (embedClaims) {
+      return jwtUtil.generateToken(username, accessTokenClaims.forUser(username));
     }
-    throw new RuntimeException("Invalid refresh token");
+    return jwtUtil.generateToken(username);
   }
 
 
@@ -26,7 +26,7 @@ public class BoardColumnImp implements BoardColumnService {
     Project project = projectRepo.findById(projectId)
         .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + projectId));
 
-    // Create 4 default columns
+    // Create 4 default columns; the inserts wait for the flush and go out as one JDBC batch
     ColumnName[] columns = {ColumnName.BACKLOG, ColumnName.TO_DO, ColumnName.IN_PROGRESS, ColumnName.DONE};
     for (int i = 0; i < columns.length; i++) {
       BoardColumn boardColumn = BoardColumn.builder()
@@ -39,6 +39,7 @@ public class BoardColumnImp implements BoardColumnService {
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<BoardColumn> getColumnsByProjectId(Long projectId) {
     // Verify project exists
     projectRepo.findById(projectId)
@@ -48,6 +49,7 @@ public class BoardColumnImp implements BoardColumnService {
   }
 
   @Override
+  @Transactional(readOnly = true)
   public BoardColumn getColumnById(Long columnId) {
     return boardColumnRepository.findById(columnId)
         .orElseThrow(() -> new IllegalArgumentException("Board column not found with id: " + columnId));
@@ -2,34 +2,57 @@ package com.teamboard.service;
 
 import com.teamboard.entity.User;
 import com.teamboard.repository.UserRepo;
-import java.util.Collections;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import com.teamboard.security.AuthenticatedUser;
+import com.teamboard.security.PrincipalCache;
+import com.teamboard.security.RegisteredEmailFilter;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
   private final UserRepo userRepo;
+  private final PrincipalCache principalCache;
+  private final RegisteredEmailFilter registeredEmails;
 
-  public CustomUserDetailsService(UserRepo userRepo) {
+  public CustomUserDetailsService(UserRepo userRepo, PrincipalCache principalCache,
+      RegisteredEmailFilter registeredEmails) {
     this.userRepo = userRepo;
+    this.principalCache = principalCache;
+    this.registeredEmails = registeredEmails;
   }
 
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    User user = userRepo.findByEmail(username)
-        .orElseThrow(() ->
-            new UsernameNotFoundException("User not found with username: " + username));
+    // Unknown emails skip the query; the caller still runs its dummy hash, so timing stays the same
+    if (!registeredEmails.mightExist(username)) {
+      throw new UsernameNotFoundException("User not found with username: " + username);
+    }
+    AuthenticatedUser principal =
+        principalCache.getByEmail(username, key -> userRepo.findByEmail(key).orElse(null));
+    if (principal == null) {
+      throw new UsernameNotFoundException("User not found with username: " + username);
+    }
 
-    System.out.println("Loading user: " + user.getEmail() + " with ROLE_USER authority");
+    return principal;
+  }
 
-    return org.springframework.security.core.userdetails.User
-        .withUsername(user.getEmail())
-        .password(user.getPasswordHash())
-        .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")))
-        .build();
+  /**
+   * Stores a password rehashed on login because its BCrypt cost no longer matches the configured
+   * strength. Not a password change, so issued tokens stay valid.
+   */
+  @Override
+  public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+    User user = userRepo.findByEmail(userDetails.getUsername()).orElse(null);
+    if (user == null) {
+      return userDetails;
+    }
+    user.setPasswordHash(newPassword);
+    User saved = userRepo.save(user);
+    principalCache.invalidate(saved.getId());
+    return new AuthenticatedUser(saved);
   }
 }
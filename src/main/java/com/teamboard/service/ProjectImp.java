@@ -1,9 +1,15 @@
 package com.teamboard.service;
 
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.ProjectResponseDTO;
 import com.teamboard.entity.Project;
 import com.teamboard.entity.Workspace;
+import com.teamboard.pagination.Cursor;
+import com.teamboard.pagination.PageQuery;
 import com.teamboard.repository.ProjectRepo;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,13 +37,18 @@ public class ProjectImp implements ProjectService{
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Project getProjectById(Long id) {
-    return projectRepo.findById(id).orElseThrow(
+    Project project = projectRepo.findById(id).filter(found -> !found.isDeleted()).orElseThrow(
         () -> new IllegalArgumentException("Project not found" + id)
     );
+    // A second-level cache hit skips the entity graph; the creator then comes from its own region
+    Hibernate.initialize(project.getCreatedBy());
+    return project;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<Project> getProjectsByWorkspaceId(Long workspaceId) {
     Workspace workspace = workspaceService.getWorkspace(workspaceId);
     if(workspace == null) {
@@ -46,9 +57,22 @@ public class ProjectImp implements ProjectService{
     return projectRepo.findByWorkspaceId(workspaceId);
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<ProjectResponseDTO> getProjectResponsesByWorkspaceId(Long workspaceId,
+      PageQuery page) {
+    Workspace workspace = workspaceService.getWorkspace(workspaceId);
+    if(workspace == null) {
+      throw new IllegalArgumentException("Workspace not found");
+    }
+    List<ProjectResponseDTO> rows =
+        projectRepo.findResponsesByWorkspaceId(workspaceId, page.afterId(), page.fetchLimit());
+    return page.toPage(rows, project -> Cursor.of(project.getId()));
+  }
+
   @Override
   public Project updateProject(Project project) {
-    projectRepo.findById(project.getId()).orElseThrow(
+    projectRepo.findById(project.getId()).filter(found -> !found.isDeleted()).orElseThrow(
         () -> new IllegalArgumentException("Project not found" + project.getId())
     );
     return projectRepo.save(project);
@@ -56,9 +80,9 @@ public class ProjectImp implements ProjectService{
 
   @Override
   public void deleteProject(Long id) {
-    Project project = projectRepo.findById(id).orElseThrow(
-        () -> new IllegalArgumentException("Project not found" + id)
-    );
-    projectRepo.deleteById(id);
+    // Hidden from here on; its columns and tasks are purged in batches by DeletionPurger
+    if (projectRepo.markDeleted(id, LocalDateTime.now()) == 0) {
+      throw new IllegalArgumentException("Project not found" + id);
+    }
   }
 }
@@ -1,12 +1,16 @@
 package com.teamboard.service;
 
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.ProjectResponseDTO;
 import com.teamboard.entity.Project;
+import com.teamboard.pagination.PageQuery;
 import java.util.List;
 
 public interface ProjectService {
   Project createProject(Project project);
   Project getProjectById(Long id);
   List<Project> getProjectsByWorkspaceId(Long workspaceId);
+  CursorPage<ProjectResponseDTO> getProjectResponsesByWorkspaceId(Long workspaceId, PageQuery page);
   Project updateProject(Project project);
   void deleteProject(Long id);
 }
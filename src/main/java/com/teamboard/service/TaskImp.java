@@ -1,13 +1,30 @@
 package com.teamboard.service;
 
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.TaskBulkRequestDTO;
+import com.teamboard.DTO.TaskBulkResultDTO;
+import com.teamboard.DTO.TaskResponseDTO;
 import com.teamboard.entity.BoardColumn;
 import com.teamboard.entity.ColumnName;
 import com.teamboard.entity.Priority;
 import com.teamboard.entity.Project;
 import com.teamboard.entity.Task;
 import com.teamboard.entity.User;
+import com.teamboard.pagination.Cursor;
+import com.teamboard.pagination.PageQuery;
+import com.teamboard.ranking.TaskRanker;
+import com.teamboard.repository.ArchivedTaskRepository;
+import com.teamboard.repository.BoardColumnRepository;
 import com.teamboard.repository.TaskRepository;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,17 +32,33 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class TaskImp implements TaskService {
 
+  private static final int MAX_BULK_TASKS = 500;
+
+  // The order of the task list and of the keyset both tables are read along
+  private static final Comparator<TaskResponseDTO> NEWEST_FIRST = Comparator
+      .comparing(TaskResponseDTO::getCreatedAt)
+      .thenComparing(TaskResponseDTO::getId)
+      .reversed();
+
   private final TaskRepository taskRepository;
   private final ProjectService projectService;
   private final BoardColumnService boardColumnService;
   private final UserService userService;
+  private final BoardColumnRepository boardColumnRepository;
+  private final TaskRanker taskRanker;
+  private final ArchivedTaskRepository archivedTaskRepository;
 
   public TaskImp(TaskRepository taskRepository, ProjectService projectService,
-      BoardColumnService boardColumnService, UserService userService) {
+      BoardColumnService boardColumnService, UserService userService,
+      BoardColumnRepository boardColumnRepository, TaskRanker taskRanker,
+      ArchivedTaskRepository archivedTaskRepository) {
     this.taskRepository = taskRepository;
     this.projectService = projectService;
     this.boardColumnService = boardColumnService;
     this.userService = userService;
+    this.boardColumnRepository = boardColumnRepository;
+    this.taskRanker = taskRanker;
+    this.archivedTaskRepository = archivedTaskRepository;
   }
 
   @Override
@@ -55,16 +88,28 @@ public class TaskImp implements TaskService {
       throw new IllegalArgumentException("Task title is required");
     }
 
+    task.setRank(taskRanker.append(backlogColumn.getId()));
     return taskRepository.save(task);
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Task getTaskById(Long taskId) {
     return taskRepository.findById(taskId)
         .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + taskId));
   }
 
   @Override
+  @Transactional(readOnly = true)
+  public TaskResponseDTO getTaskResponseById(Long taskId) {
+    // Archived tasks are rare reads, so the archive is only asked when the task is not hot
+    return taskRepository.findResponseById(taskId)
+        .or(() -> archivedTaskRepository.findResponseById(taskId))
+        .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + taskId));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
   public List<Task> getTasksByProject(Long projectId) {
     Project project = projectService.getProjectById(projectId);
     if (project == null) {
@@ -74,12 +119,68 @@ public class TaskImp implements TaskService {
   }
 
   @Override
+  @Transactional(readOnly = true)
+  public CursorPage<TaskResponseDTO> getTaskResponsesByProject(Long projectId, PageQuery page) {
+    return getTaskResponsesByProject(projectId, page, false);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<TaskResponseDTO> getTaskResponsesByProject(Long projectId, PageQuery page,
+      boolean includeArchived) {
+    Project project = projectService.getProjectById(projectId);
+    if (project == null) {
+      throw new IllegalArgumentException("Project not found with id: " + projectId);
+    }
+    Cursor after = page.after();
+    List<TaskResponseDTO> rows;
+    if (after == null) {
+      rows = taskRepository.findResponsesByProjectId(projectId, page.fetchLimit());
+    } else if (after.createdAt() == null) {
+      // An id-only cursor from another list
+      throw new IllegalArgumentException("Invalid cursor");
+    } else {
+      rows = taskRepository.findResponsesByProjectIdAfter(
+          projectId, after.createdAt(), after.id(), page.fetchLimit());
+    }
+    if (includeArchived) {
+      rows = withArchived(projectId, page, rows);
+    }
+    return page.toPage(rows, task -> new Cursor(task.getCreatedAt(), task.getId()));
+  }
+
+  /**
+   * Merges the same keyset range of the archive into the hot rows. Each table gives at most a
+   * page and one more, so the newest of both are a page and one more of the merged list. A task
+   * archived between the two reads could be in both, and is kept once.
+   */
+  private List<TaskResponseDTO> withArchived(Long projectId, PageQuery page,
+      List<TaskResponseDTO> hot) {
+    Cursor after = page.after();
+    List<TaskResponseDTO> archived = after == null
+        ? archivedTaskRepository.findResponsesByProjectId(projectId, page.fetchLimit())
+        : archivedTaskRepository.findResponsesByProjectIdAfter(
+            projectId, after.createdAt(), after.id(), page.fetchLimit());
+    if (archived.isEmpty()) {
+      return hot;
+    }
+    Map<Long, TaskResponseDTO> byId = new LinkedHashMap<>();
+    hot.forEach(task -> byId.put(task.getId(), task));
+    archived.forEach(task -> byId.putIfAbsent(task.getId(), task));
+    return byId.values().stream()
+        .sorted(NEWEST_FIRST)
+        .limit(page.fetchLimit().max())
+        .toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
   public List<Task> getTasksByColumn(Long columnId) {
     BoardColumn column = boardColumnService.getColumnById(columnId);
     if (column == null) {
       throw new IllegalArgumentException("Column not found with id: " + columnId);
     }
-    return taskRepository.findByColumnIdOrderByCreatedAtDesc(columnId);
+    return taskRepository.findByColumnIdOrderByRankAscIdAsc(columnId);
   }
 
   @Override
@@ -111,28 +212,23 @@ public class TaskImp implements TaskService {
   }
 
   @Override
-  public Task moveTaskToColumn(Long taskId, Long newColumnId) {
-    Task task = getTaskById(taskId);
-    BoardColumn newColumn = boardColumnService.getColumnById(newColumnId);
-
-    if (newColumn == null) {
-      throw new IllegalArgumentException("Column not found with id: " + newColumnId);
-    }
-
-    // Validate column belongs to same project
-    if (!task.getProject().getId().equals(newColumn.getProject().getId())) {
-      throw new IllegalArgumentException("Column does not belong to task's project");
-    }
+  public Task moveTaskToColumn(Long taskId, Long newColumnId, Long expectedVersion) {
+    return moveTask(taskId, newColumnId, null, null, expectedVersion);
+  }
 
-    // Prevent duplicate moves
-    if (task.getColumn().getId().equals(newColumnId)) {
-      return task; // Already in target column, no change needed
+  @Override
+  public Task moveTask(Long taskId, Long columnId, Long afterTaskId, Long beforeTaskId,
+      Long expectedVersion) {
+    // Checks the task, column and neighbours, and locks the column until this commits
+    String rank = taskRanker.place(columnId, taskId, afterTaskId, beforeTaskId);
+    BoardColumn column = boardColumnRepository.getReferenceById(columnId);
+    int moved = taskRepository.moveToColumn(taskId, column, rank, expectedVersion, LocalDateTime.now());
+    Task task = getTaskById(taskId);
+    if (moved == 1) {
+      return task;
     }
-
-    task.setColumn(newColumn);
-    // updated_at is automatically set by @UpdateTimestamp
-
-    return taskRepository.save(task);
+    throw new OptimisticLockingFailureException(
+        "Task " + taskId + " has changed, now at version " + task.getVersion() + "; reload it and retry");
   }
 
   @Override
@@ -152,5 +248,84 @@ public class TaskImp implements TaskService {
     // updated_at is automatically set by @UpdateTimestamp
     return taskRepository.save(task);
   }
-}
 
+  @Override
+  public TaskBulkResultDTO bulkUpdate(Long projectId, TaskBulkRequestDTO request) {
+    TaskBulkRequestDTO.Operation operation = request.getOperation();
+    if (operation == null) {
+      throw new IllegalArgumentException("Operation is required");
+    }
+    if (request.getTaskIds() == null || request.getTaskIds().isEmpty()) {
+      throw new IllegalArgumentException("At least one task id is required");
+    }
+    Set<Long> requested = new LinkedHashSet<>(request.getTaskIds());
+    if (requested.contains(null)) {
+      throw new IllegalArgumentException("Task ids must not be null");
+    }
+    if (requested.size() > MAX_BULK_TASKS) {
+      throw new IllegalArgumentException("At most " + MAX_BULK_TASKS + " tasks can be changed at once");
+    }
+
+    // Validate the operation's argument before changing anything
+    BoardColumn column = null;
+    User assignee = null;
+    switch (operation) {
+      case MOVE -> {
+        if (request.getColumnId() == null) {
+          throw new IllegalArgumentException("Column id is required to move tasks");
+        }
+        column = boardColumnService.getColumnById(request.getColumnId());
+        if (!column.getProject().getId().equals(projectId)) {
+          throw new IllegalArgumentException("Column does not belong to task's project");
+        }
+      }
+      case ASSIGN -> {
+        if (request.getAssignedToId() != null) {
+          assignee = userService.getUser(request.getAssignedToId());
+          if (assignee == null) {
+            throw new IllegalArgumentException("User not found with id: " + request.getAssignedToId());
+          }
+        }
+      }
+      case PRIORITIZE -> {
+        if (request.getPriority() == null) {
+          throw new IllegalArgumentException("Priority is required");
+        }
+      }
+      case DELETE -> {
+      }
+    }
+
+    // Tasks of other projects are left out, so the permission checked for this project covers them all
+    List<Long> taskIds = taskRepository.findIdsInProject(requested, projectId);
+    if (!taskIds.isEmpty()) {
+      LocalDateTime now = LocalDateTime.now();
+      switch (operation) {
+        case MOVE -> {
+          // Appended to the bottom of the column, in the order they were requested
+          Set<Long> found = new HashSet<>(taskIds);
+          List<Long> moved = requested.stream().filter(found::contains).toList();
+          taskRepository.moveAll(moved, taskRanker.append(column.getId(), moved.size()), column, now);
+        }
+        case ASSIGN -> {
+          if (assignee != null) {
+            taskRepository.assignAll(taskIds, assignee, now);
+          } else {
+            taskRepository.unassignAll(taskIds, now);
+          }
+        }
+        case PRIORITIZE -> taskRepository.prioritizeAll(taskIds, request.getPriority(), now);
+        case DELETE -> taskRepository.deleteAllByIds(taskIds);
+      }
+    }
+
+    Set<Long> changed = new HashSet<>(taskIds);
+    TaskBulkResultDTO.Status done = operation == TaskBulkRequestDTO.Operation.DELETE
+        ? TaskBulkResultDTO.Status.DELETED : TaskBulkResultDTO.Status.UPDATED;
+    List<TaskBulkResultDTO.Outcome> results = requested.stream()
+        .map(id -> new TaskBulkResultDTO.Outcome(id,
+            changed.contains(id) ? done : TaskBulkResultDTO.Status.NOT_FOUND))
+        .toList();
+    return new TaskBulkResultDTO(operation, results);
+  }
+}
@@ -0,0 +1,162 @@
+package com.teamboard.service;
+
+import com.teamboard.DTO.TaskImportResultDTO;
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.Priority;
+import com.teamboard.entity.User;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.taskimport.ImportedTask;
+import com.teamboard.taskimport.ParsedRow;
+import com.teamboard.taskimport.TaskBatchWriter;
+import com.teamboard.taskimport.TaskImportFormat;
+import com.teamboard.taskimport.TaskImportRow;
+import com.teamboard.taskimport.TaskRowSource;
+import jakarta.persistence.PersistenceException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+// Not @Transactional: each batch commits on its own, so a rejected batch leaves the others in place
+@Service
+public class TaskImportImp implements TaskImportService {
+
+  private static final int MAX_TITLE_LENGTH = 255;
+
+  private final BoardColumnRepository boardColumnRepository;
+  private final UserRepo userRepo;
+  private final TaskBatchWriter taskBatchWriter;
+  private final ObjectMapper objectMapper;
+  private final int batchSize;
+  private final int maxReportedErrors;
+
+  public TaskImportImp(BoardColumnRepository boardColumnRepository, UserRepo userRepo,
+      TaskBatchWriter taskBatchWriter, ObjectMapper objectMapper,
+      @Value("${task-import.batch-size:1000}") int batchSize,
+      @Value("${task-import.max-reported-errors:100}") int maxReportedErrors) {
+    this.boardColumnRepository = boardColumnRepository;
+    this.userRepo = userRepo;
+    this.taskBatchWriter = taskBatchWriter;
+    this.objectMapper = objectMapper;
+    this.batchSize = batchSize;
+    this.maxReportedErrors = maxReportedErrors;
+  }
+
+  @Override
+  public TaskImportResultDTO importTasks(Long projectId, User createdBy, TaskImportFormat format,
+      BufferedReader body) throws IOException {
+    // Columns are looked up once for the whole import
+    List<BoardColumn> columns = boardColumnRepository.findByProjectIdOrderByPosition(projectId);
+    if (columns.isEmpty()) {
+      throw new IllegalArgumentException("Project has no columns. Please create columns first.");
+    }
+    Map<ColumnName, Long> columnIds = new EnumMap<>(ColumnName.class);
+    Set<Long> doneColumnIds = new HashSet<>();
+    for (BoardColumn column : columns) {
+      columnIds.putIfAbsent(column.getName(), column.getId());
+      if (column.getName() == ColumnName.DONE) {
+        doneColumnIds.add(column.getId());
+      }
+    }
+    // Same column createTask uses, or the first one if the project has no Backlog
+    long defaultColumnId = columnIds.getOrDefault(ColumnName.BACKLOG, columns.get(0).getId());
+
+    TaskImportResultDTO result = new TaskImportResultDTO();
+    TaskRowSource rows = format.rows(body, objectMapper);
+    List<ImportedTask> batch = new ArrayList<>(batchSize);
+    ParsedRow parsed;
+    while ((parsed = rows.next()) != null) {
+      if (parsed.error() != null) {
+        reject(result, parsed.line(), parsed.error());
+        continue;
+      }
+      TaskImportRow row = parsed.row();
+      String error = validate(row);
+      Long columnId = row.column() == null ? Long.valueOf(defaultColumnId) : columnIds.get(row.column());
+      if (error == null && columnId == null) {
+        error = "Column not found in project: " + row.column();
+      }
+      if (error != null) {
+        reject(result, parsed.line(), error);
+        continue;
+      }
+      batch.add(new ImportedTask(parsed.line(), row.title().strip(), row.description(), columnId,
+          doneColumnIds.contains(columnId),
+          row.priority() != null ? row.priority() : Priority.MEDIUM, row.dueDate(), row.assignedToId()));
+      if (batch.size() == batchSize) {
+        writeBatch(projectId, createdBy, batch, result);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      writeBatch(projectId, createdBy, batch, result);
+    }
+    return result;
+  }
+
+  private static String validate(TaskImportRow row) {
+    if (row.title() == null || row.title().isBlank()) {
+      return "Task title is required";
+    }
+    if (row.title().strip().length() > MAX_TITLE_LENGTH) {
+      return "Task title is longer than " + MAX_TITLE_LENGTH + " characters";
+    }
+    return null;
+  }
+
+  private void writeBatch(Long projectId, User createdBy, List<ImportedTask> batch,
+      TaskImportResultDTO result) {
+    // Assignees are checked with one query per batch
+    Set<Long> assigneeIds = new HashSet<>();
+    for (ImportedTask task : batch) {
+      if (task.assignedToId() != null) {
+        assigneeIds.add(task.assignedToId());
+      }
+    }
+    Set<Long> existing = assigneeIds.isEmpty()
+        ? Set.of() : new HashSet<>(userRepo.findExistingIds(assigneeIds));
+
+    List<ImportedTask> accepted = new ArrayList<>(batch.size());
+    for (ImportedTask task : batch) {
+      if (task.assignedToId() != null && !existing.contains(task.assignedToId())) {
+        reject(result, task.line(), "User not found with id: " + task.assignedToId());
+      } else {
+        accepted.add(task);
+      }
+    }
+    if (accepted.isEmpty()) {
+      return;
+    }
+
+    try {
+      taskBatchWriter.write(projectId, createdBy.getId(), accepted);
+      result.setImported(result.getImported() + accepted.size());
+    } catch (DataAccessException | PersistenceException e) {
+      String message = "Batch rejected by the database: "
+          + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+      for (ImportedTask task : accepted) {
+        reject(result, task.line(), message);
+      }
+    }
+  }
+
+  private void reject(TaskImportResultDTO result, long line, String message) {
+    result.setFailed(result.getFailed() + 1);
+    if (result.getErrors().size() < maxReportedErrors) {
+      result.getErrors().add(new TaskImportResultDTO.RowError(line, message));
+    } else {
+      result.setErrorsTruncated(true);
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.teamboard.service;
+
+import com.teamboard.DTO.TaskImportResultDTO;
+import com.teamboard.entity.User;
+import com.teamboard.taskimport.TaskImportFormat;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public interface TaskImportService {
+  /**
+   * Imports tasks into a project from a stream, a batch at a time. Rows that fail validation, or
+   * whose batch the database rejects, are reported and the import carries on.
+   * @param projectId the project ID
+   * @param createdBy the user recorded as creator of every task
+   * @param format the body format
+   * @param body the request body
+   * @return counts of imported and failed rows, with the first errors
+   */
+  TaskImportResultDTO importTasks(Long projectId, User createdBy, TaskImportFormat format,
+      BufferedReader body) throws IOException;
+}
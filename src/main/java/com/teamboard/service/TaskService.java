@@ -1,11 +1,16 @@
 package com.teamboard.service;
 
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.TaskBulkRequestDTO;
+import com.teamboard.DTO.TaskBulkResultDTO;
+import com.teamboard.DTO.TaskResponseDTO;
 import com.teamboard.entity.Task;
+import com.teamboard.pagination.PageQuery;
 import java.util.List;
 
 public interface TaskService {
   /**
-   * Creates a new task in the Backlog column of the project.
+   * Creates a new task at the bottom of the Backlog column of the project.
    * @param task the task to create
    * @return created task
    */
@@ -18,6 +23,13 @@ public interface TaskService {
    */
   Task getTaskById(Long taskId);
 
+  /**
+   * Gets a task's response by ID, from the archive if it has been archived.
+   * @param taskId the task ID
+   * @return the task response, with archived set for an archived task
+   */
+  TaskResponseDTO getTaskResponseById(Long taskId);
+
   /**
    * Gets all tasks for a project, ordered by creation date.
    * @param projectId the project ID
@@ -26,7 +38,26 @@ public interface TaskService {
   List<Task> getTasksByProject(Long projectId);
 
   /**
-   * Gets all tasks in a specific column.
+   * Gets one page of task responses for a project, newest first, read straight into DTOs.
+   * @param projectId the project ID
+   * @param page cursor of the last task already returned, and the page size
+   * @return the page, with the cursor of its last task if more follow
+   */
+  CursorPage<TaskResponseDTO> getTaskResponsesByProject(Long projectId, PageQuery page);
+
+  /**
+   * Like {@link #getTaskResponsesByProject(Long, PageQuery)}, with archived tasks merged in when
+   * includeArchived is set.
+   * @param projectId the project ID
+   * @param page cursor of the last task already returned, and the page size
+   * @param includeArchived whether to include tasks moved to the archive
+   * @return the page, with the cursor of its last task if more follow
+   */
+  CursorPage<TaskResponseDTO> getTaskResponsesByProject(Long projectId, PageQuery page,
+      boolean includeArchived);
+
+  /**
+   * Gets all tasks in a specific column, in board order.
    * @param columnId the column ID
    * @return list of tasks
    */
@@ -46,12 +77,31 @@ public interface TaskService {
   void deleteTask(Long taskId);
 
   /**
-   * Moves a task to a different column.
+   * Moves a task to the bottom of a column of its project in one conditional update.
    * @param taskId the task ID
    * @param newColumnId the new column ID
+   * @param expectedVersion the task version the caller last read, or null to move any version
    * @return updated task
+   * @throws org.springframework.dao.OptimisticLockingFailureException if the task has changed
+   *     since expectedVersion
    */
-  Task moveTaskToColumn(Long taskId, Long newColumnId);
+  Task moveTaskToColumn(Long taskId, Long newColumnId, Long expectedVersion);
+
+  /**
+   * Places a task between two cards of a column of its project, its own column to reorder it.
+   * Only the task's row is written. With one neighbour the task goes right next to it, and with
+   * neither to the bottom of the column.
+   * @param taskId the task ID
+   * @param columnId the column ID
+   * @param afterTaskId the card that ends up directly above the task, or null
+   * @param beforeTaskId the card that ends up directly below the task, or null
+   * @param expectedVersion the task version the caller last read, or null to move any version
+   * @return updated task
+   * @throws org.springframework.dao.OptimisticLockingFailureException if the task has changed
+   *     since expectedVersion
+   */
+  Task moveTask(Long taskId, Long columnId, Long afterTaskId, Long beforeTaskId,
+      Long expectedVersion);
 
   /**
    * Assigns a task to a user.
@@ -60,5 +110,13 @@ public interface TaskService {
    * @return updated task
    */
   Task assignTask(Long taskId, Long userId);
-}
 
+  /**
+   * Applies one operation to many tasks of a project in a single transaction, with one set-based
+   * statement. Ids that are not tasks of the project are reported as NOT_FOUND.
+   * @param projectId the project ID
+   * @param request the operation, its argument and the task IDs
+   * @return the outcome for each requested task ID
+   */
+  TaskBulkResultDTO bulkUpdate(Long projectId, TaskBulkRequestDTO request);
+}
@@ -1,20 +1,43 @@
 package com.teamboard.service;
 
 import com.teamboard.DTO.RegisterDTO;
+import com.teamboard.cache.CascadeEviction;
 import com.teamboard.entity.User;
+import com.teamboard.security.AuthenticatedUser;
+import com.teamboard.security.PrincipalCache;
+import com.teamboard.security.RegisteredEmailFilter;
+import com.teamboard.security.TokenRevocationService;
+import com.teamboard.util.JwtUtil;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.teamboard.repository.UserRepo;
 @Service
 public class UserImp implements UserService {
   private final UserRepo userRepo;
   private final PasswordEncoder passwordEncoder;
+  private final PrincipalCache principalCache;
+  private final JwtUtil jwtUtil;
+  private final TokenRevocationService tokenRevocationService;
+  private final RegisteredEmailFilter registeredEmails;
+  private final CascadeEviction cascadeEviction;
 
-  public UserImp(UserRepo userRepo, PasswordEncoder passwordEncoder) {
+  public UserImp(UserRepo userRepo, PasswordEncoder passwordEncoder, PrincipalCache principalCache,
+      JwtUtil jwtUtil, TokenRevocationService tokenRevocationService,
+      RegisteredEmailFilter registeredEmails, CascadeEviction cascadeEviction) {
     this.userRepo = userRepo;
     this.passwordEncoder = passwordEncoder;
+    this.principalCache = principalCache;
+    this.jwtUtil = jwtUtil;
+    this.tokenRevocationService = tokenRevocationService;
+    this.registeredEmails = registeredEmails;
+    this.cascadeEviction = cascadeEviction;
   }
 
   @Override
@@ -24,8 +47,8 @@ public class UserImp implements UserService {
 
   @Override
   public User getUser(Long id) {
-    Optional<User> result = userRepo.findById(id);
-    return result.orElse(null);
+    AuthenticatedUser principal = principalCache.getById(id, key -> userRepo.findById(key).orElse(null));
+    return principal != null ? principal.getUser() : null;
   }
 
 
@@ -35,17 +58,32 @@ public class UserImp implements UserService {
     if(userToUpdate.isPresent()){
       User existing = userToUpdate.get();
       // Do not allow password changes through generic update
+      String previousEmail = existing.getEmail();
       existing.setName(user.getName());
       existing.setAvatarInitials(user.getAvatarInitials());
       existing.setEmail(user.getEmail());
-      return userRepo.save(existing);
+      User saved = userRepo.save(existing);
+      principalCache.invalidate(saved.getId());
+      if (previousEmail != null && !previousEmail.equals(saved.getEmail())) {
+        registeredEmails.add(saved.getEmail());
+        jwtUtil.evictCachedTokens(previousEmail);
+      }
+      return saved;
     }
     return null;
   }
 
   @Override
   public void deleteUser(Long id) {
+    Optional<User> existing = userRepo.findById(id);
     userRepo.deleteById(id);
+    principalCache.invalidate(id);
+    cascadeEviction.userDeleted();
+    // Revoke outstanding tokens so they cannot be used if the email is registered again
+    existing.ifPresent(user -> {
+      tokenRevocationService.revokeAllForSubject(user.getEmail());
+      jwtUtil.evictCachedTokens(user.getEmail());
+    });
 
   }
 
@@ -57,6 +95,12 @@ public class UserImp implements UserService {
     if (registerDTO.getEmail() == null || registerDTO.getEmail().isBlank()){
       throw new IllegalArgumentException("Email is required");
     }
+    // Only emails the filter might know need the query; the unique constraint catches the rest.
+    // Checked before hashing so duplicates do not cost a BCrypt round
+    if (registeredEmails.mightExist(registerDTO.getEmail())
+        && userRepo.existsByEmail(registerDTO.getEmail())) {
+      throw new IllegalArgumentException("Email is already registered");
+    }
 
     // create entity and ensure we only set hashed password on entity
     User user = new User();
@@ -65,12 +109,24 @@ public class UserImp implements UserService {
     user.setAvatarInitials(registerDTO.getAvatarInitials());
     String hashed = passwordEncoder.encode(registerDTO.getPassword());
     user.setPasswordHash(hashed);
-    return userRepo.save(user);
+    User saved;
+    try {
+      saved = userRepo.save(user);
+    } catch (DataIntegrityViolationException e) {
+      // Registered on another instance since the filter last caught up, or concurrently
+      if (userRepo.existsByEmail(registerDTO.getEmail())) {
+        throw new IllegalArgumentException("Email is already registered");
+      }
+      throw e;
+    }
+    registeredEmails.add(saved.getEmail());
+    return saved;
   }
 
   public User findByEmail(String email){
-    Optional<User> result = userRepo.findByEmail(email);
-    return result.orElse(null);
+    AuthenticatedUser principal =
+        principalCache.getByEmail(email, key -> userRepo.findByEmail(key).orElse(null));
+    return principal != null ? principal.getUser() : null;
   }
 
   // Additional method to change password explicitly
@@ -82,8 +138,30 @@ public class UserImp implements UserService {
     if(userOpt.isEmpty()) return null;
     User user = userOpt.get();
     user.setPasswordHash(passwordEncoder.encode(rawPassword));
-    return userRepo.save(user);
+    User saved = userRepo.save(user);
+    principalCache.invalidate(userId);
+    tokenRevocationService.revokeAllForSubject(saved.getEmail());
+    jwtUtil.evictCachedTokens(saved.getEmail());
+    return saved;
   }
 
-
+  @Override
+  @Transactional
+  public void bumpMembershipVersions(Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return;
+    }
+    userRepo.incrementMembershipVersions(userIds);
+    userIds.forEach(principalCache::invalidate);
+    // A request between the update and the commit could re-cache the old version; drop it again
+    // once the new version is visible
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          userIds.forEach(principalCache::invalidate);
+        }
+      });
+    }
+  }
 }
@@ -2,6 +2,7 @@ package com.teamboard.service;
 
 import com.teamboard.DTO.RegisterDTO;
 import com.teamboard.entity.User;
+import java.util.Collection;
 import java.util.List;
 
 public interface UserService {
@@ -11,4 +12,6 @@ public interface UserService {
   void deleteUser(Long id);
   User createUser(RegisterDTO registerDTO);
   User findByEmail(String email);
+  // Marks workspace claims in the users' existing access tokens as stale
+  void bumpMembershipVersions(Collection<Long> userIds);
 }
@@ -1,33 +1,61 @@
 package com.teamboard.service;
 
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.WorkspaceResponseDTO;
 import com.teamboard.entity.Workspace;
 import com.teamboard.entity.MemberRole;
+import com.teamboard.pagination.Cursor;
+import com.teamboard.pagination.PageQuery;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.UserRepo;
 import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.security.PermissionCache;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class WorkspaceImp implements WorkspaceService {
   private final WorkspaceRepository workspaceRepository;
+  private final UserRepo userRepo;
   private final ObjectProvider<WorkspaceMemberService> workspaceMemberServiceProvider;
+  private final PermissionCache permissionCache;
+  private final ProjectRepo projectRepo;
 
   public WorkspaceImp(
       WorkspaceRepository workspaceRepository,
-      ObjectProvider<WorkspaceMemberService> workspaceMemberServiceProvider) {
+      UserRepo userRepo,
+      ObjectProvider<WorkspaceMemberService> workspaceMemberServiceProvider,
+      PermissionCache permissionCache,
+      ProjectRepo projectRepo) {
     this.workspaceRepository = workspaceRepository;
+    this.userRepo = userRepo;
     this.workspaceMemberServiceProvider = workspaceMemberServiceProvider;
+    this.permissionCache = permissionCache;
+    this.projectRepo = projectRepo;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<Workspace> getAllWorkspaces() {
     return workspaceRepository.findAll();
   }
 
   @Override
   public Workspace getWorkspace(Long id) {
-    return workspaceRepository.findById(id).orElse(null);
+    Workspace workspace = workspaceRepository.findById(id)
+        .filter(found -> !found.isDeleted()).orElse(null);
+    if (workspace != null && !Hibernate.isInitialized(workspace.getOwner())) {
+      // Served from the second-level cache, which skips the entity graph. Without a caller's
+      // transaction the proxy's session is closed by now, so the owner is read by id, from the
+      // users region when it is there
+      workspace.setOwner(userRepo.findById(workspace.getOwner().getId()).orElseThrow());
+    }
+    return workspace;
   }
 
   @Override
@@ -49,8 +77,11 @@ public class WorkspaceImp implements WorkspaceService {
   }
 
   @Override
+  @Transactional
   public Workspace updateWorkspace(Workspace workspace) {
-    Optional<Workspace> workspaceToUpdate = workspaceRepository.findById(workspace.getId());
+    // One transaction, so the merge below reuses the owner fetched with the lookup
+    Optional<Workspace> workspaceToUpdate = workspaceRepository.findById(workspace.getId())
+        .filter(found -> !found.isDeleted());
     if (workspaceToUpdate.isPresent()) {
       return workspaceRepository.save(workspace);
     }
@@ -58,28 +89,55 @@ public class WorkspaceImp implements WorkspaceService {
   }
 
   @Override
+  @Transactional
   public void deleteWorkspace(Long id) {
-    workspaceRepository.deleteById(id);
+    // Hidden from here on, with its projects; DeletionPurger removes them, their columns and tasks
+    // and the members in batches. Tokens must stop vouching for the workspace now
+    workspaceMemberServiceProvider.ifAvailable(memberService -> memberService.invalidateMembershipClaims(id));
+    LocalDateTime now = LocalDateTime.now();
+    if (workspaceRepository.markDeleted(id, now) > 0) {
+      projectRepo.markDeletedByWorkspaceId(id, now);
+    }
+    permissionCache.invalidateWorkspace(id);
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<Workspace> getWorkspacesByOwner(Long ownerId) {
     return workspaceRepository.findByOwnerId(ownerId);
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<WorkspaceResponseDTO> getWorkspaceResponsesByOwner(Long ownerId, PageQuery page) {
+    List<WorkspaceResponseDTO> rows =
+        workspaceRepository.findResponsesByOwnerId(ownerId, page.afterId(), page.fetchLimit());
+    return page.toPage(rows, workspace -> Cursor.of(workspace.getId()));
+  }
+
   @Override
   public Workspace findByOwnerIdAndName(Long ownerId, String name) {
     return workspaceRepository.findByOwnerIdAndName(ownerId, name).orElse(null);
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<Workspace> searchWorkspacesByName(String name) {
     return workspaceRepository.findByNameContainingIgnoreCase(name);
   }
 
   // New: workspaces owned by or shared with the user
   @Override
+  @Transactional(readOnly = true)
   public List<Workspace> getWorkspacesForUser(Long userId) {
     return workspaceRepository.findAllAccessibleByUser(userId);
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<WorkspaceResponseDTO> getWorkspaceResponsesForUser(Long userId, PageQuery page) {
+    List<WorkspaceResponseDTO> rows =
+        workspaceRepository.findResponsesAccessibleByUser(userId, page.afterId(), page.fetchLimit());
+    return page.toPage(rows, workspace -> Cursor.of(workspace.getId()));
+  }
 }
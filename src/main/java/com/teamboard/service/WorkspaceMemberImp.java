@@ -1,38 +1,52 @@
 package com.teamboard.service;
 
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.WorkspaceMemberResponseDTO;
 import com.teamboard.entity.Workspace;
 import com.teamboard.entity.WorkspaceMember;
 import com.teamboard.entity.User;
 import com.teamboard.entity.MemberRole;
+import com.teamboard.pagination.Cursor;
+import com.teamboard.pagination.PageQuery;
 import com.teamboard.repository.WorkspaceMemberRepository;
+import com.teamboard.security.PermissionCache;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class WorkspaceMemberImp implements WorkspaceMemberService {
+
+  private static final Logger log = LoggerFactory.getLogger(WorkspaceMemberImp.class);
+
   private final WorkspaceMemberRepository workspaceMemberRepository;
   private final WorkspaceService workspaceService;
   private final UserService userService;
+  private final PermissionCache permissionCache;
 
   public WorkspaceMemberImp(
       WorkspaceMemberRepository workspaceMemberRepository,
       WorkspaceService workspaceService,
-      UserService userService) {
+      UserService userService,
+      PermissionCache permissionCache) {
     this.workspaceMemberRepository = workspaceMemberRepository;
     this.workspaceService = workspaceService;
     this.userService = userService;
+    this.permissionCache = permissionCache;
   }
 
   @Override
   @Transactional
   public WorkspaceMember addMember(Long userId, Long workspaceId, MemberRole role) {
-    System.out.println("=== START addMember: userId=" + userId + ", workspaceId=" + workspaceId);
+    log.debug("Adding user {} to workspace {} as {}", userId, workspaceId, role);
 
     // Validate user exists
     User user = userService.getUser(userId);
-    System.out.println("=== After getUser: user=" + user);
 
     if (user == null) {
       throw new IllegalArgumentException("User not found with id: " + userId);
@@ -59,11 +73,15 @@ public class WorkspaceMemberImp implements WorkspaceMemberService {
             .role(role != null ? role : MemberRole.MEMBER)
             .build();
 
-    System.out.println("=== END addMember: member saved successfully");
-    return workspaceMemberRepository.save(member);
+    WorkspaceMember saved = workspaceMemberRepository.save(member);
+    log.debug("Added user {} to workspace {} as member {}", userId, workspaceId, saved.getId());
+    userService.bumpMembershipVersions(List.of(userId));
+    permissionCache.invalidate(userId, workspaceId);
+    return saved;
   }
 
   @Override
+  @Transactional
   public void removeMember(Long userId, Long workspaceId) {
     Optional<WorkspaceMember> member =
         workspaceMemberRepository.findByUserIdAndWorkspaceId(userId, workspaceId);
@@ -80,9 +98,12 @@ public class WorkspaceMemberImp implements WorkspaceMemberService {
     }
 
     workspaceMemberRepository.deleteById(member.get().getId());
+    userService.bumpMembershipVersions(List.of(userId));
+    permissionCache.invalidate(userId, workspaceId);
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<WorkspaceMember> getMembersOfWorkspace(Long workspaceId) {
     // Validate workspace exists
     Workspace workspace = workspaceService.getWorkspace(workspaceId);
@@ -94,6 +115,22 @@ public class WorkspaceMemberImp implements WorkspaceMemberService {
   }
 
   @Override
+  @Transactional(readOnly = true)
+  public CursorPage<WorkspaceMemberResponseDTO> getMemberResponsesOfWorkspace(Long workspaceId,
+      PageQuery page) {
+    // Validate workspace exists
+    Workspace workspace = workspaceService.getWorkspace(workspaceId);
+    if (workspace == null) {
+      throw new IllegalArgumentException("Workspace not found with id: " + workspaceId);
+    }
+
+    List<WorkspaceMemberResponseDTO> rows = workspaceMemberRepository.findResponsesByWorkspaceId(
+        workspaceId, page.afterId(), page.fetchLimit());
+    return page.toPage(rows, member -> Cursor.of(member.getId()));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
   public List<WorkspaceMember> getUserWorkspaces(Long userId) {
     // Validate user exists
     User user = userService.getUser(userId);
@@ -110,6 +147,7 @@ public class WorkspaceMemberImp implements WorkspaceMemberService {
   }
 
   @Override
+  @Transactional
   public WorkspaceMember updateMemberRole(
       Long userId, Long workspaceId, MemberRole newRole) {
     Optional<WorkspaceMember> member =
@@ -122,7 +160,21 @@ public class WorkspaceMemberImp implements WorkspaceMemberService {
 
     WorkspaceMember existingMember = member.get();
     existingMember.setRole(newRole);
-    return workspaceMemberRepository.save(existingMember);
+    WorkspaceMember saved = workspaceMemberRepository.save(existingMember);
+    userService.bumpMembershipVersions(List.of(userId));
+    permissionCache.invalidate(userId, workspaceId);
+    return saved;
+  }
+
+  @Override
+  @Transactional
+  public void invalidateMembershipClaims(Long workspaceId) {
+    Set<Long> userIds = new HashSet<>(workspaceMemberRepository.findUserIdsByWorkspaceId(workspaceId));
+    Workspace workspace = workspaceService.getWorkspace(workspaceId);
+    if (workspace != null) {
+      userIds.add(workspace.getOwner().getId());
+    }
+    userService.bumpMembershipVersions(userIds);
   }
 }
 
@@ -1,7 +1,10 @@
 package com.teamboard.service;
 
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.WorkspaceMemberResponseDTO;
 import com.teamboard.entity.WorkspaceMember;
 import com.teamboard.entity.MemberRole;
+import com.teamboard.pagination.PageQuery;
 import java.util.List;
 
 public interface WorkspaceMemberService {
@@ -11,10 +14,15 @@ public interface WorkspaceMemberService {
 
   List<WorkspaceMember> getMembersOfWorkspace(Long workspaceId);
 
+  CursorPage<WorkspaceMemberResponseDTO> getMemberResponsesOfWorkspace(Long workspaceId, PageQuery page);
+
   List<WorkspaceMember> getUserWorkspaces(Long userId);
 
   WorkspaceMember getMember(Long userId, Long workspaceId);
 
   WorkspaceMember updateMemberRole(Long userId, Long workspaceId, MemberRole newRole);
+
+  // Bumps the membership version of everyone with access to the workspace, e.g. before deleting it
+  void invalidateMembershipClaims(Long workspaceId);
 }
 
@@ -1,6 +1,9 @@
 package com.teamboard.service;
 
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.WorkspaceResponseDTO;
 import com.teamboard.entity.Workspace;
+import com.teamboard.pagination.PageQuery;
 import java.util.List;
 
 public interface WorkspaceService {
@@ -16,9 +19,13 @@ public interface WorkspaceService {
 
   List<Workspace> getWorkspacesByOwner(Long ownerId);
 
+  CursorPage<WorkspaceResponseDTO> getWorkspaceResponsesByOwner(Long ownerId, PageQuery page);
+
   Workspace findByOwnerIdAndName(Long ownerId, String name);
 
   List<Workspace> searchWorkspacesByName(String name);
 
   List<Workspace> getWorkspacesForUser(Long userId);
+
+  CursorPage<WorkspaceResponseDTO> getWorkspaceResponsesForUser(Long userId, PageQuery page);
 }
@@ -0,0 +1,178 @@
+package com.teamboard.taskimport;
+
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.Priority;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads RFC 4180 CSV: comma separated, fields optionally quoted with {@code "}, quotes inside a
+ * quoted field doubled, and line breaks allowed inside quoted fields. The first record is a header
+ * naming the {@link TaskImportRow} fields (case-insensitive, in any order); other header names are
+ * ignored and only {@code title} is required. Empty fields are null. Blank lines are skipped.
+ */
+public class CsvTaskRowSource implements TaskRowSource {
+
+  private static final String[] FIELDS =
+      {"title", "description", "column", "priority", "duedate", "assignedtoid"};
+
+  private final BufferedReader reader;
+  // Record position of each field in FIELDS order, -1 when the header lacks it
+  private int[] positions;
+  private long line = 1;
+  private boolean unterminated;
+
+  public CsvTaskRowSource(BufferedReader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * @throws IllegalArgumentException if the header has no title column
+   */
+  @Override
+  public ParsedRow next() throws IOException {
+    if (positions == null) {
+      List<String> header = readRecord();
+      if (header == null) {
+        return null;
+      }
+      positions = positionsOf(header);
+    }
+    List<String> record;
+    long start;
+    do {
+      start = line;
+      record = readRecord();
+      if (record == null) {
+        return null;
+      }
+    } while (record.size() == 1 && record.get(0).isBlank());
+
+    if (unterminated) {
+      return ParsedRow.failed(start, "Unterminated quoted field");
+    }
+    try {
+      return ParsedRow.of(start, new TaskImportRow(
+          field(record, 0),
+          field(record, 1),
+          enumField(record, 2, ColumnName.class),
+          enumField(record, 3, Priority.class),
+          dueDate(field(record, 4)),
+          assignedToId(field(record, 5))));
+    } catch (IllegalArgumentException e) {
+      return ParsedRow.failed(start, e.getMessage());
+    }
+  }
+
+  private static int[] positionsOf(List<String> header) {
+    int[] positions = new int[FIELDS.length];
+    for (int f = 0; f < FIELDS.length; f++) {
+      positions[f] = -1;
+      for (int i = 0; i < header.size(); i++) {
+        if (header.get(i).strip().replace("_", "").equalsIgnoreCase(FIELDS[f])) {
+          positions[f] = i;
+          break;
+        }
+      }
+    }
+    if (positions[0] < 0) {
+      throw new IllegalArgumentException("CSV header must include a title column");
+    }
+    return positions;
+  }
+
+  private String field(List<String> record, int field) {
+    int position = positions[field];
+    if (position < 0 || position >= record.size() || record.get(position).isEmpty()) {
+      return null;
+    }
+    return record.get(position);
+  }
+
+  private <E extends Enum<E>> E enumField(List<String> record, int field, Class<E> type) {
+    String value = field(record, field);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Enum.valueOf(type, value.strip().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid " + FIELDS[field] + ": " + value);
+    }
+  }
+
+  private static LocalDateTime dueDate(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return LocalDateTime.parse(value.strip());
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid dueDate: " + value);
+    }
+  }
+
+  private static Long assignedToId(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Long.valueOf(value.strip());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid assignedToId: " + value);
+    }
+  }
+
+  /**
+   * Reads the next record, or returns null at the end of the input.
+   */
+  private List<String> readRecord() throws IOException {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    boolean read = false;
+    unterminated = false;
+    int c;
+    while ((c = reader.read()) != -1) {
+      read = true;
+      if (quoted) {
+        if (c != '"') {
+          if (c == '\n') {
+            line++;
+          }
+          field.append((char) c);
+          continue;
+        }
+        reader.mark(1);
+        if (reader.read() == '"') {
+          field.append('"');
+        } else {
+          reader.reset();
+          quoted = false;
+        }
+      } else if (c == '"' && field.isEmpty()) {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n') {
+        line++;
+        fields.add(field.toString());
+        return fields;
+      } else if (c != '\r') {
+        field.append((char) c);
+      }
+    }
+    if (!read) {
+      return null;
+    }
+    unterminated = quoted;
+    fields.add(field.toString());
+    return fields;
+  }
+}
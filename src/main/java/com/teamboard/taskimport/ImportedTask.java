@@ -0,0 +1,19 @@
+package com.teamboard.taskimport;
+
+import com.teamboard.entity.Priority;
+import java.time.LocalDateTime;
+
+/**
+ * A row that passed validation, with its column resolved, ready for {@link TaskBatchWriter}.
+ * {@code done} says whether that column is DONE, in which case the task is imported completed.
+ */
+public record ImportedTask(
+    long line,
+    String title,
+    String description,
+    long columnId,
+    boolean done,
+    Priority priority,
+    LocalDateTime dueDate,
+    Long assignedToId) {
+}
@@ -0,0 +1,38 @@
+package com.teamboard.taskimport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Reads one JSON object per line, keyed like {@link TaskImportRow}. Blank lines are skipped.
+ */
+public class JsonLinesTaskRowSource implements TaskRowSource {
+
+  private final BufferedReader reader;
+  private final ObjectMapper objectMapper;
+  private long line;
+
+  public JsonLinesTaskRowSource(BufferedReader reader, ObjectMapper objectMapper) {
+    this.reader = reader;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public ParsedRow next() throws IOException {
+    String text;
+    while ((text = reader.readLine()) != null) {
+      line++;
+      if (text.isBlank()) {
+        continue;
+      }
+      try {
+        return ParsedRow.of(line, objectMapper.readValue(text, TaskImportRow.class));
+      } catch (JacksonException e) {
+        return ParsedRow.failed(line, "Invalid JSON: " + e.getOriginalMessage());
+      }
+    }
+    return null;
+  }
+}
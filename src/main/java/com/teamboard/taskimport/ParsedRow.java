@@ -0,0 +1,16 @@
+package com.teamboard.taskimport;
+
+/**
+ * A row read by a {@link TaskRowSource}: either the row, or the reason it could not be read.
+ * @param line line of the input the row starts on, counting from 1
+ */
+public record ParsedRow(long line, TaskImportRow row, String error) {
+
+  public static ParsedRow of(long line, TaskImportRow row) {
+    return new ParsedRow(line, row, null);
+  }
+
+  public static ParsedRow failed(long line, String error) {
+    return new ParsedRow(line, null, error);
+  }
+}
@@ -0,0 +1,184 @@
+package com.teamboard.taskimport;
+
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.ranking.TaskRanker;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Inserts one batch of imported tasks in its own transaction. On PostgreSQL the batch is streamed
+ * with {@code COPY}; elsewhere, or with {@code task-import.copy-enabled=false}, it is persisted
+ * through Hibernate in JDBC batches of the configured size. Imported tasks go to the bottom of
+ * their columns, in the order of the import, and those imported into DONE are completed now.
+ */
+@Component
+public class TaskBatchWriter {
+
+  private static final String COPY_SQL = "COPY tasks (id, title, description, project_id, column_id,"
+      + " assigned_to, priority, due_date, created_by, created_at, updated_at, completed_at, rank)"
+      + " FROM STDIN WITH (FORMAT csv)";
+
+  // Ids per nextval of tasks_id_seq: allocationSize on Task, and the increment set in V11
+  private static final int ID_BLOCK = 50;
+
+  private final EntityManager entityManager;
+  private final JdbcTemplate jdbcTemplate;
+  private final TaskRanker taskRanker;
+  private final boolean copyEnabled;
+  private final int batchSize;
+
+  public TaskBatchWriter(EntityManager entityManager, JdbcTemplate jdbcTemplate,
+      TaskRanker taskRanker,
+      @Value("${task-import.copy-enabled:true}") boolean copyEnabled,
+      @Value("${task-import.batch-size:1000}") int batchSize) {
+    this.entityManager = entityManager;
+    this.jdbcTemplate = jdbcTemplate;
+    this.taskRanker = taskRanker;
+    this.copyEnabled = copyEnabled;
+    this.batchSize = batchSize;
+  }
+
+  @Transactional
+  public void write(long projectId, long createdById, List<ImportedTask> tasks) {
+    List<String> ranks = ranks(tasks);
+    boolean copied = copyEnabled && jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+      if (!connection.isWrapperFor(PGConnection.class)) {
+        return false;
+      }
+      copy(connection, projectId, createdById, tasks, ranks);
+      return true;
+    });
+    if (!copied) {
+      persist(projectId, createdById, tasks, ranks);
+    }
+  }
+
+  // Keys after each column's last card, in import order. The columns are locked in id order, so
+  // two imports into the same project cannot deadlock on them
+  private List<String> ranks(List<ImportedTask> tasks) {
+    Map<Long, Integer> counts = new TreeMap<>();
+    for (ImportedTask task : tasks) {
+      counts.merge(task.columnId(), 1, Integer::sum);
+    }
+    Map<Long, Iterator<String>> keys = new HashMap<>();
+    counts.forEach((columnId, count) ->
+        keys.put(columnId, taskRanker.append(columnId, count).iterator()));
+    return tasks.stream().map(task -> keys.get(task.columnId()).next()).toList();
+  }
+
+  private void persist(long projectId, long createdById, List<ImportedTask> tasks,
+      List<String> ranks) {
+    entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+    LocalDateTime now = LocalDateTime.now();
+    Project project = entityManager.getReference(Project.class, projectId);
+    User createdBy = entityManager.getReference(User.class, createdById);
+    for (int i = 0; i < tasks.size(); i++) {
+      ImportedTask task = tasks.get(i);
+      entityManager.persist(Task.builder()
+          .title(task.title())
+          .description(task.description())
+          .project(project)
+          .column(entityManager.getReference(BoardColumn.class, task.columnId()))
+          .assignedTo(task.assignedToId() != null
+              ? entityManager.getReference(User.class, task.assignedToId()) : null)
+          .priority(task.priority())
+          .dueDate(task.dueDate())
+          .createdBy(createdBy)
+          .completedAt(task.done() ? now : null)
+          .rank(ranks.get(i))
+          .build());
+    }
+    // Keeps the persistence context from growing across batches
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private void copy(Connection connection, long projectId, long createdById, List<ImportedTask> tasks,
+      List<String> ranks) throws SQLException {
+    List<Long> ids = allocateIds(connection, tasks.size());
+    String now = timestamp(LocalDateTime.now());
+    StringBuilder csv = new StringBuilder(tasks.size() * 128);
+    for (int i = 0; i < tasks.size(); i++) {
+      ImportedTask task = tasks.get(i);
+      csv.append(ids.get(i)).append(',');
+      quote(csv, task.title()).append(',');
+      quote(csv, task.description()).append(',');
+      csv.append(projectId).append(',')
+          .append(task.columnId()).append(',')
+          .append(task.assignedToId() != null ? task.assignedToId().toString() : "").append(',')
+          .append(task.priority().name()).append(',')
+          .append(task.dueDate() != null ? timestamp(task.dueDate()) : "").append(',')
+          .append(createdById).append(',')
+          .append(now).append(',')
+          .append(now).append(',')
+          .append(task.done() ? now : "").append(',')
+          .append(ranks.get(i)).append('\n');
+    }
+    try {
+      connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(csv.toString()));
+    } catch (IOException e) {
+      throw new DataAccessResourceFailureException("COPY into tasks failed", e);
+    }
+  }
+
+  /**
+   * Takes ids from tasks_id_seq the way Hibernate's pooled optimizer does, a block of
+   * {@link #ID_BLOCK} ending at each value returned, so they never collide with ids handed to the
+   * application.
+   */
+  private static List<Long> allocateIds(Connection connection, int count) throws SQLException {
+    List<Long> ids = new ArrayList<>(count + ID_BLOCK);
+    try (PreparedStatement statement = connection.prepareStatement(
+        "select nextval('tasks_id_seq') from generate_series(1, ?)")) {
+      while (ids.size() < count) {
+        statement.setInt(1, (count - ids.size() + ID_BLOCK - 1) / ID_BLOCK);
+        try (ResultSet rs = statement.executeQuery()) {
+          while (rs.next()) {
+            long hi = rs.getLong(1);
+            // The first value of a fresh sequence is 1, with no block below it
+            for (long id = Math.max(1, hi - ID_BLOCK + 1); id <= hi; id++) {
+              ids.add(id);
+            }
+          }
+        }
+      }
+    }
+    return ids;
+  }
+
+  private static StringBuilder quote(StringBuilder csv, String value) {
+    // An unquoted empty field is NULL in COPY's csv format
+    if (value != null) {
+      csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+    return csv;
+  }
+
+  private static String timestamp(LocalDateTime value) {
+    return value.truncatedTo(ChronoUnit.MICROS).toString();
+  }
+}
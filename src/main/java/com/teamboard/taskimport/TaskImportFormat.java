@@ -0,0 +1,35 @@
+package com.teamboard.taskimport;
+
+import java.io.BufferedReader;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Body formats accepted by the task import endpoint, told apart by the request's content type.
+ */
+public enum TaskImportFormat {
+  CSV,
+  JSON_LINES;
+
+  public static final String CSV_TYPE = "text/csv";
+  public static final String NDJSON_TYPE = "application/x-ndjson";
+  public static final String JSONL_TYPE = "application/jsonl";
+
+  /**
+   * @throws IllegalArgumentException for any other content type
+   */
+  public static TaskImportFormat of(MediaType contentType) {
+    if (contentType.isCompatibleWith(MediaType.valueOf(CSV_TYPE))) {
+      return CSV;
+    }
+    if (contentType.isCompatibleWith(MediaType.valueOf(NDJSON_TYPE))
+        || contentType.isCompatibleWith(MediaType.valueOf(JSONL_TYPE))) {
+      return JSON_LINES;
+    }
+    throw new IllegalArgumentException("Unsupported import format: " + contentType);
+  }
+
+  public TaskRowSource rows(BufferedReader reader, ObjectMapper objectMapper) {
+    return this == CSV ? new CsvTaskRowSource(reader) : new JsonLinesTaskRowSource(reader, objectMapper);
+  }
+}
@@ -0,0 +1,19 @@
+package com.teamboard.taskimport;
+
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.Priority;
+import java.time.LocalDateTime;
+
+/**
+ * One task as read from an import file, before it is checked against the project. The field
+ * names are the CSV header names and the JSON keys. A missing column means the Backlog column,
+ * a missing priority means MEDIUM.
+ */
+public record TaskImportRow(
+    String title,
+    String description,
+    ColumnName column,
+    Priority priority,
+    LocalDateTime dueDate,
+    Long assignedToId) {
+}
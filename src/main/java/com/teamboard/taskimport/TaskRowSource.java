@@ -0,0 +1,16 @@
+package com.teamboard.taskimport;
+
+import java.io.IOException;
+
+/**
+ * Reads import rows one at a time from a stream, so an import holds only the current batch in
+ * memory however large the body is. A row that cannot be read is returned as a failed
+ * {@link ParsedRow} and reading carries on with the next one.
+ */
+public interface TaskRowSource {
+
+  /**
+   * @return the next row, or null at the end of the input
+   */
+  ParsedRow next() throws IOException;
+}
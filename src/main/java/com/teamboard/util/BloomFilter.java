@@ -0,0 +1,96 @@
+package com.teamboard.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings. {@link #mightContain} never returns false for a value that
+ * was {@link #put}, and returns true for an absent value with roughly the configured probability.
+ * Puts and lookups are lock-free and may run concurrently; entries cannot be removed, so callers
+ * rebuild a fresh filter when their set shrinks or outgrows the sizing.
+ */
+public final class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+  private final long expectedInsertions;
+
+  /**
+   * @param expectedInsertions number of values the filter is sized for
+   * @param falsePositiveRate target false positive rate at that size, e.g. 0.01
+   */
+  public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+    }
+    long n = Math.max(1, expectedInsertions);
+    long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+    this.words = new AtomicLongArray(wordCount);
+    this.bitCount = (long) wordCount << 6;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    this.expectedInsertions = n;
+  }
+
+  public void put(CharSequence value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long bit = index(h1 + (long) i * h2);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      long current = words.get(word);
+      while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+        current = words.get(word);
+      }
+    }
+  }
+
+  public boolean mightContain(CharSequence value) {
+    long hash = hash(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long bit = index(h1 + (long) i * h2);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public long expectedInsertions() {
+    return expectedInsertions;
+  }
+
+  public long bitCount() {
+    return bitCount;
+  }
+
+  public int hashCount() {
+    return hashCount;
+  }
+
+  private long index(long combined) {
+    return (combined & Long.MAX_VALUE) % bitCount;
+  }
+
+  /**
+   * 64-bit hash over the characters, finished with the murmur3 fmix64 step. The two 32-bit halves
+   * seed the double hashing scheme (Kirsch and Mitzenmacher).
+   */
+  static long hash(CharSequence value) {
+    long h = 0x9e3779b97f4a7c15L ^ value.length();
+    for (int i = 0, n = value.length(); i < n; i++) {
+      h = (h ^ value.charAt(i)) * 0x100000001b3L;
+      h = Long.rotateLeft(h, 23);
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -1,23 +1,36 @@
 package com.teamboard.util;
 
+import com.teamboard.security.TokenRevocationService;
+import com.teamboard.security.jwt.CachingTokenVerifier;
+import com.teamboard.security.jwt.Hs256TokenVerifier;
+import com.teamboard.security.jwt.JjwtTokenVerifier;
+import com.teamboard.security.jwt.TokenVerifier;
+import com.teamboard.security.jwt.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
 import javax.crypto.SecretKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
 
-
-  @PostConstruct
-  public void debug() {
-    System.out.println("JWT secret length = " + secret.length());
-  }
+  private static final Logger log = LoggerFactory.getLogger(JwtUtil.class);
 
   @Value("${jwt.secret}")
   private String secret;
@@ -28,71 +41,150 @@ public class JwtUtil {
   @Value("${jwt.refreshTokenExpiration:604800000}")
   private long refreshTokenExpiration;
 
-  private SecretKey getSigningKey() {
-    return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+  // "hs256" (default) uses the allocation-free verifier with jjwt as fallback; "jjwt" uses jjwt only
+  @Value("${jwt.verifier:hs256}")
+  private String verifierType;
+
+  // Off by default so latency can be compared with and without it
+  @Value("${jwt.verified-cache.enabled:false}")
+  private boolean verifiedCacheEnabled;
+
+  @Value("${jwt.verified-cache.max-size:100000}")
+  private long verifiedCacheMaxSize;
+
+  @Value("${jwt.verified-cache.max-ttl:PT24H}")
+  private Duration verifiedCacheMaxTtl;
+
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+  private final TokenRevocationService tokenRevocationService;
+
+  // Built once: decoding the secret and building a parser on every call was the main per-request cost.
+  // JwtParser is immutable and thread-safe.
+  private SecretKey signingKey;
+  private JwtParser parser;
+  private TokenVerifier verifier;
+  private CachingTokenVerifier verifiedCache;
+
+  public JwtUtil(ObjectProvider<MeterRegistry> meterRegistry,
+      TokenRevocationService tokenRevocationService) {
+    this.meterRegistry = meterRegistry;
+    this.tokenRevocationService = tokenRevocationService;
+  }
+
+  @PostConstruct
+  public void init() {
+    log.debug("JWT secret length = {}", secret.length());
+    signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    parser = Jwts.parserBuilder()
+        .setSigningKey(signingKey)
+        .build();
+    TokenVerifier jjwt = new JjwtTokenVerifier(parser);
+    verifier = "jjwt".equalsIgnoreCase(verifierType)
+        ? jjwt
+        : new Hs256TokenVerifier(signingKey.getEncoded(), jjwt);
+    if (verifiedCacheEnabled) {
+      verifiedCache = new CachingTokenVerifier(verifier, verifiedCacheMaxSize, verifiedCacheMaxTtl);
+      verifier = verifiedCache;
+      meterRegistry.ifAvailable(registry ->
+          CaffeineCacheMetrics.monitor(registry, verifiedCache.cache(), "verified_tokens"));
+    }
   }
 
   public String generateToken(String username){
+    return generateToken(username, Map.of());
+  }
+
+  /**
+   * Access token with additional private claims, e.g. those built by {@code AccessTokenClaims}.
+   */
+  public String generateToken(String username, Map<String, Object> claims){
     return Jwts.builder()
+        .addClaims(claims)
+        .setId(UUID.randomUUID().toString())
         .setSubject(username)
-        .setIssuedAt(new Date(System.currentTimeMillis()))
+        .setIssuedAt(new Date(tokenRevocationService.issuedAtMillis(username)))
         .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-        .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+        .signWith(signingKey, SignatureAlgorithm.HS256)
         .compact();
   }
   public String generateRefreshToken(String username){
     return Jwts.builder()
+        .setId(UUID.randomUUID().toString())
         .setSubject(username)
-        .setIssuedAt(new Date(System.currentTimeMillis()))
+        .setIssuedAt(new Date(tokenRevocationService.issuedAtMillis(username)))
         .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
-        .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+        .signWith(signingKey, SignatureAlgorithm.HS256)
         .compact();
 
   }
 
-  public String extractUsername(String token){
+  /**
+   * Verifies the signature and expiry of a token and returns its claims. Does not consult the
+   * revocation list; use {@link #verify} to authenticate requests.
+   * @param token compact JWS string
+   * @return the verified claims, or null if the token is malformed, tampered with or expired
+   */
+  public Claims parseClaims(String token){
+    if (token == null || token.isEmpty()) {
+      return null;
+    }
     try {
-      String subject = Jwts.parserBuilder()
-          .setSigningKey(getSigningKey())
-          .build()
-          .parseClaimsJws(token)
-          .getBody()
-          .getSubject();
-      System.out.println("✅ extractUsername success: " + subject);
-      return subject;
-    }catch (Exception e){
-      System.out.println("❌ extractUsername FAILED: " + e.getMessage());
-      e.printStackTrace();
+      return parser.parseClaimsJws(token).getBody();
+    } catch (JwtException | IllegalArgumentException e) {
       return null;
     }
   }
 
+  /**
+   * Verifies the signature, expiry and revocation status of a token on the request path.
+   * @param token compact JWS string
+   * @return claims of the token, or null if it is malformed, tampered with, expired or revoked
+   */
+  public VerifiedToken verify(String token){
+    if (token == null || token.isEmpty()) {
+      return null;
+    }
+    VerifiedToken verified = verifier.verify(token);
+    // Checked after the verified-token cache so revocations apply to cached tokens immediately
+    if (verified != null && tokenRevocationService.isRevoked(verified)) {
+      return null;
+    }
+    return verified;
+  }
 
-  public boolean validateToken(String Token){
-    try {
-      Jwts.parserBuilder()
-          .setSigningKey(getSigningKey())
-          .build()
-          .parseClaimsJws(Token);
-      return true;
-    }catch(Exception e){
-      return false;
+  /**
+   * Forgets a cached verification so the next request re-verifies the token. No-op when the
+   * verified-token cache is disabled.
+   */
+  public void evictCachedToken(String token){
+    if (verifiedCache != null && token != null) {
+      verifiedCache.evict(token);
     }
   }
 
-  public boolean isTokenExpired(String token){
-    try{
-      Date expiration = Jwts.parserBuilder()
-          .setSigningKey(getSigningKey())
-          .build()
-          .parseClaimsJws(token)
-          .getBody()
-          .getExpiration();
-      return expiration.before(new Date());
-    }catch(Exception e){
-      return true;
+  /**
+   * Forgets every cached verification for a subject (user email), e.g. after a password change.
+   */
+  public void evictCachedTokens(String subject){
+    if (verifiedCache != null && subject != null) {
+      verifiedCache.evictSubject(subject);
     }
   }
 
-}
+  public String extractUsername(String token){
+    VerifiedToken verified = verify(token);
+    return verified != null ? verified.subject() : null;
+  }
+
+
+  public boolean validateToken(String token){
+    return verify(token) != null;
+  }
 
+  public boolean isTokenExpired(String token){
+    // verify rejects expired tokens, so any token it cannot verify counts as expired
+    VerifiedToken verified = verify(token);
+    return verified == null || verified.isExpired(System.currentTimeMillis());
+  }
+
+}
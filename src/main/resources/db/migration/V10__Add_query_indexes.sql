@@ -0,0 +1,13 @@
+-- Indexes matched to the repository queries. QueryPlanTests explains every repository query on a
+-- seeded database and fails on a sequential scan or an explicit sort, so a query added or changed
+-- without a matching index shows up there.
+
+-- TaskRepository.findByColumnIdOrderByCreatedAtDesc and
+-- findByProjectIdAndColumnIdOrderByCreatedAtDesc: a column's tasks, already in created_at order.
+-- A column belongs to a single project, so the project condition only filters these rows
+CREATE INDEX idx_tasks_column_created_at_id ON tasks(column_id, created_at DESC, id DESC);
+DROP INDEX idx_tasks_column;
+
+-- Same columns as the indexes behind unique constraints, which serve the same lookups
+DROP INDEX idx_users_email;
+DROP INDEX idx_board_columns_project;
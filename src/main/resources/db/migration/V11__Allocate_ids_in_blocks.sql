@@ -0,0 +1,11 @@
+-- Ids are drawn from the BIGSERIAL sequences by Hibernate's pooled optimizer: each nextval hands
+-- the application the block of 50 ids ending at the returned value, so an insert needs no round
+-- trip for its id and inserts can be batched. The increment must match allocationSize on the
+-- entities. Existing ids are untouched and new blocks start after the last one handed out; the
+-- column defaults still work for rows inserted outside the application.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE workspaces_id_seq INCREMENT BY 50;
+ALTER SEQUENCE workspace_members_id_seq INCREMENT BY 50;
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+ALTER SEQUENCE board_columns_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
@@ -0,0 +1,4 @@
+-- Optimistic locking for tasks: every update bumps the version, and a move only applies while the
+-- task is still at the version the client last read, so concurrent moves of one card cannot
+-- silently overwrite each other. Rows inserted outside Hibernate (COPY imports) start at 0
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
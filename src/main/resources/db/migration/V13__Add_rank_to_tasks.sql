@@ -0,0 +1,19 @@
+-- Order of cards within a column as fractional keys (RankKeys), compared byte by byte, hence the
+-- "C" collation. Placing a card writes only its own row: the key goes between its neighbours'.
+-- Existing cards keep the order columns showed them in, newest first, as evenly stepped keys: an
+-- 8-digit integer ("h" plus the digits) per card
+ALTER TABLE tasks ADD COLUMN rank VARCHAR(255) COLLATE "C";
+
+UPDATE tasks t
+SET rank = 'h' || lpad(ordered.n::text, 8, '0')
+FROM (
+    SELECT id, row_number() OVER (PARTITION BY column_id ORDER BY created_at DESC, id DESC) AS n
+    FROM tasks
+) ordered
+WHERE t.id = ordered.id;
+
+ALTER TABLE tasks ALTER COLUMN rank SET NOT NULL;
+
+-- A column's cards in board order, and the neighbour lookups when a card is placed. Equal keys,
+-- which bulk moves can leave, are ordered by id
+CREATE INDEX idx_tasks_column_rank_id ON tasks(column_id, rank, id);
@@ -0,0 +1,12 @@
+-- Deleting a workspace or project only marks it; every read path leaves marked rows out, and
+-- DeletionPurger removes them with their columns, tasks and members in small batches later
+ALTER TABLE workspaces ADD COLUMN deleted_at TIMESTAMP;
+ALTER TABLE projects ADD COLUMN deleted_at TIMESTAMP;
+
+-- The purge backlog, oldest first. Only marked rows are indexed, so these stay as small as it is
+CREATE INDEX idx_workspaces_deleted ON workspaces(deleted_at, id) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_projects_deleted ON projects(deleted_at, id) WHERE deleted_at IS NOT NULL;
+
+-- A deleted workspace keeps its row until it is purged, but its name is free again at once
+ALTER TABLE workspaces DROP CONSTRAINT uk_workspaces_owner_name;
+CREATE UNIQUE INDEX uk_workspaces_owner_name ON workspaces(owner_id, name) WHERE deleted_at IS NULL;
@@ -0,0 +1,35 @@
+-- Cold storage for tasks completed long ago. TaskArchiver moves them here in batches, so tasks,
+-- its indexes and its vacuums only hold the cards boards actually show. Rows keep their id, and
+-- the same columns as tasks plus the time they were archived
+CREATE TABLE tasks_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    project_id BIGINT NOT NULL,
+    column_id BIGINT NOT NULL,
+    assigned_to BIGINT,
+    priority VARCHAR(50) NOT NULL,
+    due_date TIMESTAMP,
+    created_by BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP NOT NULL,
+    rank VARCHAR(255) COLLATE "C" NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_tasks_archive_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+    CONSTRAINT fk_tasks_archive_column FOREIGN KEY (column_id) REFERENCES board_columns(id) ON DELETE CASCADE,
+    CONSTRAINT fk_tasks_archive_assigned_to FOREIGN KEY (assigned_to) REFERENCES users(id) ON DELETE SET NULL,
+    CONSTRAINT fk_tasks_archive_created_by FOREIGN KEY (created_by) REFERENCES users(id) ON DELETE SET NULL
+);
+
+-- GET /api/projects/{projectId}/tasks?includeArchived=true reads the same keyset range here as
+-- in tasks; the others serve the foreign key checks on delete
+CREATE INDEX idx_tasks_archive_project_created_at_id ON tasks_archive(project_id, created_at DESC, id DESC);
+CREATE INDEX idx_tasks_archive_column ON tasks_archive(column_id);
+CREATE INDEX idx_tasks_archive_assigned_to ON tasks_archive(assigned_to);
+CREATE INDEX idx_tasks_archive_created_by ON tasks_archive(created_by);
+
+-- The archive backlog, oldest completion first. Only completed tasks are indexed, and those leave
+-- the table once archived, so this stays small
+CREATE INDEX idx_tasks_completed_at_id ON tasks(completed_at, id) WHERE completed_at IS NOT NULL;
@@ -0,0 +1,3 @@
+-- RegisteredEmailFilter catches up every few seconds with the users created or renamed since its
+-- last pass, a short range at the end of this index
+CREATE INDEX idx_users_updated_at ON users(updated_at);
@@ -0,0 +1,3 @@
+-- Bumped whenever a user's workspace memberships change; access tokens embed the value
+-- so that tokens minted before the change stop being trusted for authorization
+ALTER TABLE users ADD COLUMN membership_version BIGINT NOT NULL DEFAULT 0;
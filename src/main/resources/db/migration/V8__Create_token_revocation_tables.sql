@@ -0,0 +1,18 @@
+-- Revoked token ids (jti). Rows are pruned once the token would have expired anyway.
+CREATE TABLE revoked_tokens (
+    token_id VARCHAR(64) PRIMARY KEY,
+    expires_at BIGINT NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
+
+-- Tokens for a subject issued before not_before are rejected (logout everywhere, password change).
+-- expires_at is not_before plus the longest token lifetime; after that no affected token is left.
+CREATE TABLE token_cutoffs (
+    subject VARCHAR(255) PRIMARY KEY,
+    not_before BIGINT NOT NULL,
+    expires_at BIGINT NOT NULL
+);
+
+CREATE INDEX idx_token_cutoffs_expires_at ON token_cutoffs(expires_at);
@@ -0,0 +1,26 @@
+-- Keyset pagination: every list endpoint reads one range of one of these indexes in its sort
+-- order and stops after the page, however far into the list the cursor points.
+
+-- GET /api/projects/{projectId}/tasks: project_id = ? and (created_at, id) < (?, ?)
+-- order by created_at desc, id desc
+CREATE INDEX idx_tasks_project_created_at_id ON tasks(project_id, created_at DESC, id DESC);
+
+-- GET /api/workspaces/{workspaceId}/projects: workspace_id = ? and id > ? order by id
+CREATE INDEX idx_projects_workspace_id_id ON projects(workspace_id, id);
+
+-- GET /api/workspaces/{workspaceId}/members: workspace_id = ? and id > ? order by id
+CREATE INDEX idx_workspace_members_workspace_id_id ON workspace_members(workspace_id, id);
+
+-- GET /api/workspaces/owner/{ownerId}: owner_id = ? and id > ? order by id
+CREATE INDEX idx_workspaces_owner_id_id ON workspaces(owner_id, id);
+
+-- GET /api/workspaces: the workspace ids a user is a member of, read from the index alone
+CREATE INDEX idx_workspace_members_user_workspace ON workspace_members(user_id, workspace_id);
+
+-- Each of these is a leading prefix of an index above, which serves the same lookups and the
+-- foreign key checks on delete
+DROP INDEX idx_tasks_project;
+DROP INDEX idx_projects_workspace;
+DROP INDEX idx_workspace_members_workspace;
+DROP INDEX idx_workspaces_owner;
+DROP INDEX idx_workspace_members_user;
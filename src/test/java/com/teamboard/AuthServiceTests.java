@@ -4,8 +4,12 @@ package com.teamboard;
 import com.teamboard.DTO.AuthRequest;
 import com.teamboard.DTO.AuthResponse;
 import com.teamboard.entity.User;
+import com.teamboard.security.TokenRevocationService;
+import com.teamboard.security.jwt.VerifiedToken;
 import com.teamboard.service.AuthService;
 import com.teamboard.util.JwtUtil;
+import java.util.HashSet;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +22,7 @@ import org.springframework.security.core.Authentication;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +34,9 @@ public class AuthServiceTests {
   @Mock
   private AuthenticationManager authenticationManager;
 
+  @Mock
+  private TokenRevocationService tokenRevocationService;
+
   @InjectMocks
   private AuthService authService;
 
@@ -51,23 +59,47 @@ public class AuthServiceTests {
   public void refreshTokenTest(){
     String oldToken= "old.token.first";
     String newToken = "new.token.second";
+    String newRefreshToken = "new.refresh.token";
 
-    when(jwtUtil.extractUsername(oldToken)).thenReturn("test");
-    when(jwtUtil.validateToken(oldToken)).thenReturn(true);
+    when(jwtUtil.verify(oldToken)).thenReturn(new VerifiedToken("test", 0, Long.MAX_VALUE));
     when(jwtUtil.generateToken("test")).thenReturn(newToken);
+    when(jwtUtil.generateRefreshToken("test")).thenReturn(newRefreshToken);
 
 
     AuthResponse authResponse = authService.refreshToken(oldToken);
 
-    assertEquals(oldToken, authResponse.getRefreshToken());
+    assertEquals(newRefreshToken, authResponse.getRefreshToken());
     assertEquals("test", authResponse.getUsername());
     assertEquals(newToken, authResponse.getAccessToken());
     assertNotNull(authResponse);
     verify(jwtUtil).generateToken("test");
-    verify(jwtUtil).validateToken(oldToken);
+    // Verified once, not once per claim read
+    verify(jwtUtil).verify(oldToken);
+    verify(jwtUtil, never()).validateToken(oldToken);
+    verify(jwtUtil, never()).extractUsername(oldToken);
     assertEquals("86400", authResponse.getExpiresIn());
   }
 
+  @Test
+  public void refreshTokenIsRejectedAfterUse(){
+    String oldToken = "old.refresh.token";
+    VerifiedToken verified = new VerifiedToken("test", 0, Long.MAX_VALUE, VerifiedToken.MISSING,
+        VerifiedToken.MISSING, null, "old-jti");
+    // Verification fails once the token's jti has been revoked, as TokenRevocationService does
+    Set<String> revoked = new HashSet<>();
+    when(jwtUtil.verify(oldToken))
+        .thenAnswer(invocation -> revoked.contains(verified.tokenId()) ? null : verified);
+    when(tokenRevocationService.revoke(verified)).thenAnswer(invocation -> revoked.add("old-jti"));
+    when(jwtUtil.generateRefreshToken("test")).thenReturn("new.refresh.token");
+
+    AuthResponse rotated = authService.refreshToken(oldToken);
+
+    assertEquals("new.refresh.token", rotated.getRefreshToken());
+    verify(tokenRevocationService).revoke(verified);
+    verify(jwtUtil).evictCachedToken(oldToken);
+    assertThrows(RuntimeException.class, () -> authService.refreshToken(oldToken));
+  }
+
   @Test
   public void loginTest(){
 
@@ -0,0 +1,44 @@
+package com.teamboard;
+
+import com.teamboard.util.BloomFilter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BloomFilterTests {
+
+  @Test
+  void testNoFalseNegatives() {
+    BloomFilter filter = new BloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("user" + i + "@example.com");
+    }
+    for (int i = 0; i < 10_000; i++) {
+      assertTrue(filter.mightContain("user" + i + "@example.com"));
+    }
+  }
+
+  @Test
+  void testFalsePositiveRateNearTarget() {
+    BloomFilter filter = new BloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("present-" + i);
+    }
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (filter.mightContain("absent-" + i)) {
+        falsePositives++;
+      }
+    }
+    // 1% target; allow slack for hash quality
+    assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+  }
+
+  @Test
+  void testEmptyFilterRejectsEverything() {
+    BloomFilter filter = new BloomFilter(1_000, 0.01);
+    assertFalse(filter.mightContain(""));
+    assertFalse(filter.mightContain("anything"));
+    assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1.5));
+  }
+}
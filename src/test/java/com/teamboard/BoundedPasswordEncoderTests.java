@@ -0,0 +1,110 @@
+package com.teamboard;
+
+import com.teamboard.security.BoundedPasswordEncoder;
+import com.teamboard.security.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTests {
+
+  @Test
+  void testEncodesAndMatchesOnPool() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4),
+        4, 2, 4, Duration.ofSeconds(5), Duration.ofSeconds(1), registry)) {
+      String hash = encoder.encode("secret");
+
+      assertTrue(encoder.matches("secret", hash));
+      assertFalse(encoder.matches("wrong", hash));
+      assertEquals(1, registry.get("security.password.hash").tag("operation", "encode").timer()
+          .count());
+      assertEquals(2, registry.get("security.password.hash").tag("operation", "matches").timer()
+          .count());
+    }
+  }
+
+  @Test
+  void testUpgradeEncodingWhenStrengthChanges() {
+    try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5),
+        5, 1, 0, Duration.ofSeconds(5), Duration.ofSeconds(1), new SimpleMeterRegistry())) {
+      assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+      assertFalse(encoder.upgradeEncoding(encoder.encode("secret")));
+      assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+      assertFalse(encoder.upgradeEncoding(null));
+    }
+  }
+
+  @Test
+  void testRejectsWhenPoolAndQueueAreFull() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    PasswordEncoder blocking = new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return rawPassword.toString();
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return rawPassword.toString().equals(encodedPassword);
+      }
+    };
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    ExecutorService callers = Executors.newSingleThreadExecutor();
+    try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 10, 1, 0,
+        Duration.ofSeconds(5), Duration.ofSeconds(2), registry)) {
+      Future<String> first = callers.submit(() -> encoder.encode("first"));
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      PasswordHashingUnavailableException e = assertThrows(
+          PasswordHashingUnavailableException.class, () -> encoder.encode("second"));
+      assertEquals(2, e.getRetryAfterSeconds());
+      assertEquals(1, registry.get("security.password.hash.rejected").counter().count());
+
+      release.countDown();
+      assertEquals("first", first.get(5, TimeUnit.SECONDS));
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  @Test
+  void testTimesOutSlowHash() {
+    PasswordEncoder slow = new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        try {
+          Thread.sleep(5_000);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return rawPassword.toString();
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return false;
+      }
+    };
+    try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 10, 1, 1,
+        Duration.ofMillis(50), Duration.ofSeconds(1), new SimpleMeterRegistry())) {
+      assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("secret"));
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.teamboard;
+
+import com.teamboard.security.jwt.CachingTokenVerifier;
+import com.teamboard.security.jwt.TokenVerifier;
+import com.teamboard.security.jwt.VerifiedToken;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingTokenVerifierTests {
+
+  private final AtomicInteger delegateCalls = new AtomicInteger();
+  private CachingTokenVerifier verifier;
+
+  // Stand-in for signature verification: known tokens map to claims, anything else is rejected
+  private final Map<String, VerifiedToken> valid = Map.of(
+      "token-a", new VerifiedToken("a@example.com", 0, epochSecondsFromNow(3600)),
+      "token-a2", new VerifiedToken("a@example.com", 0, epochSecondsFromNow(3600)),
+      "token-b", new VerifiedToken("b@example.com", 0, epochSecondsFromNow(3600)),
+      "token-expiring", new VerifiedToken("c@example.com", 0, epochSecondsFromNow(1)));
+
+  private static long epochSecondsFromNow(long seconds) {
+    return System.currentTimeMillis() / 1000L + seconds;
+  }
+
+  @BeforeEach
+  void setUp() {
+    TokenVerifier delegate = token -> {
+      delegateCalls.incrementAndGet();
+      VerifiedToken verified = valid.get(token);
+      return verified != null && !verified.isExpired(System.currentTimeMillis()) ? verified : null;
+    };
+    verifier = new CachingTokenVerifier(delegate, 100, Duration.ofHours(1));
+  }
+
+  // Test 1
+  @Test
+  public void repeatedTokenSkipsDelegateTest() {
+    VerifiedToken first = verifier.verify("token-a");
+    VerifiedToken second = verifier.verify("token-a");
+    assertEquals("a@example.com", second.subject());
+    assertSame(first, second);
+    assertEquals(1, delegateCalls.get());
+    assertEquals(1, verifier.stats().hitCount());
+  }
+
+  // Test 2
+  @Test
+  public void rejectedTokensAreNotCachedTest() {
+    assertNull(verifier.verify("forged"));
+    assertNull(verifier.verify("forged"));
+    assertEquals(2, delegateCalls.get());
+  }
+
+  // Test 3
+  @Test
+  public void entryExpiresWithTokenTest() throws InterruptedException {
+    assertNotNull(verifier.verify("token-expiring"));
+    Thread.sleep(2100);
+    assertNull(verifier.verify("token-expiring"));
+    assertEquals(2, delegateCalls.get());
+  }
+
+  // Test 4
+  @Test
+  public void evictTokenAndSubjectTest() {
+    verifier.verify("token-a");
+    verifier.verify("token-a2");
+    verifier.verify("token-b");
+    assertEquals(3, delegateCalls.get());
+
+    verifier.evict("token-b");
+    verifier.verify("token-b");
+    assertEquals(4, delegateCalls.get());
+
+    verifier.evictSubject("a@example.com");
+    verifier.verify("token-a");
+    verifier.verify("token-a2");
+    verifier.verify("token-b");
+    assertEquals(6, delegateCalls.get());
+  }
+}
@@ -0,0 +1,211 @@
+package com.teamboard;
+
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.MemberRole;
+import com.teamboard.entity.Priority;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.entity.WorkspaceMember;
+import com.teamboard.purge.DeletionPurger;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceMemberRepository;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.ProjectService;
+import com.teamboard.service.WorkspaceService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Deleted projects and workspaces: hidden from reads as soon as they are deleted, then purged in
+ * batches of {@code deletion-purge.batch-size} (5 in the test profile).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class DeletionPurgeTests {
+
+  private static final int TASKS = 12;
+
+  @Autowired
+  private UserRepo userRepo;
+
+  @Autowired
+  private WorkspaceRepository workspaceRepository;
+
+  @Autowired
+  private WorkspaceMemberRepository workspaceMemberRepository;
+
+  @Autowired
+  private ProjectRepo projectRepo;
+
+  @Autowired
+  private BoardColumnRepository boardColumnRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private ProjectService projectService;
+
+  @Autowired
+  private WorkspaceService workspaceService;
+
+  @Autowired
+  private DeletionPurger purger;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private User owner;
+  private User member;
+  private Workspace workspace;
+  private Project project;
+  private Long taskId;
+
+  @BeforeEach
+  void setUp() {
+    // Deletions left by other tests would be purged first
+    drain();
+    String run = UUID.randomUUID().toString();
+    owner = userRepo.save(user("purge-owner-" + run));
+    member = userRepo.save(user("purge-member-" + run));
+    workspace = workspaceRepository.save(
+        Workspace.builder().name("Purge " + run).owner(owner).build());
+    workspaceMemberRepository.save(WorkspaceMember.builder()
+        .user(member).workspace(workspace).role(MemberRole.MEMBER).build());
+    project = board("Board");
+    taskId = taskRepository.findByProjectIdOrderByCreatedAtDesc(project.getId()).get(0).getId();
+  }
+
+  private static User user(String name) {
+    User user = new User();
+    user.setEmail(name + "@example.com");
+    user.setPasswordHash("hashed_password");
+    user.setName(name);
+    return user;
+  }
+
+  private Project board(String name) {
+    Project board = projectRepo.save(Project.builder()
+        .name(name).workspace(workspace).createdBy(owner).build());
+    ColumnName[] names = ColumnName.values();
+    List<BoardColumn> columns = new ArrayList<>();
+    for (int i = 0; i < names.length; i++) {
+      columns.add(boardColumnRepository.save(BoardColumn.builder()
+          .name(names[i]).position(i + 1).project(board).build()));
+    }
+    for (int i = 0; i < TASKS; i++) {
+      taskRepository.save(Task.builder()
+          .title("Task " + i)
+          .project(board)
+          .column(columns.get(i % columns.size()))
+          .createdBy(owner)
+          .priority(Priority.MEDIUM)
+          .build());
+    }
+    return board;
+  }
+
+  private void drain() {
+    while (purger.purgeBatch()) {
+      // Until nothing deleted is left
+    }
+  }
+
+  private int count(String table, String parent, Long parentId) {
+    return jdbcTemplate.queryForObject(
+        "select count(*) from " + table + " where " + parent + " = ?", Integer.class, parentId);
+  }
+
+  @Test
+  void testDeletedProjectIsHiddenAtOnce() {
+    projectService.deleteProject(project.getId());
+
+    assertThrows(IllegalArgumentException.class, () -> projectService.getProjectById(project.getId()));
+    assertTrue(projectService.getProjectsByWorkspaceId(workspace.getId()).isEmpty());
+    assertTrue(projectRepo.findAccessById(project.getId(), owner.getId()).isEmpty());
+    assertTrue(taskRepository.findAccessById(taskId, owner.getId()).isEmpty());
+    // Deleting it again finds nothing
+    assertThrows(IllegalArgumentException.class, () -> projectService.deleteProject(project.getId()));
+    // The rows themselves wait for the purge
+    assertEquals(TASKS, count("tasks", "project_id", project.getId()));
+  }
+
+  @Test
+  void testProjectIsPurgedInBatches() {
+    Project kept = board("Kept");
+    projectService.deleteProject(project.getId());
+
+    assertTrue(purger.purgeBatch());
+    assertEquals(TASKS - 5, count("tasks", "project_id", project.getId()));
+    assertTrue(purger.purgeBatch());
+    assertEquals(TASKS - 10, count("tasks", "project_id", project.getId()));
+    drain();
+
+    assertEquals(0, count("tasks", "project_id", project.getId()));
+    assertEquals(0, count("board_columns", "project_id", project.getId()));
+    assertEquals(0, count("projects", "id", project.getId()));
+    // The rest of the workspace is untouched
+    assertEquals(TASKS, count("tasks", "project_id", kept.getId()));
+    assertEquals(ColumnName.values().length, count("board_columns", "project_id", kept.getId()));
+    assertNotNull(workspaceService.getWorkspace(workspace.getId()));
+  }
+
+  @Test
+  void testDeletedWorkspaceIsHiddenAtOnce() {
+    workspaceService.deleteWorkspace(workspace.getId());
+
+    assertNull(workspaceService.getWorkspace(workspace.getId()));
+    assertTrue(workspaceService.getWorkspacesForUser(owner.getId()).isEmpty());
+    assertTrue(workspaceService.getWorkspacesForUser(member.getId()).isEmpty());
+    assertNull(workspaceService.findByOwnerIdAndName(owner.getId(), workspace.getName()));
+    assertTrue(workspaceRepository.findAccessById(workspace.getId(), member.getId()).isEmpty());
+    assertTrue(workspaceRepository.findIdsByOwnerId(owner.getId()).isEmpty());
+    assertTrue(workspaceMemberRepository.findWorkspaceRolesByUserId(member.getId()).isEmpty());
+    assertTrue(workspaceMemberRepository.findByUserId(member.getId()).isEmpty());
+    // Its projects and their tasks went with it
+    assertThrows(IllegalArgumentException.class, () -> projectService.getProjectById(project.getId()));
+    assertTrue(taskRepository.findAccessById(taskId, owner.getId()).isEmpty());
+  }
+
+  @Test
+  void testWorkspaceIsPurgedAfterItsProjects() {
+    Project second = board("Second");
+    workspaceService.deleteWorkspace(workspace.getId());
+
+    purger.purgePending();
+
+    assertEquals(0, purger.pending());
+    assertEquals(0, count("projects", "workspace_id", workspace.getId()));
+    assertEquals(0, count("tasks", "project_id", second.getId()));
+    assertEquals(0, count("workspace_members", "workspace_id", workspace.getId()));
+    assertEquals(0, count("workspaces", "id", workspace.getId()));
+    assertTrue(userRepo.findById(member.getId()).isPresent());
+  }
+
+  @Test
+  void testProjectCreatedDuringDeleteIsPurgedWithWorkspace() {
+    workspaceService.deleteWorkspace(workspace.getId());
+    // Created past the workspace check just as the workspace was marked
+    Project late = board("Late");
+
+    drain();
+
+    assertEquals(0, count("tasks", "project_id", late.getId()));
+    assertEquals(0, count("workspaces", "id", workspace.getId()));
+  }
+}
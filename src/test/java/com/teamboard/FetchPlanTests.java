@@ -0,0 +1,193 @@
+package com.teamboard;
+
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.TaskResponseDTO;
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.MemberRole;
+import com.teamboard.entity.Priority;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.entity.WorkspaceMember;
+import com.teamboard.pagination.PageQuery;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceMemberRepository;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.ProjectService;
+import com.teamboard.service.TaskService;
+import com.teamboard.service.WorkspaceMemberService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements behind the board endpoints' service calls. Each list is one query with
+ * the people its response shows, plus the existence check the service already makes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class FetchPlanTests {
+
+  private static final int TASKS = 12;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private UserRepo userRepo;
+
+  @Autowired
+  private WorkspaceRepository workspaceRepository;
+
+  @Autowired
+  private WorkspaceMemberRepository workspaceMemberRepository;
+
+  @Autowired
+  private ProjectRepo projectRepo;
+
+  @Autowired
+  private BoardColumnRepository boardColumnRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private TaskService taskService;
+
+  @Autowired
+  private ProjectService projectService;
+
+  @Autowired
+  private WorkspaceMemberService workspaceMemberService;
+
+  private Statistics statistics;
+  private Workspace workspace;
+  private Project project;
+
+  @BeforeEach
+  void setUp() {
+    String run = UUID.randomUUID().toString();
+    User owner = userRepo.save(user("owner-" + run));
+    workspace = workspaceRepository.save(
+        Workspace.builder().name("Fetch plan " + run).owner(owner).build());
+    List<User> assignees = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      User assignee = userRepo.save(user("assignee-" + i + "-" + run));
+      assignees.add(assignee);
+      workspaceMemberRepository.save(WorkspaceMember.builder()
+          .user(assignee).workspace(workspace).role(MemberRole.MEMBER).build());
+    }
+    project = projectRepo.save(Project.builder()
+        .name("Board").workspace(workspace).createdBy(owner).build());
+
+    ColumnName[] names = ColumnName.values();
+    List<BoardColumn> columns = new ArrayList<>();
+    for (int i = 0; i < names.length; i++) {
+      columns.add(boardColumnRepository.save(BoardColumn.builder()
+          .name(names[i]).position(i + 1).project(project).build()));
+    }
+    for (int i = 0; i < TASKS; i++) {
+      taskRepository.save(Task.builder()
+          .title("Task " + i)
+          .project(project)
+          .column(columns.get(i % columns.size()))
+          .assignedTo(i % 4 == 3 ? null : assignees.get(i % 4))
+          .createdBy(owner)
+          .priority(Priority.MEDIUM)
+          .build());
+    }
+
+    // The counts are for a cold second-level cache; SecondLevelCacheTests covers a warm one
+    entityManagerFactory.getCache().evictAll();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    statistics.setStatisticsEnabled(false);
+  }
+
+  private static User user(String name) {
+    User user = new User();
+    user.setEmail(name + "@example.com");
+    user.setPasswordHash("hashed_password");
+    user.setName(name);
+    return user;
+  }
+
+  @Test
+  void testBoardTasksLoadWithTheirPeople() {
+    List<Task> tasks = taskService.getTasksByProject(project.getId());
+
+    // Project existence check, then one query for every task with its assignee and creator
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(TASKS, tasks.size());
+    for (Task task : tasks) {
+      assertTrue(Hibernate.isInitialized(task.getCreatedBy()));
+      assertNotNull(task.getCreatedBy().getName());
+      assertTrue(task.getAssignedTo() == null || Hibernate.isInitialized(task.getAssignedTo()));
+      // Responses only need the ids of the project and column
+      assertFalse(Hibernate.isInitialized(task.getColumn()));
+      assertNotNull(task.getColumn().getId());
+    }
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void testTaskResponsesAreProjected() {
+    CursorPage<TaskResponseDTO> page =
+        taskService.getTaskResponsesByProject(project.getId(), PageQuery.first(TASKS));
+    List<TaskResponseDTO> responses = page.getItems();
+
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(TASKS, responses.size());
+    assertNull(page.getNext());
+    // Only the project existence check hydrates entities (the project and its creator)
+    assertEquals(2, statistics.getEntityLoadCount());
+    assertEquals(project.getCreatedBy().getName(), responses.get(0).getCreatedByName());
+    assertEquals(TASKS / 4 * 3,
+        responses.stream().filter(response -> response.getAssignedToName() != null).count());
+  }
+
+  @Test
+  void testProjectListLoadsCreators() {
+    List<Project> projects = projectService.getProjectsByWorkspaceId(workspace.getId());
+
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(1, projects.size());
+    assertEquals(project.getCreatedBy().getName(), projects.get(0).getCreatedBy().getName());
+    assertEquals(workspace.getId(), projects.get(0).getWorkspace().getId());
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void testMemberListLoadsUsers() {
+    List<WorkspaceMember> members = workspaceMemberService.getMembersOfWorkspace(workspace.getId());
+
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(3, members.size());
+    for (WorkspaceMember member : members) {
+      assertNotNull(member.getUser().getEmail());
+    }
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+}
@@ -0,0 +1,137 @@
+package com.teamboard;
+
+import com.teamboard.security.jwt.Hs256TokenVerifier;
+import com.teamboard.security.jwt.JjwtTokenVerifier;
+import com.teamboard.security.jwt.TokenVerifier;
+import com.teamboard.security.jwt.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Hs256TokenVerifierTests {
+
+  private SecretKey key;
+  private TokenVerifier jjwt;
+  private TokenVerifier verifier;
+
+  @BeforeEach
+  void setUp() {
+    key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    jjwt = new JjwtTokenVerifier(Jwts.parserBuilder().setSigningKey(key).build());
+    verifier = new Hs256TokenVerifier(key.getEncoded(), jjwt);
+  }
+
+  private String token(String subject, long ttlMillis) {
+    long now = System.currentTimeMillis();
+    return Jwts.builder()
+        .setSubject(subject)
+        .setIssuedAt(new Date(now))
+        .setExpiration(new Date(now + ttlMillis))
+        .signWith(key, SignatureAlgorithm.HS256)
+        .compact();
+  }
+
+  // Test 1
+  @Test
+  public void validTokenMatchesJjwtTest() {
+    String token = token("alice@example.com", 60_000);
+    VerifiedToken fast = verifier.verify(token);
+    assertNotNull(fast);
+    assertEquals(jjwt.verify(token), fast);
+    assertEquals("alice@example.com", fast.subject());
+  }
+
+  // Test 2
+  @Test
+  public void tamperedTokenRejectedTest() {
+    String token = token("alice@example.com", 60_000);
+    String badSignature = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+    assertNull(verifier.verify(badSignature));
+
+    String[] parts = token.split("\\.");
+    String otherPayload = token("mallory@example.com", 60_000).split("\\.")[1];
+    assertNull(verifier.verify(parts[0] + "." + otherPayload + "." + parts[2]));
+
+    SecretKey otherKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    String foreign = Jwts.builder().setSubject("alice@example.com")
+        .signWith(otherKey, SignatureAlgorithm.HS256).compact();
+    assertNull(verifier.verify(foreign));
+  }
+
+  // Test 3
+  @Test
+  public void expiredTokenRejectedTest() {
+    assertNull(verifier.verify(token("alice@example.com", -1_000)));
+  }
+
+  // Test 4
+  @Test
+  public void malformedTokenRejectedTest() {
+    assertNull(verifier.verify("not-a-jwt"));
+    assertNull(verifier.verify("a.b"));
+    assertNull(verifier.verify("a.b.c.d"));
+    String token = token("alice@example.com", 60_000);
+    assertNull(verifier.verify(token + "A"));
+    assertNull(verifier.verify(token.substring(0, token.length() - 1) + "!"));
+  }
+
+  // Test 5
+  @Test
+  public void unusualTokensFallBackToJjwtTest() {
+    // Non-default header
+    String withType = Jwts.builder().setHeaderParam("typ", "JWT").setSubject("bob@example.com")
+        .signWith(key, SignatureAlgorithm.HS256).compact();
+    assertEquals("bob@example.com", verifier.verify(withType).subject());
+
+    // Escaped characters in the subject
+    String escaped = token("quote\"d@example.com", 60_000);
+    assertEquals("quote\"d@example.com", verifier.verify(escaped).subject());
+
+    // Not-before in the future is enforced by jjwt
+    String notYet = Jwts.builder().setSubject("bob@example.com")
+        .setNotBefore(new Date(System.currentTimeMillis() + 60_000))
+        .signWith(key, SignatureAlgorithm.HS256).compact();
+    assertNull(verifier.verify(notYet));
+  }
+
+  // Test 6
+  @Test
+  public void embeddedClaimsMatchJjwtTest() {
+    String token = Jwts.builder()
+        .setClaims(Map.of("uid", 42L, "mv", 7L, "ws", "3:O,9:V"))
+        .setSubject("dave@example.com")
+        .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+        .signWith(key, SignatureAlgorithm.HS256).compact();
+    VerifiedToken fast = verifier.verify(token);
+    VerifiedToken slow = jjwt.verify(token);
+    assertEquals(42L, fast.userId());
+    assertEquals(7L, fast.membershipVersion());
+    assertEquals('V', fast.workspaces().codeFor(9L));
+    assertEquals(slow.userId(), fast.userId());
+    assertEquals(slow.membershipVersion(), fast.membershipVersion());
+    assertEquals('O', slow.workspaces().codeFor(3L));
+    assertTrue(fast.hasCurrentWorkspaceClaims(42L, 7L));
+    assertFalse(fast.hasCurrentWorkspaceClaims(42L, 8L));
+  }
+
+  // Test 7
+  @Test
+  public void extraClaimsAreSkippedTest() {
+    String token = Jwts.builder()
+        .setClaims(Map.of("roles", Map.of("list", new int[] {1, 2}), "name", "Zoë"))
+        .setSubject("carol@example.com")
+        .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+        .signWith(key, SignatureAlgorithm.HS256).compact();
+    VerifiedToken verified = verifier.verify(token);
+    assertNotNull(verified);
+    assertEquals("carol@example.com", verified.subject());
+    assertEquals(VerifiedToken.MISSING, verified.issuedAt());
+  }
+}
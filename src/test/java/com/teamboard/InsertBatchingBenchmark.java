@@ -0,0 +1,145 @@
+package com.teamboard;
+
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.Priority;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.BoardColumnService;
+import com.teamboard.service.ProjectService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Inserts on PostgreSQL with the Flyway schema: a project with its four default columns, as
+ * project creation does, and 500 tasks saved in one transaction. Batch size 1 sends every insert
+ * as its own statement; 50 sends them in JDBC batches that pgjdbc rewrites into multi-row INSERTs.
+ * Needs Docker. Run with {@code mvn test -Pbenchmark -Dtest=InsertBatchingBenchmark}.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class InsertBatchingBenchmark {
+
+  private static final int TASKS = 500;
+
+  @Param({"1", "50"})
+  public int batchSize;
+
+  private PostgreSQLContainer postgres;
+  private ConfigurableApplicationContext context;
+  private ProjectService projectService;
+  private BoardColumnService boardColumnService;
+  private TaskRepository taskRepository;
+  private TransactionTemplate transactionTemplate;
+  private User owner;
+  private Workspace workspace;
+  private Project project;
+  private BoardColumn backlog;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    postgres = new PostgreSQLContainer("postgres:16-alpine");
+    postgres.start();
+    // Passed as arguments: default properties would lose to the H2 settings in application-test.properties
+    context = new SpringApplicationBuilder(TeamboardBackendApplication.class)
+        .profiles("test")
+        .run(
+            "--server.port=0",
+            "--spring.datasource.url=" + postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+            "--spring.datasource.username=" + postgres.getUsername(),
+            "--spring.datasource.password=" + postgres.getPassword(),
+            "--spring.datasource.driver-class-name=org.postgresql.Driver",
+            "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+            "--spring.jpa.hibernate.ddl-auto=none",
+            "--spring.flyway.enabled=true",
+            "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+    projectService = context.getBean(ProjectService.class);
+    boardColumnService = context.getBean(BoardColumnService.class);
+    taskRepository = context.getBean(TaskRepository.class);
+    transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+    owner = new User();
+    owner.setEmail("bench@example.com");
+    owner.setPasswordHash("hashed_password");
+    owner.setName("Bench User");
+    owner = context.getBean(UserRepo.class).save(owner);
+    workspace = context.getBean(WorkspaceRepository.class).save(
+        Workspace.builder().name("Benchmark").owner(owner).build());
+    project = createProject();
+    backlog = boardColumnService.getColumnsByProjectId(project.getId()).get(0);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+    postgres.stop();
+  }
+
+  // Same calls as ProjectController.createProject
+  private Project createProject() {
+    Project created = projectService.createProject(Project.builder()
+        .name("Project " + next++).workspace(workspace).createdBy(owner).build());
+    boardColumnService.createDefaultColumns(created.getId());
+    return created;
+  }
+
+  @Benchmark
+  public Project bootstrapProject() {
+    return createProject();
+  }
+
+  @Benchmark
+  public List<Task> insertTasks() {
+    List<Task> tasks = new ArrayList<>(TASKS);
+    for (int i = 0; i < TASKS; i++) {
+      tasks.add(Task.builder()
+          .title("Task " + i)
+          .project(project)
+          .column(backlog)
+          .createdBy(owner)
+          .priority(Priority.MEDIUM)
+          .build());
+    }
+    return transactionTemplate.execute(status -> taskRepository.saveAll(tasks));
+  }
+
+  @Test
+  public void run() throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(InsertBatchingBenchmark.class.getName() + ".")
+        .build()).run();
+  }
+}
@@ -1,6 +1,8 @@
 package com.teamboard;
 
+import com.teamboard.security.TokenRevocationService;
 import com.teamboard.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +21,9 @@ public class JwtTests {
   @Autowired
   private JwtUtil jwtUtil;
 
+  @Autowired
+  private TokenRevocationService tokenRevocationService;
+
   @BeforeEach
   void setUp() {
     token = jwtUtil.generateToken(username);
@@ -58,4 +63,31 @@ public class JwtTests {
     assertTrue(jwtUtil.validateToken(refreshToken));
   }
 
+  // Test 6
+  @Test
+  public void parseClaimsTest(){
+    Claims claims = jwtUtil.parseClaims(token);
+    assertNotNull(claims);
+    assertEquals(username, claims.getSubject());
+  }
+
+  // Test 7
+  @Test
+  public void tamperedTokenRejectedTest(){
+    String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+    assertNull(jwtUtil.parseClaims(tampered));
+    assertNull(jwtUtil.extractUsername(tampered));
+    assertFalse(jwtUtil.validateToken("not-a-jwt"));
+  }
+
+  // Test 8
+  @Test
+  public void revokedTokenRejectedTest(){
+    String other = jwtUtil.generateToken(username);
+    assertTrue(tokenRevocationService.revoke(jwtUtil.verify(token)));
+    assertFalse(jwtUtil.validateToken(token));
+    assertNull(jwtUtil.extractUsername(token));
+    assertTrue(jwtUtil.validateToken(other));
+  }
+
 }
@@ -0,0 +1,197 @@
+package com.teamboard;
+
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.TaskResponseDTO;
+import com.teamboard.DTO.WorkspaceMemberResponseDTO;
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.MemberRole;
+import com.teamboard.entity.Priority;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.entity.WorkspaceMember;
+import com.teamboard.pagination.Cursor;
+import com.teamboard.pagination.PageQuery;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceMemberRepository;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.TaskService;
+import com.teamboard.service.WorkspaceMemberService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class KeysetPaginationTests {
+
+  private static final int TASKS = 12;
+
+  @Autowired
+  private UserRepo userRepo;
+
+  @Autowired
+  private WorkspaceRepository workspaceRepository;
+
+  @Autowired
+  private WorkspaceMemberRepository workspaceMemberRepository;
+
+  @Autowired
+  private ProjectRepo projectRepo;
+
+  @Autowired
+  private BoardColumnRepository boardColumnRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private TaskService taskService;
+
+  @Autowired
+  private WorkspaceMemberService workspaceMemberService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private Workspace workspace;
+  private Project project;
+
+  @BeforeEach
+  void setUp() {
+    String run = UUID.randomUUID().toString();
+    User owner = userRepo.save(user("owner-" + run));
+    workspace = workspaceRepository.save(
+        Workspace.builder().name("Paging " + run).owner(owner).build());
+    for (int i = 0; i < 3; i++) {
+      workspaceMemberRepository.save(WorkspaceMember.builder()
+          .user(userRepo.save(user("member-" + i + "-" + run)))
+          .workspace(workspace).role(MemberRole.MEMBER).build());
+    }
+    project = projectRepo.save(Project.builder()
+        .name("Board").workspace(workspace).createdBy(owner).build());
+    BoardColumn backlog = boardColumnRepository.save(BoardColumn.builder()
+        .name(ColumnName.BACKLOG).position(1).project(project).build());
+    for (int i = 0; i < TASKS; i++) {
+      taskRepository.save(Task.builder()
+          .title("Task " + i)
+          .project(project)
+          .column(backlog)
+          .createdBy(owner)
+          .priority(Priority.MEDIUM)
+          .build());
+    }
+  }
+
+  private static User user(String name) {
+    User user = new User();
+    user.setEmail(name + "@example.com");
+    user.setPasswordHash("hashed_password");
+    user.setName(name);
+    return user;
+  }
+
+  private List<TaskResponseDTO> walkTasks(int limit) {
+    List<TaskResponseDTO> seen = new ArrayList<>();
+    PageQuery query = PageQuery.first(limit);
+    while (true) {
+      CursorPage<TaskResponseDTO> page = taskService.getTaskResponsesByProject(project.getId(), query);
+      assertTrue(page.getItems().size() <= limit);
+      seen.addAll(page.getItems());
+      if (page.getNext() == null) {
+        return seen;
+      }
+      query = new PageQuery(Cursor.decode(page.getNext()), limit);
+    }
+  }
+
+  @Test
+  void testTaskPagesCoverTheListOnce() {
+    List<TaskResponseDTO> all = taskRepository.findResponsesByProjectId(project.getId(), Limit.unlimited());
+
+    List<TaskResponseDTO> walked = walkTasks(5);
+
+    assertEquals(TASKS, walked.size());
+    assertEquals(all.stream().map(TaskResponseDTO::getId).toList(),
+        walked.stream().map(TaskResponseDTO::getId).toList());
+  }
+
+  @Test
+  void testTasksCreatedAtTheSameInstantAreNotSkipped() {
+    // Ties on created_at are broken by id, so a page boundary inside a tie loses nothing
+    LocalDateTime instant = LocalDateTime.of(2025, 1, 1, 12, 0);
+    transactionTemplate.executeWithoutResult(status -> entityManager
+        .createQuery("update Task t set t.createdAt = :createdAt where t.project.id = :projectId")
+        .setParameter("createdAt", instant)
+        .setParameter("projectId", project.getId())
+        .executeUpdate());
+
+    List<TaskResponseDTO> walked = walkTasks(5);
+
+    assertEquals(TASKS, walked.size());
+    assertEquals(TASKS, new HashSet<>(walked.stream().map(TaskResponseDTO::getId).toList()).size());
+    for (int i = 1; i < walked.size(); i++) {
+      assertTrue(walked.get(i - 1).getId() > walked.get(i).getId());
+    }
+  }
+
+  @Test
+  void testLastFullPageHasNoNext() {
+    CursorPage<TaskResponseDTO> page =
+        taskService.getTaskResponsesByProject(project.getId(), PageQuery.first(TASKS));
+
+    assertEquals(TASKS, page.getItems().size());
+    assertNull(page.getNext());
+  }
+
+  @Test
+  void testMemberPagesFollowIdOrder() {
+    CursorPage<WorkspaceMemberResponseDTO> first =
+        workspaceMemberService.getMemberResponsesOfWorkspace(workspace.getId(), PageQuery.first(2));
+    CursorPage<WorkspaceMemberResponseDTO> second = workspaceMemberService.getMemberResponsesOfWorkspace(
+        workspace.getId(), new PageQuery(Cursor.decode(first.getNext()), 2));
+
+    assertEquals(2, first.getItems().size());
+    assertEquals(1, second.getItems().size());
+    assertNull(second.getNext());
+    assertTrue(first.getItems().get(1).getId() < second.getItems().get(0).getId());
+  }
+
+  @Test
+  void testCursorRoundTrip() {
+    Cursor timestamped = new Cursor(LocalDateTime.of(2025, 3, 4, 5, 6, 7, 891_234_000), 42L);
+    Cursor idOnly = Cursor.of(7L);
+
+    assertEquals(timestamped, Cursor.decode(timestamped.encode()));
+    assertEquals(idOnly, Cursor.decode(idOnly.encode()));
+  }
+
+  @Test
+  void testMalformedCursorIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> Cursor.decode("not a cursor"));
+    assertThrows(IllegalArgumentException.class, () -> Cursor.decode(Cursor.of(1L).encode() + "!"));
+    // An id-only cursor cannot continue the task list
+    assertThrows(IllegalArgumentException.class, () -> taskService.getTaskResponsesByProject(
+        project.getId(), new PageQuery(Cursor.of(1L), 5)));
+  }
+}
@@ -0,0 +1,52 @@
+package com.teamboard;
+
+import com.teamboard.security.PermissionCache;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PermissionCacheTests {
+
+  private final PermissionCache cache = new PermissionCache(1024, Duration.ofMinutes(1));
+
+  @Test
+  void testHitRequiresSameMembershipVersion() {
+    cache.put(5L, 10L, 3, 7, cache.stamp());
+
+    assertEquals(7, cache.get(5L, 10L, 3));
+    assertEquals(PermissionCache.MISS, cache.get(5L, 10L, 4));
+    assertEquals(PermissionCache.MISS, cache.get(5L, 11L, 3));
+  }
+
+  @Test
+  void testInvalidateDropsEntry() {
+    cache.put(5L, 10L, 3, 7, cache.stamp());
+    cache.put(6L, 10L, 1, 1, cache.stamp());
+
+    cache.invalidate(5L, 10L);
+    assertEquals(PermissionCache.MISS, cache.get(5L, 10L, 3));
+    assertEquals(1, cache.get(6L, 10L, 1));
+
+    cache.invalidateWorkspace(10L);
+    assertEquals(PermissionCache.MISS, cache.get(6L, 10L, 1));
+  }
+
+  @Test
+  void testPutAfterInvalidationIsIgnored() {
+    // Permissions loaded before a concurrent role change must not be cached
+    long stamp = cache.stamp();
+    cache.invalidate(5L, 10L);
+    cache.put(5L, 10L, 3, 7, stamp);
+
+    assertEquals(PermissionCache.MISS, cache.get(5L, 10L, 3));
+  }
+
+  @Test
+  void testExpiredEntryIsMiss() {
+    PermissionCache shortLived = new PermissionCache(16, Duration.ZERO);
+    shortLived.put(5L, 10L, 3, 7, shortLived.stamp());
+
+    assertEquals(PermissionCache.MISS, shortLived.get(5L, 10L, 3));
+  }
+}
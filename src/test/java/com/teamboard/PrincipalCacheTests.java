@@ -0,0 +1,68 @@
+package com.teamboard;
+
+import com.teamboard.entity.User;
+import com.teamboard.security.AuthenticatedUser;
+import com.teamboard.security.PrincipalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrincipalCacheTests {
+
+  private PrincipalCache principalCache;
+  private User user;
+  private AtomicInteger loads;
+  private Function<String, User> loader;
+
+  @BeforeEach
+  void setUp() {
+    principalCache = new PrincipalCache(100, Duration.ofMinutes(5),
+        new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    user = new User();
+    user.setId(1L);
+    user.setEmail("test@example.com");
+    user.setPasswordHash("hashed_password");
+
+    loads = new AtomicInteger();
+    loader = email -> {
+      loads.incrementAndGet();
+      return email.equals(user.getEmail()) ? user : null;
+    };
+  }
+
+  @Test
+  public void cachesByEmailAndIdTest() {
+    AuthenticatedUser first = principalCache.getByEmail("test@example.com", loader);
+    AuthenticatedUser second = principalCache.getByEmail("test@example.com", loader);
+    AuthenticatedUser byId = principalCache.getById(1L, id -> fail("id lookup should be cached"));
+
+    assertSame(first, second);
+    assertSame(first, byId);
+    assertEquals(1, loads.get());
+    assertEquals(1, principalCache.emailStats().hitCount());
+    assertEquals(1, principalCache.emailStats().missCount());
+  }
+
+  @Test
+  public void invalidateForcesReloadTest() {
+    principalCache.getByEmail("test@example.com", loader);
+    principalCache.invalidate(1L);
+    principalCache.getByEmail("test@example.com", loader);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void unknownUserNotCachedTest() {
+    assertNull(principalCache.getByEmail("missing@example.com", loader));
+    assertNull(principalCache.getByEmail("missing@example.com", loader));
+    assertEquals(2, loads.get());
+  }
+}
@@ -5,6 +5,7 @@ import com.teamboard.entity.Workspace;
 import com.teamboard.repository.ProjectRepo;
 import com.teamboard.service.ProjectImp;
 import com.teamboard.service.WorkspaceService;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -303,24 +305,23 @@ class ProjectImpTest {
   class DeleteProjectTests {
 
     @Test
-    @DisplayName("Should successfully delete project when it exists")
+    @DisplayName("Should mark project deleted when it exists")
     void shouldDeleteProjectWhenExists() {
       // Arrange
-      when(projectRepo.findById(1L)).thenReturn(Optional.of(testProject));
+      when(projectRepo.markDeleted(eq(1L), any(LocalDateTime.class))).thenReturn(1);
 
       // Act
       projectService.deleteProject(1L);
 
       // Assert
-      verify(projectRepo, times(1)).findById(1L);
-      verify(projectRepo, times(1)).deleteById(1L);
+      verify(projectRepo, times(1)).markDeleted(eq(1L), any(LocalDateTime.class));
     }
 
     @Test
     @DisplayName("Should throw IllegalArgumentException when project not found")
     void shouldThrowExceptionWhenProjectNotFound() {
       // Arrange
-      when(projectRepo.findById(999L)).thenReturn(Optional.empty());
+      when(projectRepo.markDeleted(eq(999L), any(LocalDateTime.class))).thenReturn(0);
 
       // Act & Assert
       assertThatThrownBy(() -> projectService.deleteProject(999L))
@@ -329,15 +330,15 @@ class ProjectImpTest {
     }
 
     @Test
-    @DisplayName("Should not call deleteById if project does not exist")
-    void shouldNotDeleteIfProjectNotFound() {
+    @DisplayName("Should leave the rows to the purge")
+    void shouldNotDeleteRowsDirectly() {
       // Arrange
-      when(projectRepo.findById(999L)).thenReturn(Optional.empty());
+      when(projectRepo.markDeleted(eq(1L), any(LocalDateTime.class))).thenReturn(1);
 
-      // Act & Assert
-      assertThatThrownBy(() -> projectService.deleteProject(999L))
-          .isInstanceOf(IllegalArgumentException.class);
+      // Act
+      projectService.deleteProject(1L);
 
+      // Assert
       verify(projectRepo, never()).deleteById(anyLong());
     }
 
@@ -346,7 +347,7 @@ class ProjectImpTest {
     void shouldIncludeProjectIdInErrorMessage() {
       // Arrange
       Long projectId = 789L;
-      when(projectRepo.findById(projectId)).thenReturn(Optional.empty());
+      when(projectRepo.markDeleted(eq(projectId), any(LocalDateTime.class))).thenReturn(0);
 
       // Act & Assert
       assertThatThrownBy(() -> projectService.deleteProject(projectId))
@@ -355,17 +356,16 @@ class ProjectImpTest {
     }
 
     @Test
-    @DisplayName("Should verify project before deletion")
-    void shouldVerifyProjectBeforeDeletion() {
+    @DisplayName("Should not find a deleted project")
+    void shouldNotFindDeletedProject() {
       // Arrange
+      testProject.setDeletedAt(LocalDateTime.now());
       when(projectRepo.findById(1L)).thenReturn(Optional.of(testProject));
 
-      // Act
-      projectService.deleteProject(1L);
-
-      // Assert
-      verify(projectRepo).findById(1L);
-      verify(projectRepo).deleteById(1L);
+      // Act & Assert
+      assertThatThrownBy(() -> projectService.getProjectById(1L))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Project not found");
     }
   }
 }
\ No newline at end of file
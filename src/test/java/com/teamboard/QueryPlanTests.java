@@ -0,0 +1,371 @@
+package com.teamboard;
+
+import com.teamboard.repository.ArchivedTaskRepository;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceMemberRepository;
+import com.teamboard.repository.WorkspaceRepository;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plans of the repository queries on PostgreSQL, with the Flyway schema and a seeded dataset
+ * large enough that the planner uses an index wherever one fits. Each check runs a repository
+ * method, captures the SQL Hibernate sends and explains its generic plan (the one a prepared
+ * statement settles on), and fails on a sequential scan or an explicit sort the check does not
+ * allow. Needs Docker; run with {@code mvn test -Pquery-plans}.
+ */
+@Tag("query-plans")
+@SpringBootTest(properties = {
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.teamboard.QueryPlanTests$SqlCapture"
+})
+@ActiveProfiles("test")
+public class QueryPlanTests {
+
+  private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+  static {
+    POSTGRES.start();
+  }
+
+  private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+  private static final Pattern SORT = Pattern.compile("(?:^|->)\\s*(?:Incremental )?Sort\\s+\\(");
+  private static final String SORT_NODE = "Sort";
+
+  private static boolean seeded;
+
+  @DynamicPropertySource
+  static void postgres(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+    registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+  }
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private UserRepo userRepo;
+
+  @Autowired
+  private WorkspaceRepository workspaceRepository;
+
+  @Autowired
+  private WorkspaceMemberRepository workspaceMemberRepository;
+
+  @Autowired
+  private ProjectRepo projectRepo;
+
+  @Autowired
+  private BoardColumnRepository boardColumnRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private ArchivedTaskRepository archivedTaskRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private final List<String> violations = new ArrayList<>();
+
+  /**
+   * Records the SQL Hibernate prepares on the thread running a check.
+   */
+  public static class SqlCapture implements StatementInspector {
+    private static volatile Thread recording;
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    static void start() {
+      statements.clear();
+      recording = Thread.currentThread();
+    }
+
+    static List<String> stop() {
+      recording = null;
+      return List.copyOf(statements);
+    }
+
+    @Override
+    public String inspect(String sql) {
+      if (Thread.currentThread() == recording) {
+        statements.add(sql);
+      }
+      return sql;
+    }
+  }
+
+  // 20k users; 5k workspaces with 20 members each; 1k projects in the first 500 workspaces, with
+  // 4 columns each; 200k tasks, 200 per project and 50 per column; 100k archived tasks, 100 per
+  // project. Ids are given explicitly so the rows can reference each other by arithmetic
+  @BeforeEach
+  void seed() {
+    if (seeded) {
+      return;
+    }
+    jdbcTemplate.execute("""
+        insert into users (id, email, password_hash, name)
+        select g, 'user' || g || '@example.com', 'hashed_password', 'User ' || g
+        from generate_series(1, 20000) g
+        """);
+    jdbcTemplate.execute("""
+        insert into workspaces (id, name, owner_id)
+        select g, 'Workspace ' || g, (g * 7) % 20000 + 1
+        from generate_series(1, 5000) g
+        """);
+    jdbcTemplate.execute("""
+        insert into workspace_members (id, workspace_id, user_id, role)
+        select w * 20 + k, w, (w * 13 + k * 997) % 20000 + 1, 'MEMBER'
+        from generate_series(1, 5000) w, generate_series(0, 19) k
+        """);
+    jdbcTemplate.execute("""
+        insert into projects (id, name, workspace_id, created_by)
+        select g, 'Project ' || g, (g - 1) % 500 + 1, (g * 11) % 20000 + 1
+        from generate_series(1, 1000) g
+        """);
+    jdbcTemplate.execute("""
+        insert into board_columns (id, name, position, project_id)
+        select (p - 1) * 4 + c, (array['BACKLOG', 'TO_DO', 'IN_PROGRESS', 'DONE'])[c], c, p
+        from generate_series(1, 1000) p, generate_series(1, 4) c
+        """);
+    jdbcTemplate.execute("""
+        insert into tasks (id, title, project_id, column_id, assigned_to, priority, created_by,
+            created_at, completed_at, rank)
+        select g, 'Task ' || g, p, (p - 1) * 4 + g % 4 + 1,
+            case when g % 5 = 0 then null else g % 20000 + 1 end, 'MEDIUM', (g * 3) % 20000 + 1,
+            timestamp '2025-01-01' + g * interval '1 minute',
+            case when g % 3 = 0 then timestamp '2025-06-01' end,
+            'f' || lpad(g::text, 6, '0')
+        from (select g, (g - 1) % 1000 + 1 as p from generate_series(1, 200000) g) s
+        """);
+    jdbcTemplate.execute("""
+        insert into tasks_archive (id, title, project_id, column_id, assigned_to, priority,
+            created_by, created_at, updated_at, completed_at, rank, version, archived_at)
+        select g, 'Task ' || g, p, (p - 1) * 4 + 4, g % 20000 + 1, 'MEDIUM', (g * 3) % 20000 + 1,
+            timestamp '2023-01-01' + g * interval '1 minute',
+            timestamp '2024-01-01', timestamp '2024-01-01', 'f' || lpad(g::text, 6, '0'), 1,
+            timestamp '2024-06-01'
+        from (select g, (g - 1) % 1000 + 1 as p from generate_series(200001, 300000) g) s
+        """);
+    jdbcTemplate.execute("analyze");
+    seeded = true;
+  }
+
+  /**
+   * Explains every statement the call sends.
+   * @param allowed plan nodes accepted for this query, e.g. "Seq Scan on workspaces" or "Sort"
+   */
+  private void check(String query, Runnable call, String... allowed) {
+    List<String> statements;
+    SqlCapture.start();
+    try {
+      call.run();
+    } finally {
+      statements = SqlCapture.stop();
+    }
+    if (statements.isEmpty()) {
+      violations.add(query + ": no SQL captured");
+      return;
+    }
+    Set<String> accepted = Set.of(allowed);
+    for (String sql : statements) {
+      String plan = explain(sql);
+      List<String> found = new ArrayList<>();
+      Matcher seqScan = SEQ_SCAN.matcher(plan);
+      while (seqScan.find()) {
+        if (!accepted.contains(seqScan.group())) {
+          found.add(seqScan.group());
+        }
+      }
+      if (!accepted.contains(SORT_NODE)
+          && plan.lines().anyMatch(line -> SORT.matcher(line).find())) {
+        found.add(SORT_NODE);
+      }
+      if (!found.isEmpty()) {
+        violations.add(query + ": " + found + "\n" + sql + "\n" + plan);
+      }
+    }
+  }
+
+  private void assertNoViolations() {
+    assertTrue(violations.isEmpty(), String.join("\n\n", violations));
+  }
+
+  private String explain(String sql) {
+    Properties properties = new Properties();
+    properties.setProperty("user", POSTGRES.getUsername());
+    properties.setProperty("password", POSTGRES.getPassword());
+    // EXPLAIN (GENERIC_PLAN) takes $n parameters, which only the simple protocol passes through
+    properties.setProperty("preferQueryMode", "simple");
+    try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), properties);
+        Statement statement = connection.createStatement();
+        ResultSet rows = statement.executeQuery("explain (generic_plan) " + numberParameters(sql))) {
+      StringBuilder plan = new StringBuilder();
+      while (rows.next()) {
+        plan.append(rows.getString(1)).append('\n');
+      }
+      return plan.toString();
+    } catch (SQLException e) {
+      throw new IllegalStateException("Could not explain: " + sql, e);
+    }
+  }
+
+  // JDBC ? placeholders to $1, $2, ..., leaving string literals alone
+  private static String numberParameters(String sql) {
+    StringBuilder numbered = new StringBuilder(sql.length() + 16);
+    boolean inLiteral = false;
+    int parameter = 0;
+    for (char c : sql.toCharArray()) {
+      if (c == '\'') {
+        inLiteral = !inLiteral;
+      }
+      if (c == '?' && !inLiteral) {
+        numbered.append('$').append(++parameter);
+      } else {
+        numbered.append(c);
+      }
+    }
+    return numbered.toString();
+  }
+
+  @Test
+  void testTaskQueriesUseIndexes() {
+    check("findById", () -> taskRepository.findById(1234L));
+    check("findByProjectIdOrderByCreatedAtDesc",
+        () -> taskRepository.findByProjectIdOrderByCreatedAtDesc(42L));
+    check("findResponsesByProjectId",
+        () -> taskRepository.findResponsesByProjectId(42L, Limit.of(51)));
+    check("findResponsesByProjectIdAfter", () -> taskRepository.findResponsesByProjectIdAfter(
+        42L, LocalDateTime.of(2025, 3, 1, 0, 0), 100_000L, Limit.of(51)));
+    check("findByColumnIdOrderByRankAscIdAsc",
+        () -> taskRepository.findByColumnIdOrderByRankAscIdAsc(166L));
+    check("findByProjectIdAndColumnIdOrderByCreatedAtDesc",
+        () -> taskRepository.findByProjectIdAndColumnIdOrderByCreatedAtDesc(42L, 166L));
+    check("findByAssignedToId", () -> taskRepository.findByAssignedToId(77L));
+    check("findResponseById", () -> taskRepository.findResponseById(1234L));
+    check("findAccessById", () -> taskRepository.findAccessById(1234L, 77L));
+    check("findIdsInProject",
+        () -> taskRepository.findIdsInProject(List.of(1234L, 1235L, 1236L), 42L));
+    check("findRanksByIds", () -> taskRepository.findRanksByIds(List.of(1234L, 1235L, 1236L)));
+    check("findRankAfter", () -> taskRepository.findRankAfter(166L, "f001000", 1234L));
+    check("findRankBefore", () -> taskRepository.findRankBefore(166L, "f001000", 1234L));
+    check("findLastRank", () -> taskRepository.findLastRank(166L, null));
+    check("findIdsByColumnIdInRankOrder",
+        () -> taskRepository.findIdsByColumnIdInRankOrder(166L));
+    assertNoViolations();
+  }
+
+  @Test
+  void testArchivedTaskQueriesUseIndexes() {
+    check("findResponseById", () -> archivedTaskRepository.findResponseById(201_234L));
+    check("findResponsesByProjectId",
+        () -> archivedTaskRepository.findResponsesByProjectId(42L, Limit.of(51)));
+    check("findResponsesByProjectIdAfter",
+        () -> archivedTaskRepository.findResponsesByProjectIdAfter(
+            42L, LocalDateTime.of(2023, 3, 1, 0, 0), 250_000L, Limit.of(51)));
+    check("findAccessById", () -> archivedTaskRepository.findAccessById(201_234L, 77L));
+    assertNoViolations();
+  }
+
+  @Test
+  void testProjectAndColumnQueriesUseIndexes() {
+    check("findById", () -> projectRepo.findById(42L));
+    check("findByWorkspaceId", () -> projectRepo.findByWorkspaceId(42L));
+    check("findResponsesByWorkspaceId",
+        () -> projectRepo.findResponsesByWorkspaceId(42L, 0L, Limit.of(51)));
+    check("findByWorkspaceIdAndId", () -> projectRepo.findByWorkspaceIdAndId(42L, 42L));
+    check("findAccessById", () -> projectRepo.findAccessById(42L, 77L));
+    check("findByProjectIdOrderByPosition",
+        () -> boardColumnRepository.findByProjectIdOrderByPosition(42L));
+    // Locking needs a transaction
+    check("lockById", () -> transactionTemplate.executeWithoutResult(
+        status -> boardColumnRepository.lockById(166L)));
+    // Updates need a transaction too, rolled back so the seeded rows stay live
+    check("markDeleted", () -> transactionTemplate.executeWithoutResult(status -> {
+      projectRepo.markDeleted(42L, LocalDateTime.now());
+      status.setRollbackOnly();
+    }));
+    check("markDeletedByWorkspaceId", () -> transactionTemplate.executeWithoutResult(status -> {
+      projectRepo.markDeletedByWorkspaceId(42L, LocalDateTime.now());
+      status.setRollbackOnly();
+    }));
+    assertNoViolations();
+  }
+
+  @Test
+  void testWorkspaceQueriesUseIndexes() {
+    check("findById", () -> workspaceRepository.findById(7L));
+    check("findByOwnerId", () -> workspaceRepository.findByOwnerId(50L));
+    check("findResponsesByOwnerId",
+        () -> workspaceRepository.findResponsesByOwnerId(50L, 0L, Limit.of(51)));
+    check("findIdsByOwnerId", () -> workspaceRepository.findIdsByOwnerId(50L));
+    check("findAccessById", () -> workspaceRepository.findAccessById(7L, 77L));
+    check("findByOwnerIdAndName",
+        () -> workspaceRepository.findByOwnerIdAndName(50L, "Workspace 7"));
+    // A few ids per user, deduplicated or ordered before the primary key lookups
+    check("findAllAccessibleByUser", () -> workspaceRepository.findAllAccessibleByUser(77L),
+        SORT_NODE);
+    check("findResponsesAccessibleByUser",
+        () -> workspaceRepository.findResponsesAccessibleByUser(77L, 0L, Limit.of(51)), SORT_NODE);
+    // A substring match cannot use a btree index
+    check("findByNameContainingIgnoreCase",
+        () -> workspaceRepository.findByNameContainingIgnoreCase("space 7"),
+        "Seq Scan on workspaces");
+    check("markDeleted", () -> transactionTemplate.executeWithoutResult(status -> {
+      workspaceRepository.markDeleted(7L, LocalDateTime.now());
+      status.setRollbackOnly();
+    }));
+    assertNoViolations();
+  }
+
+  @Test
+  void testMemberAndUserQueriesUseIndexes() {
+    check("findByWorkspaceId", () -> workspaceMemberRepository.findByWorkspaceId(7L));
+    check("findResponsesByWorkspaceId",
+        () -> workspaceMemberRepository.findResponsesByWorkspaceId(7L, 0L, Limit.of(51)));
+    check("findByUserId", () -> workspaceMemberRepository.findByUserId(77L));
+    check("findByUserIdAndWorkspaceId",
+        () -> workspaceMemberRepository.findByUserIdAndWorkspaceId(77L, 7L));
+    check("findUserIdsByWorkspaceId", () -> workspaceMemberRepository.findUserIdsByWorkspaceId(7L));
+    check("findWorkspaceRolesByUserId",
+        () -> workspaceMemberRepository.findWorkspaceRolesByUserId(77L));
+    check("findByEmail", () -> userRepo.findByEmail("user77@example.com"));
+    check("existsByEmail", () -> userRepo.existsByEmail("user77@example.com"));
+    check("findExistingIds", () -> userRepo.findExistingIds(List.of(7L, 77L, 123L)));
+    assertNoViolations();
+  }
+}
@@ -0,0 +1,92 @@
+package com.teamboard;
+
+import com.teamboard.ranking.RankKeys;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RankKeysTests {
+
+  private static void assertAscending(List<String> keys) {
+    for (int i = 1; i < keys.size(); i++) {
+      assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0,
+          keys.get(i - 1) + " is not below " + keys.get(i));
+    }
+  }
+
+  @Test
+  void testRandomInsertsKeepOrder() {
+    Random random = new Random(42);
+    List<String> keys = new ArrayList<>(RankKeys.sequence(1_000));
+    for (int i = 0; i < 50_000; i++) {
+      int position = random.nextInt(keys.size() + 1);
+      String lower = position == 0 ? null : keys.get(position - 1);
+      String upper = position == keys.size() ? null : keys.get(position);
+      keys.add(position, RankKeys.between(lower, upper));
+    }
+    assertAscending(keys);
+    assertTrue(keys.stream().allMatch(key -> key.length() <= 12));
+  }
+
+  @Test
+  void testEndsGrowLogarithmically() {
+    String top = null;
+    String bottom = null;
+    for (int i = 0; i < 100_000; i++) {
+      String nextTop = RankKeys.between(null, top);
+      String nextBottom = RankKeys.between(bottom, null);
+      assertTrue(top == null || nextTop.compareTo(top) < 0);
+      assertTrue(bottom == null || nextBottom.compareTo(bottom) > 0);
+      top = nextTop;
+      bottom = nextBottom;
+    }
+    assertTrue(top.length() <= 4, top);
+    assertTrue(bottom.length() <= 4, bottom);
+  }
+
+  @Test
+  void testSameGapGrowsAboutOneDigitPerSixInserts() {
+    String lower = RankKeys.MIDDLE;
+    String upper = RankKeys.between(lower, null);
+    for (int i = 0; i < 300; i++) {
+      String key = RankKeys.between(lower, upper);
+      assertTrue(lower.compareTo(key) < 0 && key.compareTo(upper) < 0);
+      upper = key;
+    }
+    assertTrue(upper.length() <= 2 + 300 / 5, upper);
+  }
+
+  @Test
+  void testSpreadKeysBetweenBounds() {
+    List<String> keys = RankKeys.between("a5", "a6", 1_000);
+    assertEquals(1_000, keys.size());
+    assertAscending(keys);
+    assertTrue(keys.get(0).compareTo("a5") > 0);
+    assertTrue(keys.get(999).compareTo("a6") < 0);
+    assertTrue(keys.stream().allMatch(key -> key.length() <= 5));
+
+    assertAscending(RankKeys.between(null, "a5", 100));
+    assertAscending(RankKeys.between("a5", null, 100));
+  }
+
+  @Test
+  void testSequenceIsShort() {
+    List<String> keys = RankKeys.sequence(10_000);
+    assertEquals(RankKeys.MIDDLE, keys.get(0));
+    assertAscending(keys);
+    assertTrue(keys.get(9_999).length() <= 4);
+  }
+
+  @Test
+  void testRejectsBadBounds() {
+    assertThrows(IllegalArgumentException.class, () -> RankKeys.between("a5", "a5"));
+    assertThrows(IllegalArgumentException.class, () -> RankKeys.between("a6", "a5"));
+    // A fraction may not end in the zero digit, and the head must match the integer's length
+    assertThrows(IllegalArgumentException.class, () -> RankKeys.between("a50", null));
+    assertThrows(IllegalArgumentException.class, () -> RankKeys.between("c1", null));
+    assertThrows(IllegalArgumentException.class, () -> RankKeys.between("a-", null));
+  }
+}
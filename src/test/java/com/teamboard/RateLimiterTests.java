@@ -0,0 +1,103 @@
+package com.teamboard;
+
+import com.teamboard.security.RateLimiter;
+import com.teamboard.security.RateLimiter.Budget;
+import com.teamboard.security.RateLimiter.Category;
+import com.teamboard.security.RateLimiter.Decision;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTests {
+
+  private AtomicLong clock;
+  private SimpleMeterRegistry registry;
+  private RateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    registry = new SimpleMeterRegistry();
+    rateLimiter = new RateLimiter(Map.of(
+        Category.READ, new Budget(10, Duration.ofSeconds(10)),
+        Category.WRITE, new Budget(3, Duration.ofSeconds(30)),
+        Category.AUTH, new Budget(2, Duration.ofMinutes(1))),
+        1_000, registry, clock::get);
+  }
+
+  private void advance(Duration duration) {
+    clock.addAndGet(duration.toNanos());
+  }
+
+  @Test
+  void testAllowsBurstUpToLimitThenRejects() {
+    for (int i = 0; i < 10; i++) {
+      Decision decision = rateLimiter.tryAcquire(Category.READ, 1L);
+      assertTrue(decision.allowed());
+      assertEquals(10, decision.limit());
+      assertEquals(9 - i, decision.remaining());
+    }
+
+    Decision rejected = rateLimiter.tryAcquire(Category.READ, 1L);
+    assertFalse(rejected.allowed());
+    assertEquals(0, rejected.remaining());
+    assertEquals(1, rejected.retryAfterSeconds());
+    assertEquals(10, rejected.resetSeconds());
+    assertEquals(1, registry.get("security.rate-limit.rejected").tag("category", "read").counter()
+        .count());
+  }
+
+  @Test
+  void testRefillsAtLimitPerPeriod() {
+    for (int i = 0; i < 3; i++) {
+      assertTrue(rateLimiter.tryAcquire(Category.WRITE, "10.0.0.1").allowed());
+    }
+    assertFalse(rateLimiter.tryAcquire(Category.WRITE, "10.0.0.1").allowed());
+
+    // One token every 10 seconds
+    advance(Duration.ofSeconds(9));
+    assertFalse(rateLimiter.tryAcquire(Category.WRITE, "10.0.0.1").allowed());
+    advance(Duration.ofSeconds(1));
+    assertTrue(rateLimiter.tryAcquire(Category.WRITE, "10.0.0.1").allowed());
+    assertFalse(rateLimiter.tryAcquire(Category.WRITE, "10.0.0.1").allowed());
+  }
+
+  @Test
+  void testCallersAndCategoriesAreIndependent() {
+    assertTrue(rateLimiter.tryAcquire(Category.AUTH, "10.0.0.1").allowed());
+    assertTrue(rateLimiter.tryAcquire(Category.AUTH, "10.0.0.1").allowed());
+    assertFalse(rateLimiter.tryAcquire(Category.AUTH, "10.0.0.1").allowed());
+
+    assertTrue(rateLimiter.tryAcquire(Category.AUTH, "10.0.0.2").allowed());
+    assertTrue(rateLimiter.tryAcquire(Category.READ, "10.0.0.1").allowed());
+    assertTrue(rateLimiter.tryAcquire(Category.WRITE, "10.0.0.1").allowed());
+  }
+
+  @Test
+  void testIdleBucketsExpireFull() {
+    for (int i = 0; i < 2; i++) {
+      rateLimiter.tryAcquire(Category.AUTH, "10.0.0.1");
+    }
+    assertEquals(1.0, registry.get("security.rate-limit.callers").tag("category", "auth").gauge()
+        .value());
+
+    advance(Duration.ofMinutes(1).plusSeconds(1));
+
+    Decision decision = rateLimiter.tryAcquire(Category.AUTH, "10.0.0.1");
+    assertTrue(decision.allowed());
+    assertEquals(1, decision.remaining());
+  }
+
+  @Test
+  void testRejectsMissingBudget() {
+    assertThrows(IllegalArgumentException.class, () -> new RateLimiter(
+        Map.of(Category.READ, new Budget(1, Duration.ofSeconds(1))), 10,
+        new SimpleMeterRegistry()));
+  }
+}
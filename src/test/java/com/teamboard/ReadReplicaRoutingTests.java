@@ -0,0 +1,164 @@
+package com.teamboard;
+
+import com.teamboard.datasource.ReadReplicas;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.security.AuthenticatedUser;
+import jakarta.persistence.Entity;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategySnakeCaseImpl;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two in-memory H2 replicas with the test schema, and a third that is never reachable. The primary
+// is a database of its own, so this context does not share (or drop) the other tests' testdb
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+    "datasource.replicas.urls=" + ReadReplicaRoutingTests.REPLICA1 + ","
+        + ReadReplicaRoutingTests.REPLICA2 + ",jdbc:h2:tcp://localhost:1/unreachable",
+    "datasource.replicas.connection-timeout=PT1S",
+    "datasource.replicas.read-your-writes-window=PT1M"})
+@ContextConfiguration(initializers = ReadReplicaRoutingTests.ReplicaSchema.class)
+@ActiveProfiles("test")
+public class ReadReplicaRoutingTests {
+
+  static final String REPLICA1 = "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1";
+  static final String REPLICA2 = "jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1";
+
+  /**
+   * Creates the entities' tables in each replica before the context starts, since startup already
+   * reads from them. Hibernate generates the DDL from the mappings, named as Spring Boot names them,
+   * the same way it creates the primary's schema.
+   */
+  static class ReplicaSchema
+      implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+      ClassPathScanningCandidateComponentProvider scanner =
+          new ClassPathScanningCandidateComponentProvider(false);
+      scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+      Set<BeanDefinition> entities = scanner.findCandidateComponents(Task.class.getPackageName());
+      for (String url : List.of(REPLICA1, REPLICA2)) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+            .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .applySetting(AvailableSettings.HBM2DDL_AUTO, "create")
+            .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+            .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                PhysicalNamingStrategySnakeCaseImpl.class.getName())
+            .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY,
+                SpringImplicitNamingStrategy.class.getName())
+            .build();
+        try {
+          MetadataSources sources = new MetadataSources(registry);
+          entities.forEach(entity -> sources.addAnnotatedClassName(entity.getBeanClassName()));
+          // Building the session factory creates the schema; closing it leaves the schema in place
+          sources.buildMetadata().buildSessionFactory().close();
+        } finally {
+          StandardServiceRegistryBuilder.destroy(registry);
+        }
+      }
+    }
+  }
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private ReadReplicas readReplicas;
+
+  private TransactionTemplate readOnly;
+  private TransactionTemplate readWrite;
+
+  @BeforeEach
+  void setUp() {
+    readReplicas.checkHealth();
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    readWrite = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private String database(TransactionTemplate transaction) {
+    return transaction.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+  }
+
+  private static void signInAs(long userId) {
+    User user = new User();
+    user.setId(userId);
+    user.setEmail("replica-" + userId + "@example.com");
+    AuthenticatedUser principal = new AuthenticatedUser(user);
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+  }
+
+  @Test
+  void testReadOnlyTransactionsAreSpreadOverHealthyReplicas() {
+    Set<String> seen = new HashSet<>();
+    for (int i = 0; i < 6; i++) {
+      seen.add(database(readOnly));
+    }
+
+    assertEquals(Set.of("REPLICA1", "REPLICA2"), seen);
+  }
+
+  @Test
+  void testReadWriteTransactionsUseThePrimary() {
+    assertEquals("PRIMARY", database(readWrite));
+  }
+
+  @Test
+  void testUserReadsTheirOwnWritesFromThePrimary() {
+    signInAs(910_001L);
+    readWrite.executeWithoutResult(status -> jdbcTemplate.queryForObject("select 1", Integer.class));
+
+    assertEquals("PRIMARY", database(readOnly));
+
+    // Another user is not pinned
+    signInAs(910_002L);
+    assertTrue(List.of("REPLICA1", "REPLICA2").contains(database(readOnly)));
+  }
+
+  @Test
+  void testRolledBackWriteDoesNotPinTheUser() {
+    signInAs(910_003L);
+    readWrite.executeWithoutResult(status -> {
+      jdbcTemplate.queryForObject("select 1", Integer.class);
+      status.setRollbackOnly();
+    });
+
+    assertTrue(List.of("REPLICA1", "REPLICA2").contains(database(readOnly)));
+  }
+}
@@ -0,0 +1,87 @@
+package com.teamboard;
+
+import com.teamboard.util.BloomFilter;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Registered-email filter sized for 1M users: probe cost for known and unknown emails, plus the
+ * filter's footprint and measured false positive rate, printed once per trial. Run with
+ * {@code mvn test -Pbenchmark -Dtest=RegisteredEmailFilterBenchmark}.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegisteredEmailFilterBenchmark {
+
+  private static final int USERS = 1_000_000;
+  private static final int PROBES = 1 << 16;
+
+  @Param({"0.01", "0.001"})
+  public double falsePositiveRate;
+
+  private BloomFilter filter;
+  private String[] known;
+  private String[] unknown;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    filter = new BloomFilter(USERS, falsePositiveRate);
+    for (int i = 0; i < USERS; i++) {
+      filter.put("user" + i + "@example.com");
+    }
+    known = new String[PROBES];
+    unknown = new String[PROBES];
+    for (int i = 0; i < PROBES; i++) {
+      known[i] = "user" + (i * 15 % USERS) + "@example.com";
+      unknown[i] = "stranger" + i + "@example.org";
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < USERS; i++) {
+      if (filter.mightContain("stranger" + i + "@example.org")) {
+        falsePositives++;
+      }
+    }
+    System.out.printf("%n%,d users, target %.3f: %,d bytes, %d hashes, false positives %.4f%%%n",
+        USERS, falsePositiveRate, filter.bitCount() / 8, filter.hashCount(),
+        100.0 * falsePositives / USERS);
+  }
+
+  @Benchmark
+  public boolean knownEmail() {
+    return filter.mightContain(known[next++ & (PROBES - 1)]);
+  }
+
+  @Benchmark
+  public boolean unknownEmail() {
+    return filter.mightContain(unknown[next++ & (PROBES - 1)]);
+  }
+
+  @Test
+  public void run() throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(RegisteredEmailFilterBenchmark.class.getName() + ".")
+        .build()).run();
+  }
+}
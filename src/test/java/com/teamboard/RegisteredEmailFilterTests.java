@@ -0,0 +1,127 @@
+package com.teamboard;
+
+import com.teamboard.repository.UserRepo;
+import com.teamboard.security.RegisteredEmailFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RegisteredEmailFilterTests {
+
+  private static final Duration OVERLAP = Duration.ofMinutes(1);
+
+  @Mock
+  private UserRepo userRepo;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(transactionTemplate.execute(any()))
+        .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  private RegisteredEmailFilter filter(boolean enabled) {
+    RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepo, transactionTemplate, enabled,
+        1_000, 0.001, OVERLAP, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    filter.init();
+    return filter;
+  }
+
+  @Test
+  void testKnowsEmailsLoadedAtStartup() {
+    when(userRepo.count()).thenReturn(2L);
+    when(userRepo.streamAllEmails()).thenReturn(Stream.of("a@example.com", "b@example.com"));
+
+    RegisteredEmailFilter filter = filter(true);
+
+    assertTrue(filter.mightExist("a@example.com"));
+    assertTrue(filter.mightExist("b@example.com"));
+    assertFalse(filter.mightExist("nobody@example.com"));
+  }
+
+  @Test
+  void testAddedEmailsAreKnownImmediately() {
+    when(userRepo.count()).thenReturn(0L);
+    when(userRepo.streamAllEmails()).thenReturn(Stream.empty());
+
+    RegisteredEmailFilter filter = filter(true);
+    filter.add("new@example.com");
+
+    assertTrue(filter.mightExist("new@example.com"));
+  }
+
+  @Test
+  void testEmailAddedDuringRebuildSurvivesIt() {
+    when(userRepo.count()).thenReturn(1L);
+    when(userRepo.streamAllEmails()).thenReturn(Stream.of("a@example.com"));
+    RegisteredEmailFilter filter = filter(true);
+
+    // Registration lands while the rebuild is streaming a snapshot that does not include it
+    when(userRepo.streamAllEmails()).thenAnswer(invocation -> {
+      filter.add("racing@example.com");
+      return Stream.of("a@example.com");
+    });
+    filter.refresh();
+
+    assertTrue(filter.mightExist("a@example.com"));
+    assertTrue(filter.mightExist("racing@example.com"));
+  }
+
+  @Test
+  void testCatchUpAddsEmailsRegisteredOnOtherInstances() {
+    when(userRepo.count()).thenReturn(0L);
+    when(userRepo.streamAllEmails()).thenReturn(Stream.empty());
+    LocalDateTime built = LocalDateTime.now();
+    RegisteredEmailFilter filter = filter(true);
+    assertFalse(filter.mightExist("elsewhere@example.com"));
+
+    when(userRepo.findEmailsUpdatedAfter(any())).thenReturn(List.of("elsewhere@example.com"));
+    filter.catchUp();
+
+    assertTrue(filter.mightExist("elsewhere@example.com"));
+    // Reaches back from the rebuild by the overlap, for late commits and clock skew
+    ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(userRepo).findEmailsUpdatedAfter(since.capture());
+    assertFalse(since.getValue().isBefore(built.minus(OVERLAP)));
+    assertFalse(since.getValue().isAfter(LocalDateTime.now().minus(OVERLAP)));
+  }
+
+  @Test
+  void testRefreshDropsDeletedEmails() {
+    when(userRepo.count()).thenReturn(1L);
+    when(userRepo.streamAllEmails()).thenReturn(Stream.of("gone@example.com"));
+    RegisteredEmailFilter filter = filter(true);
+
+    when(userRepo.streamAllEmails()).thenReturn(Stream.empty());
+    filter.refresh();
+
+    assertFalse(filter.mightExist("gone@example.com"));
+  }
+
+  @Test
+  void testDisabledFilterAlwaysDefersToDatabase() {
+    RegisteredEmailFilter filter = filter(false);
+    filter.catchUp();
+
+    assertTrue(filter.mightExist("anyone@example.com"));
+    verifyNoInteractions(userRepo);
+  }
+}
@@ -0,0 +1,51 @@
+package com.teamboard;
+
+import com.teamboard.logging.RequestTraceFilter;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestTraceFilterTests {
+
+  private String traceSeenByChain(RequestTraceFilter filter, MockHttpServletRequest request,
+      MockHttpServletResponse response) throws Exception {
+    AtomicReference<String> seen = new AtomicReference<>();
+    filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(RequestTraceFilter.TRACE_KEY)));
+    return seen.get();
+  }
+
+  @Test
+  void testTracesRequestWithHeaderWhenEnabled() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/workspaces");
+    request.addHeader("X-Debug-Trace", "1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    String traceId = traceSeenByChain(new RequestTraceFilter(true, 0), request, response);
+
+    assertNotNull(traceId);
+    assertEquals(traceId, response.getHeader("X-Debug-Trace"));
+    assertNull(MDC.get(RequestTraceFilter.TRACE_KEY));
+  }
+
+  @Test
+  void testIgnoresHeaderWhenDisabled() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/workspaces");
+    request.addHeader("X-Debug-Trace", "1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    assertNull(traceSeenByChain(new RequestTraceFilter(false, 0), request, response));
+    assertNull(response.getHeader("X-Debug-Trace"));
+  }
+
+  @Test
+  void testSamplesEveryRequestAtFullRate() throws Exception {
+    String traceId = traceSeenByChain(new RequestTraceFilter(false, 1.0),
+        new MockHttpServletRequest("GET", "/api/workspaces"), new MockHttpServletResponse());
+
+    assertNotNull(traceId);
+  }
+}
@@ -0,0 +1,225 @@
+package com.teamboard;
+
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.TaskResponseDTO;
+import com.teamboard.cache.CacheRegions;
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.Priority;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.pagination.PageQuery;
+import com.teamboard.purge.DeletionPurger;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.BoardColumnService;
+import com.teamboard.service.ProjectService;
+import com.teamboard.service.TaskService;
+import com.teamboard.service.WorkspaceService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statements behind the board-load path with a cold and a warm second-level cache, and the
+ * invalidation of cached entries by updates and purged deletes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SecondLevelCacheTests {
+
+  private static final int TASKS = 8;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private UserRepo userRepo;
+
+  @Autowired
+  private WorkspaceRepository workspaceRepository;
+
+  @Autowired
+  private ProjectRepo projectRepo;
+
+  @Autowired
+  private BoardColumnRepository boardColumnRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private WorkspaceService workspaceService;
+
+  @Autowired
+  private ProjectService projectService;
+
+  @Autowired
+  private BoardColumnService boardColumnService;
+
+  @Autowired
+  private TaskService taskService;
+
+  @Autowired
+  private DeletionPurger deletionPurger;
+
+  private Statistics statistics;
+  private Workspace workspace;
+  private Project project;
+  private List<BoardColumn> columns;
+
+  @BeforeEach
+  void setUp() {
+    String run = UUID.randomUUID().toString();
+    User owner = new User();
+    owner.setEmail("l2-" + run + "@example.com");
+    owner.setPasswordHash("hashed_password");
+    owner.setName("Cache");
+    owner = userRepo.save(owner);
+    workspace = workspaceRepository.save(
+        Workspace.builder().name("Cache " + run).owner(owner).build());
+    project = projectRepo.save(Project.builder()
+        .name("Board").workspace(workspace).createdBy(owner).build());
+    columns = new ArrayList<>();
+    ColumnName[] names = ColumnName.values();
+    for (int i = 0; i < names.length; i++) {
+      columns.add(boardColumnRepository.save(BoardColumn.builder()
+          .name(names[i]).position(i + 1).project(project).build()));
+    }
+    for (int i = 0; i < TASKS; i++) {
+      taskRepository.save(Task.builder()
+          .title("Task " + i)
+          .project(project)
+          .column(columns.get(i % columns.size()))
+          .createdBy(owner)
+          .priority(Priority.MEDIUM)
+          .build());
+    }
+
+    entityManagerFactory.getCache().evictAll();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    statistics.setStatisticsEnabled(false);
+  }
+
+  // The service calls behind opening a board: its workspace, the project, its columns and the
+  // first page of tasks
+  private void loadBoard() {
+    Workspace loaded = workspaceService.getWorkspace(workspace.getId());
+    assertEquals(workspace.getOwner().getName(), loaded.getOwner().getName());
+    Project board = projectService.getProjectById(project.getId());
+    assertEquals("Cache", board.getCreatedBy().getName());
+    assertEquals(columns.size(), boardColumnService.getColumnsByProjectId(project.getId()).size());
+    CursorPage<TaskResponseDTO> tasks =
+        taskService.getTaskResponsesByProject(project.getId(), PageQuery.first(TASKS));
+    assertEquals(TASKS, tasks.getItems().size());
+  }
+
+  @Test
+  void testWarmBoardLoadOnlyQueriesTasks() {
+    loadBoard();
+    // The workspace with its owner, the project with its creator, the columns and the tasks;
+    // the project's later existence checks are already served from the cache
+    long cold = statistics.getPrepareStatementCount();
+    assertEquals(4, cold);
+
+    statistics.clear();
+    loadBoard();
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(1, statistics.getQueryCacheHitCount());
+    assertTrue(statistics.getDomainDataRegionStatistics(CacheRegions.PROJECTS).getHitCount() > 0);
+    assertEquals(columns.size(),
+        statistics.getDomainDataRegionStatistics(CacheRegions.BOARD_COLUMNS).getHitCount());
+    assertEquals(0,
+        statistics.getDomainDataRegionStatistics(CacheRegions.WORKSPACES).getMissCount());
+  }
+
+  @Test
+  void testUpdateReplacesCachedEntity() {
+    projectService.getProjectById(project.getId());
+
+    Project renamed = projectService.getProjectById(project.getId());
+    renamed.setName("Renamed");
+    projectService.updateProject(renamed);
+
+    statistics.clear();
+    assertEquals("Renamed", projectService.getProjectById(project.getId()).getName());
+    assertEquals(0, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void testNewColumnMakesCachedColumnListStale() {
+    boardColumnService.getColumnsByProjectId(project.getId());
+
+    boardColumnRepository.save(BoardColumn.builder()
+        .name(ColumnName.DONE).position(columns.size() + 1).project(project).build());
+
+    assertEquals(columns.size() + 1,
+        boardColumnService.getColumnsByProjectId(project.getId()).size());
+  }
+
+  @Test
+  void testProjectPurgeEvictsItsColumns() {
+    Long columnId = columns.get(0).getId();
+    projectService.getProjectById(project.getId());
+    boardColumnService.getColumnById(columnId);
+    boardColumnService.getColumnsByProjectId(project.getId());
+    assertTrue(entityManagerFactory.getCache().contains(BoardColumn.class, columnId));
+
+    projectService.deleteProject(project.getId());
+
+    // Hidden at once, whatever the cache holds
+    assertThrows(IllegalArgumentException.class, () -> projectService.getProjectById(project.getId()));
+
+    while (deletionPurger.purgeBatch()) {
+      // Batch after batch until the project is gone
+    }
+
+    assertFalse(entityManagerFactory.getCache().contains(BoardColumn.class, columnId));
+    assertThrows(IllegalArgumentException.class, () -> boardColumnService.getColumnById(columnId));
+    assertTrue(boardColumnRepository.findByProjectIdOrderByPosition(project.getId()).isEmpty());
+  }
+
+  @Test
+  void testWorkspacePurgeEvictsItsProjects() {
+    workspaceService.getWorkspace(workspace.getId());
+    projectService.getProjectById(project.getId());
+    boardColumnService.getColumnById(columns.get(0).getId());
+
+    workspaceService.deleteWorkspace(workspace.getId());
+
+    assertNull(workspaceService.getWorkspace(workspace.getId()));
+    assertThrows(IllegalArgumentException.class, () -> projectService.getProjectById(project.getId()));
+
+    while (deletionPurger.purgeBatch()) {
+      // Batch after batch until the workspace is gone
+    }
+
+    assertFalse(entityManagerFactory.getCache().contains(Workspace.class, workspace.getId()));
+    assertFalse(entityManagerFactory.getCache().contains(Project.class, project.getId()));
+    assertThrows(IllegalArgumentException.class,
+        () -> boardColumnService.getColumnById(columns.get(0).getId()));
+  }
+}
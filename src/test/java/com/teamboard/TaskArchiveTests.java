@@ -0,0 +1,256 @@
+package com.teamboard;
+
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.TaskResponseDTO;
+import com.teamboard.archive.TaskArchiver;
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.pagination.Cursor;
+import com.teamboard.pagination.PageQuery;
+import com.teamboard.purge.DeletionPurger;
+import com.teamboard.repository.ArchivedTaskRepository;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.ProjectService;
+import com.teamboard.service.TaskService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Completed tasks: stamped when they reach DONE, moved to the archive in batches of
+ * {@code task-archive.batch-size} (5 in the test profile) once completed more than
+ * {@code task-archive.after} ago, and still readable from there.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class TaskArchiveTests {
+
+  private static final int OLD = 7;
+
+  @Autowired
+  private UserRepo userRepo;
+
+  @Autowired
+  private WorkspaceRepository workspaceRepository;
+
+  @Autowired
+  private ProjectRepo projectRepo;
+
+  @Autowired
+  private BoardColumnRepository boardColumnRepository;
+
+  @Autowired
+  private ArchivedTaskRepository archivedTaskRepository;
+
+  @Autowired
+  private TaskService taskService;
+
+  @Autowired
+  private ProjectService projectService;
+
+  @Autowired
+  private TaskArchiver archiver;
+
+  @Autowired
+  private DeletionPurger purger;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private User owner;
+  private Project project;
+  private BoardColumn backlog;
+  private BoardColumn done;
+
+  @BeforeEach
+  void setUp() {
+    // Old completed tasks left by other tests would be archived first
+    drain();
+    String run = UUID.randomUUID().toString();
+    owner = new User();
+    owner.setEmail("archive-" + run + "@example.com");
+    owner.setPasswordHash("hashed_password");
+    owner.setName("Archivist");
+    owner = userRepo.save(owner);
+    Workspace workspace = workspaceRepository.save(
+        Workspace.builder().name("Archive " + run).owner(owner).build());
+    project = projectRepo.save(Project.builder()
+        .name("Board").workspace(workspace).createdBy(owner).build());
+    ColumnName[] names = ColumnName.values();
+    List<BoardColumn> columns = new ArrayList<>();
+    for (int i = 0; i < names.length; i++) {
+      columns.add(boardColumnRepository.save(BoardColumn.builder()
+          .name(names[i]).position(i + 1).project(project).build()));
+    }
+    backlog = columns.get(0);
+    done = columns.get(names.length - 1);
+  }
+
+  private List<Long> createTasks(int count) {
+    List<Long> ids = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ids.add(taskService.createTask(Task.builder()
+          .title("Card " + i).project(project).createdBy(owner).build()).getId());
+    }
+    return ids;
+  }
+
+  // Done, and completed long enough ago to be archived
+  private void completeLongAgo(Long taskId) {
+    taskService.moveTaskToColumn(taskId, done.getId(), null);
+    jdbcTemplate.update("update tasks set completed_at = ? where id = ?",
+        LocalDateTime.now().minusDays(365), taskId);
+  }
+
+  private void drain() {
+    while (archiver.archiveBatch() > 0) {
+      // Until nothing old enough is left
+    }
+  }
+
+  private int count(String table) {
+    return jdbcTemplate.queryForObject(
+        "select count(*) from " + table + " where project_id = ?", Integer.class, project.getId());
+  }
+
+  private List<Long> ids(CursorPage<TaskResponseDTO> page) {
+    return page.getItems().stream().map(TaskResponseDTO::getId).toList();
+  }
+
+  @Test
+  void testMoveToDoneCompletesTask() {
+    Long id = createTasks(1).get(0);
+    assertNull(taskService.getTaskById(id).getCompletedAt());
+
+    taskService.moveTaskToColumn(id, done.getId(), null);
+    LocalDateTime completed = taskService.getTaskById(id).getCompletedAt();
+    assertNotNull(completed);
+
+    // Reordering within DONE keeps the time it was completed
+    taskService.moveTaskToColumn(id, done.getId(), null);
+    assertEquals(completed, taskService.getTaskById(id).getCompletedAt());
+
+    // Reopened
+    taskService.moveTaskToColumn(id, backlog.getId(), null);
+    assertNull(taskService.getTaskById(id).getCompletedAt());
+  }
+
+  @Test
+  void testOldCompletedTasksAreArchivedInBatches() {
+    List<Long> ids = createTasks(OLD + 2);
+    ids.subList(0, OLD).forEach(this::completeLongAgo);
+    // Completed just now, and still open
+    taskService.moveTaskToColumn(ids.get(OLD), done.getId(), null);
+
+    assertEquals(5, archiver.archiveBatch());
+    assertEquals(OLD - 5, archiver.archiveBatch());
+    archiver.archiveCompleted();
+
+    assertEquals(2, count("tasks"));
+    assertEquals(OLD, count("tasks_archive"));
+    assertEquals(0, archiver.pending());
+  }
+
+  @Test
+  void testArchivingIsIdempotent() {
+    List<Long> ids = createTasks(3);
+    ids.forEach(this::completeLongAgo);
+    // A copy already in the archive, as if a batch had been repeated
+    jdbcTemplate.update("insert into tasks_archive (id, title, description, project_id,"
+        + " column_id, assigned_to, priority, due_date, created_by, created_at, updated_at,"
+        + " completed_at, rank, version, archived_at)"
+        + " select id, title, description, project_id, column_id, assigned_to, priority, due_date,"
+        + " created_by, created_at, updated_at, completed_at, rank, version, ?"
+        + " from tasks where id = ?", LocalDateTime.now(), ids.get(0));
+
+    archiver.archiveCompleted();
+    archiver.archiveCompleted();
+
+    assertEquals(0, count("tasks"));
+    assertEquals(3, count("tasks_archive"));
+  }
+
+  @Test
+  void testListsReadHotTasksUnlessArchivedIncluded() {
+    List<Long> ids = createTasks(6);
+    completeLongAgo(ids.get(1));
+    completeLongAgo(ids.get(4));
+    drain();
+
+    List<Long> newestFirst = new ArrayList<>(ids);
+    Collections.reverse(newestFirst);
+    assertEquals(List.of(ids.get(5), ids.get(3), ids.get(2), ids.get(0)),
+        ids(taskService.getTaskResponsesByProject(project.getId(), PageQuery.first(10))));
+
+    // Page by page through both tables, in one order
+    List<Long> seen = new ArrayList<>();
+    PageQuery query = PageQuery.first(4);
+    while (true) {
+      CursorPage<TaskResponseDTO> page =
+          taskService.getTaskResponsesByProject(project.getId(), query, true);
+      seen.addAll(ids(page));
+      if (page.getNext() == null) {
+        break;
+      }
+      query = new PageQuery(Cursor.decode(page.getNext()), 4);
+    }
+    assertEquals(newestFirst, seen);
+
+    TaskResponseDTO archived = taskService
+        .getTaskResponsesByProject(project.getId(), PageQuery.first(10), true).getItems().stream()
+        .filter(task -> task.getId().equals(ids.get(4)))
+        .findFirst().orElseThrow();
+    assertTrue(archived.isArchived());
+    assertEquals(done.getId(), archived.getColumnId());
+    assertEquals(owner.getName(), archived.getCreatedByName());
+  }
+
+  @Test
+  void testSingleTaskFallsBackToArchive() {
+    Long id = createTasks(1).get(0);
+    completeLongAgo(id);
+    drain();
+
+    TaskResponseDTO task = taskService.getTaskResponseById(id);
+    assertTrue(task.isArchived());
+    assertEquals("Card 0", task.getTitle());
+    assertNotNull(task.getCompletedAt());
+    assertTrue(archivedTaskRepository.findAccessById(id, owner.getId()).orElseThrow().owner());
+
+    // Archived tasks are read-only
+    assertThrows(IllegalArgumentException.class, () -> taskService.getTaskById(id));
+    assertThrows(IllegalArgumentException.class, () -> taskService.getTaskResponseById(-1L));
+  }
+
+  @Test
+  void testArchivedTasksArePurgedWithTheirProject() {
+    createTasks(2).forEach(this::completeLongAgo);
+    drain();
+
+    projectService.deleteProject(project.getId());
+    while (purger.purgeBatch()) {
+      // Until nothing deleted is left
+    }
+
+    assertEquals(0, count("tasks_archive"));
+    assertEquals(0, jdbcTemplate.queryForObject(
+        "select count(*) from projects where id = ?", Integer.class, project.getId()));
+  }
+}
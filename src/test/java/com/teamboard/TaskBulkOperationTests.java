@@ -0,0 +1,221 @@
+package com.teamboard;
+
+import com.teamboard.DTO.TaskBulkRequestDTO;
+import com.teamboard.DTO.TaskBulkRequestDTO.Operation;
+import com.teamboard.DTO.TaskBulkResultDTO;
+import com.teamboard.DTO.TaskBulkResultDTO.Status;
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.Priority;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class TaskBulkOperationTests {
+
+  @Autowired
+  private UserRepo userRepo;
+
+  @Autowired
+  private WorkspaceRepository workspaceRepository;
+
+  @Autowired
+  private ProjectRepo projectRepo;
+
+  @Autowired
+  private BoardColumnRepository boardColumnRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private TaskService taskService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private User owner;
+  private Project project;
+  private BoardColumn backlog;
+  private BoardColumn done;
+  private BoardColumn otherProjectColumn;
+  private List<Long> taskIds;
+  private Long otherProjectTaskId;
+
+  @BeforeEach
+  void setUp() {
+    String run = UUID.randomUUID().toString();
+    owner = new User();
+    owner.setEmail("bulk-" + run + "@example.com");
+    owner.setPasswordHash("hashed_password");
+    owner.setName("Bulk");
+    owner = userRepo.save(owner);
+    Workspace workspace = workspaceRepository.save(
+        Workspace.builder().name("Bulk " + run).owner(owner).build());
+    project = projectRepo.save(Project.builder()
+        .name("Board").workspace(workspace).createdBy(owner).build());
+    backlog = boardColumnRepository.save(BoardColumn.builder()
+        .name(ColumnName.BACKLOG).position(1).project(project).build());
+    done = boardColumnRepository.save(BoardColumn.builder()
+        .name(ColumnName.DONE).position(2).project(project).build());
+    taskIds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      taskIds.add(task(project, backlog, "Task " + i).getId());
+    }
+
+    Project other = projectRepo.save(Project.builder()
+        .name("Other").workspace(workspace).createdBy(owner).build());
+    otherProjectColumn = boardColumnRepository.save(BoardColumn.builder()
+        .name(ColumnName.BACKLOG).position(1).project(other).build());
+    otherProjectTaskId = task(other, otherProjectColumn, "Elsewhere").getId();
+  }
+
+  private Task task(Project project, BoardColumn column, String title) {
+    return taskRepository.save(Task.builder()
+        .title(title)
+        .project(project)
+        .column(column)
+        .createdBy(owner)
+        .priority(Priority.MEDIUM)
+        .build());
+  }
+
+  private List<Long> withForeignIds() {
+    List<Long> ids = new ArrayList<>(taskIds);
+    ids.add(otherProjectTaskId);
+    ids.add(Long.MAX_VALUE);
+    return ids;
+  }
+
+  private Task reload(Long taskId) {
+    return taskRepository.findById(taskId).orElseThrow();
+  }
+
+  @Test
+  void testMoveReportsOutcomePerId() {
+    TaskBulkResultDTO result = taskService.bulkUpdate(project.getId(), TaskBulkRequestDTO.builder()
+        .operation(Operation.MOVE).taskIds(withForeignIds()).columnId(done.getId()).build());
+
+    assertEquals(List.of(Status.UPDATED, Status.UPDATED, Status.UPDATED, Status.NOT_FOUND, Status.NOT_FOUND),
+        result.getResults().stream().map(TaskBulkResultDTO.Outcome::getStatus).toList());
+    assertEquals(withForeignIds(),
+        result.getResults().stream().map(TaskBulkResultDTO.Outcome::getTaskId).toList());
+    for (Long taskId : taskIds) {
+      assertEquals(done.getId(), reload(taskId).getColumn().getId());
+    }
+    // The other project's task is untouched
+    assertEquals(otherProjectColumn.getId(), reload(otherProjectTaskId).getColumn().getId());
+  }
+
+  @Test
+  void testMoveIsOneUpdateWhateverTheNumberOfTasks() {
+    List<Long> more = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      more.add(task(project, backlog, "More " + i).getId());
+    }
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    try {
+      // Warms the cached column, so both moves below read the same way
+      move(List.of(taskIds.get(0)));
+
+      statistics.clear();
+      move(List.of(taskIds.get(1)));
+      long oneTask = statistics.getPrepareStatementCount();
+
+      statistics.clear();
+      move(more);
+      assertEquals(oneTask, statistics.getPrepareStatementCount());
+    } finally {
+      statistics.setStatisticsEnabled(false);
+    }
+    for (Long taskId : more) {
+      assertEquals(done.getId(), reload(taskId).getColumn().getId());
+    }
+  }
+
+  private void move(List<Long> ids) {
+    taskService.bulkUpdate(project.getId(), TaskBulkRequestDTO.builder()
+        .operation(Operation.MOVE).taskIds(ids).columnId(done.getId()).build());
+  }
+
+  @Test
+  void testMoveToColumnOfAnotherProjectIsRejected() {
+    TaskBulkRequestDTO request = TaskBulkRequestDTO.builder()
+        .operation(Operation.MOVE).taskIds(taskIds).columnId(otherProjectColumn.getId()).build();
+
+    assertThrows(IllegalArgumentException.class, () -> taskService.bulkUpdate(project.getId(), request));
+    assertEquals(backlog.getId(), reload(taskIds.get(0)).getColumn().getId());
+  }
+
+  @Test
+  void testAssignAndUnassign() {
+    taskService.bulkUpdate(project.getId(), TaskBulkRequestDTO.builder()
+        .operation(Operation.ASSIGN).taskIds(taskIds).assignedToId(owner.getId()).build());
+    for (Long taskId : taskIds) {
+      assertEquals(owner.getId(), reload(taskId).getAssignedTo().getId());
+    }
+
+    taskService.bulkUpdate(project.getId(), TaskBulkRequestDTO.builder()
+        .operation(Operation.ASSIGN).taskIds(taskIds.subList(0, 1)).build());
+    assertNull(reload(taskIds.get(0)).getAssignedTo());
+    assertNotNull(reload(taskIds.get(1)).getAssignedTo());
+  }
+
+  @Test
+  void testPrioritizeUpdatesTimestamp() {
+    Task before = reload(taskIds.get(0));
+
+    taskService.bulkUpdate(project.getId(), TaskBulkRequestDTO.builder()
+        .operation(Operation.PRIORITIZE).taskIds(taskIds).priority(Priority.HIGH).build());
+
+    Task after = reload(taskIds.get(0));
+    assertEquals(Priority.HIGH, after.getPriority());
+    assertFalse(after.getUpdatedAt().isBefore(before.getUpdatedAt()));
+  }
+
+  @Test
+  void testDeleteRemovesOnlyTheProjectsTasks() {
+    TaskBulkResultDTO result = taskService.bulkUpdate(project.getId(), TaskBulkRequestDTO.builder()
+        .operation(Operation.DELETE).taskIds(withForeignIds()).build());
+
+    assertEquals(Status.DELETED, result.getResults().get(0).getStatus());
+    assertTrue(taskRepository.findByProjectIdOrderByCreatedAtDesc(project.getId()).isEmpty());
+    assertTrue(taskRepository.existsById(otherProjectTaskId));
+  }
+
+  @Test
+  void testInvalidRequestsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> taskService.bulkUpdate(project.getId(),
+        TaskBulkRequestDTO.builder().operation(Operation.DELETE).taskIds(List.of()).build()));
+    assertThrows(IllegalArgumentException.class, () -> taskService.bulkUpdate(project.getId(),
+        TaskBulkRequestDTO.builder().taskIds(taskIds).build()));
+    assertThrows(IllegalArgumentException.class, () -> taskService.bulkUpdate(project.getId(),
+        TaskBulkRequestDTO.builder().operation(Operation.PRIORITIZE).taskIds(taskIds).build()));
+    assertThrows(IllegalArgumentException.class, () -> taskService.bulkUpdate(project.getId(),
+        TaskBulkRequestDTO.builder().operation(Operation.ASSIGN).taskIds(taskIds)
+            .assignedToId(Long.MAX_VALUE).build()));
+  }
+}
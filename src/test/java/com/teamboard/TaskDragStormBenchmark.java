@@ -0,0 +1,152 @@
+package com.teamboard;
+
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.Priority;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.ranking.RankKeys;
+import com.teamboard.ranking.TaskRankRebalancer;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.TaskService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Dragging cards within a 10k-card column on H2: to random positions, and a storm of concurrent
+ * drops into the same gap, which lengthens keys fastest and makes every drop wait for the
+ * column's rank lock. Each drop writes one row. Rewriting the whole column, which the rebalancer
+ * does once keys grow long and a position-integer design would do on every drop, is measured for
+ * comparison. Latency per call. Run with {@code mvn test -Pbenchmark -Dtest=TaskDragStormBenchmark}.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskDragStormBenchmark {
+
+  private static final int CARDS = 10_000;
+
+  private ConfigurableApplicationContext context;
+  private TaskService taskService;
+  private TaskRankRebalancer rebalancer;
+  private TransactionTemplate transactionTemplate;
+  private Long columnId;
+  private List<Long> cardIds;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(TeamboardBackendApplication.class)
+        .profiles("test")
+        .run("--server.port=0", "--task-rank.rebalance-interval=PT5S");
+    // The test profile builds the schema from the mappings, which leave out V13's rank index
+    context.getBean(JdbcTemplate.class)
+        .execute("create index idx_tasks_column_rank_id on tasks(column_id, rank, id)");
+    taskService = context.getBean(TaskService.class);
+    rebalancer = context.getBean(TaskRankRebalancer.class);
+    transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+    User owner = new User();
+    owner.setEmail("drag@example.com");
+    owner.setPasswordHash("hashed_password");
+    owner.setName("Dragger");
+    owner = context.getBean(UserRepo.class).save(owner);
+    Workspace workspace = context.getBean(WorkspaceRepository.class).save(
+        Workspace.builder().name("Benchmark").owner(owner).build());
+    Project project = context.getBean(ProjectRepo.class).save(
+        Project.builder().name("Benchmark").workspace(workspace).createdBy(owner).build());
+    BoardColumn column = context.getBean(BoardColumnRepository.class).save(
+        BoardColumn.builder().name(ColumnName.BACKLOG).position(1).project(project).build());
+    columnId = column.getId();
+
+    List<String> ranks = RankKeys.sequence(CARDS);
+    List<Task> tasks = new ArrayList<>(CARDS);
+    for (int i = 0; i < CARDS; i++) {
+      tasks.add(Task.builder()
+          .title("Card " + i)
+          .project(project)
+          .column(column)
+          .createdBy(owner)
+          .priority(Priority.MEDIUM)
+          .rank(ranks.get(i))
+          .build());
+    }
+    cardIds = context.getBean(TaskRepository.class).saveAll(tasks).stream()
+        .map(Task::getId).toList();
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  private Long randomCard() {
+    return cardIds.get(ThreadLocalRandom.current().nextInt(CARDS));
+  }
+
+  @Benchmark
+  public Task dragToRandomPosition() {
+    Long card = randomCard();
+    Long above = randomCard();
+    while (above.equals(card)) {
+      above = randomCard();
+    }
+    return taskService.moveTask(card, columnId, above, null, null);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Task dragStormIntoOneGap() {
+    // Every drop lands right below the same card, each key a little longer than the one before
+    Long card = randomCard();
+    while (card.equals(cardIds.get(0))) {
+      card = randomCard();
+    }
+    return taskService.moveTask(card, columnId, cardIds.get(0), null, null);
+  }
+
+  @Benchmark
+  public Integer rewriteWholeColumn() {
+    return transactionTemplate.execute(status -> rebalancer.rebalance(columnId));
+  }
+
+  @Test
+  public void run() throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(TaskDragStormBenchmark.class.getName() + ".")
+        .build()).run();
+  }
+}
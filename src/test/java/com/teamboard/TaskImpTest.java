@@ -3,6 +3,8 @@ package com.teamboard;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.teamboard.DTO.CursorPage;
+import com.teamboard.DTO.TaskResponseDTO;
 import com.teamboard.entity.BoardColumn;
 import com.teamboard.entity.ColumnName;
 import com.teamboard.entity.Priority;
@@ -10,6 +12,10 @@ import com.teamboard.entity.Project;
 import com.teamboard.entity.Task;
 import com.teamboard.entity.User;
 import com.teamboard.entity.Workspace;
+import com.teamboard.pagination.PageQuery;
+import com.teamboard.ranking.TaskRanker;
+import com.teamboard.repository.ArchivedTaskRepository;
+import com.teamboard.repository.BoardColumnRepository;
 import com.teamboard.repository.TaskRepository;
 import com.teamboard.service.BoardColumnService;
 import com.teamboard.service.ProjectService;
@@ -25,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskImpTest {
@@ -41,6 +48,15 @@ public class TaskImpTest {
   @Mock
   private UserService userService;
 
+  @Mock
+  private BoardColumnRepository boardColumnRepository;
+
+  @Mock
+  private TaskRanker taskRanker;
+
+  @Mock
+  private ArchivedTaskRepository archivedTaskRepository;
+
   private TaskService taskService;
   private Project testProject;
   private User testUser;
@@ -49,7 +65,8 @@ public class TaskImpTest {
 
   @BeforeEach
   void setUp() {
-    taskService = new TaskImp(taskRepository, projectService, boardColumnService, userService);
+    taskService = new TaskImp(taskRepository, projectService, boardColumnService, userService,
+        boardColumnRepository, taskRanker, archivedTaskRepository);
 
     testUser = new User();
     testUser.setId(1L);
@@ -88,6 +105,7 @@ public class TaskImpTest {
 
     when(projectService.getProjectById(1L)).thenReturn(testProject);
     when(boardColumnService.getColumnsByProjectId(1L)).thenReturn(Arrays.asList(backlogColumn));
+    when(taskRanker.append(1L)).thenReturn("a5");
     when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
       Task task = invocation.getArgument(0);
       task.setId(1L);
@@ -100,6 +118,7 @@ public class TaskImpTest {
     assertEquals("Test Task", result.getTitle());
     assertEquals(1L, result.getColumn().getId());
     assertEquals(Priority.MEDIUM, result.getPriority());
+    assertEquals("a5", result.getRank());
 
     verify(projectService, times(1)).getProjectById(1L);
     verify(boardColumnService, times(1)).getColumnsByProjectId(1L);
@@ -174,6 +193,66 @@ public class TaskImpTest {
     );
   }
 
+  private static TaskResponseDTO response(long id, LocalDateTime createdAt, boolean archived) {
+    return TaskResponseDTO.builder().id(id).createdAt(createdAt).archived(archived).build();
+  }
+
+  @Test
+  void testGetTaskResponseById_FallsBackToArchive() {
+    LocalDateTime created = LocalDateTime.of(2024, 1, 1, 9, 0);
+    when(taskRepository.findResponseById(7L)).thenReturn(Optional.empty());
+    when(archivedTaskRepository.findResponseById(7L))
+        .thenReturn(Optional.of(response(7L, created, true)));
+
+    TaskResponseDTO result = taskService.getTaskResponseById(7L);
+
+    assertEquals(7L, result.getId());
+    assertTrue(result.isArchived());
+  }
+
+  @Test
+  void testGetTaskResponseById_HotTaskSkipsArchive() {
+    LocalDateTime created = LocalDateTime.of(2024, 1, 1, 9, 0);
+    when(taskRepository.findResponseById(7L)).thenReturn(Optional.of(response(7L, created, false)));
+
+    assertFalse(taskService.getTaskResponseById(7L).isArchived());
+    verifyNoInteractions(archivedTaskRepository);
+  }
+
+  @Test
+  void testGetTaskResponseById_NotFound() {
+    when(taskRepository.findResponseById(999L)).thenReturn(Optional.empty());
+    when(archivedTaskRepository.findResponseById(999L)).thenReturn(Optional.empty());
+
+    assertThrows(IllegalArgumentException.class, () -> taskService.getTaskResponseById(999L));
+  }
+
+  @Test
+  void testGetTaskResponsesByProject_MergesArchivedNewestFirst() {
+    LocalDateTime day = LocalDateTime.of(2024, 1, 1, 9, 0);
+    PageQuery page = PageQuery.first(2);
+    when(projectService.getProjectById(1L)).thenReturn(testProject);
+    when(taskRepository.findResponsesByProjectId(eq(1L), any())).thenReturn(List.of(
+        response(9L, day.plusDays(3), false), response(5L, day.plusDays(1), false)));
+    when(archivedTaskRepository.findResponsesByProjectId(eq(1L), any())).thenReturn(List.of(
+        response(7L, day.plusDays(2), true), response(3L, day, true)));
+
+    CursorPage<TaskResponseDTO> result = taskService.getTaskResponsesByProject(1L, page, true);
+
+    assertEquals(List.of(9L, 7L), result.getItems().stream().map(TaskResponseDTO::getId).toList());
+    assertNotNull(result.getNext());
+  }
+
+  @Test
+  void testGetTaskResponsesByProject_HotOnlyByDefault() {
+    PageQuery page = PageQuery.first(2);
+    when(projectService.getProjectById(1L)).thenReturn(testProject);
+    when(taskRepository.findResponsesByProjectId(eq(1L), any())).thenReturn(List.of());
+
+    assertTrue(taskService.getTaskResponsesByProject(1L, page).getItems().isEmpty());
+    verifyNoInteractions(archivedTaskRepository);
+  }
+
   @Test
   void testUpdateTask_Success() {
     Task existingTask = Task.builder()
@@ -214,23 +293,84 @@ public class TaskImpTest {
         .project(testProject)
         .build();
 
+    Task moved = Task.builder()
+        .id(1L)
+        .title("Test Task")
+        .project(testProject)
+        .column(todColumn)
+        .createdBy(testUser)
+        .version(4L)
+        .build();
+
+    when(taskRanker.place(2L, 1L, null, null)).thenReturn("a1");
+    when(boardColumnRepository.getReferenceById(2L)).thenReturn(todColumn);
+    when(taskRepository.moveToColumn(eq(1L), eq(todColumn), eq("a1"), eq(3L), any())).thenReturn(1);
+    when(taskRepository.findById(1L)).thenReturn(Optional.of(moved));
+
+    Task result = taskService.moveTaskToColumn(1L, 2L, 3L);
+
+    assertEquals(2L, result.getColumn().getId());
+    assertEquals(4L, result.getVersion());
+    verify(taskRepository, never()).save(any(Task.class));
+  }
+
+  @Test
+  void testMoveTask_BetweenNeighbours() {
+    Task moved = Task.builder()
+        .id(1L)
+        .title("Test Task")
+        .project(testProject)
+        .column(backlogColumn)
+        .createdBy(testUser)
+        .rank("a0V")
+        .build();
+
+    when(taskRanker.place(1L, 1L, 7L, 8L)).thenReturn("a0V");
+    when(boardColumnRepository.getReferenceById(1L)).thenReturn(backlogColumn);
+    when(taskRepository.moveToColumn(eq(1L), eq(backlogColumn), eq("a0V"), isNull(), any()))
+        .thenReturn(1);
+    when(taskRepository.findById(1L)).thenReturn(Optional.of(moved));
+
+    Task result = taskService.moveTask(1L, 1L, 7L, 8L, null);
+
+    assertEquals("a0V", result.getRank());
+    verify(taskRepository, never()).save(any(Task.class));
+  }
+
+  @Test
+  void testMoveTaskToColumn_StaleVersion() {
+    BoardColumn todColumn = BoardColumn.builder()
+        .id(2L)
+        .name(ColumnName.TO_DO)
+        .position(2)
+        .project(testProject)
+        .build();
+
     Task task = Task.builder()
         .id(1L)
         .title("Test Task")
         .project(testProject)
         .column(backlogColumn)
         .createdBy(testUser)
+        .version(5L)
         .build();
 
+    when(taskRanker.place(2L, 1L, null, null)).thenReturn("a1");
+    when(boardColumnRepository.getReferenceById(2L)).thenReturn(todColumn);
+    when(taskRepository.moveToColumn(eq(1L), eq(todColumn), eq("a1"), eq(3L), any())).thenReturn(0);
     when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-    when(boardColumnService.getColumnById(2L)).thenReturn(todColumn);
-    when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-    Task result = taskService.moveTaskToColumn(1L, 2L);
+    assertThrows(OptimisticLockingFailureException.class,
+        () -> taskService.moveTaskToColumn(1L, 2L, 3L));
+  }
 
-    assertEquals(2L, result.getColumn().getId());
+  @Test
+  void testMoveTaskToColumn_OtherProjectsColumn() {
+    when(taskRanker.place(9L, 1L, null, null))
+        .thenThrow(new IllegalArgumentException("Column does not belong to task's project"));
 
-    verify(taskRepository, times(1)).save(any(Task.class));
+    assertThrows(IllegalArgumentException.class, () -> taskService.moveTaskToColumn(1L, 9L, null));
+    verify(taskRepository, never()).moveToColumn(any(), any(), any(), any(), any());
   }
 
   @Test
@@ -243,10 +383,13 @@ public class TaskImpTest {
         .createdBy(testUser)
         .build();
 
+    when(taskRanker.place(1L, 1L, null, null)).thenReturn("a1");
+    when(boardColumnRepository.getReferenceById(1L)).thenReturn(backlogColumn);
+    when(taskRepository.moveToColumn(eq(1L), eq(backlogColumn), eq("a1"), isNull(), any()))
+        .thenReturn(1);
     when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-    when(boardColumnService.getColumnById(1L)).thenReturn(backlogColumn);
 
-    Task result = taskService.moveTaskToColumn(1L, 1L);
+    Task result = taskService.moveTaskToColumn(1L, 1L, null);
 
     assertEquals(1L, result.getColumn().getId());
 
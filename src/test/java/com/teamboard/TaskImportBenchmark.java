@@ -0,0 +1,135 @@
+package com.teamboard;
+
+import com.teamboard.DTO.TaskImportResultDTO;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.BoardColumnService;
+import com.teamboard.service.TaskImportService;
+import com.teamboard.taskimport.TaskImportFormat;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Task import throughput on PostgreSQL, in rows per second: a 10,000-row CSV with titles,
+ * descriptions, priorities and due dates, written with COPY or with batched inserts. Needs Docker.
+ * Run with {@code mvn test -Pbenchmark -Dtest=TaskImportBenchmark}.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(TaskImportBenchmark.ROWS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class TaskImportBenchmark {
+
+  static final int ROWS = 10_000;
+
+  @Param({"true", "false"})
+  public boolean copyEnabled;
+
+  @Param({"1000"})
+  public int batchSize;
+
+  private PostgreSQLContainer postgres;
+  private ConfigurableApplicationContext context;
+  private TaskImportService taskImportService;
+  private User owner;
+  private Project project;
+  private String csv;
+
+  @Setup
+  public void setUp() {
+    postgres = new PostgreSQLContainer("postgres:16-alpine");
+    postgres.start();
+    // Arguments outrank the profile's H2 datasource; builder properties would not
+    context = new SpringApplicationBuilder(TeamboardBackendApplication.class)
+        .profiles("test")
+        .run(
+            "--server.port=0",
+            "--spring.datasource.url=" + postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+            "--spring.datasource.username=" + postgres.getUsername(),
+            "--spring.datasource.password=" + postgres.getPassword(),
+            "--spring.datasource.driver-class-name=org.postgresql.Driver",
+            "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+            "--spring.jpa.hibernate.ddl-auto=none",
+            "--spring.flyway.enabled=true",
+            "--task-import.copy-enabled=" + copyEnabled,
+            "--task-import.batch-size=" + batchSize);
+    taskImportService = context.getBean(TaskImportService.class);
+
+    owner = new User();
+    owner.setEmail("bench@example.com");
+    owner.setPasswordHash("hashed_password");
+    owner.setName("Bench User");
+    owner = context.getBean(UserRepo.class).save(owner);
+    Workspace workspace = context.getBean(WorkspaceRepository.class).save(
+        Workspace.builder().name("Benchmark").owner(owner).build());
+    project = context.getBean(ProjectRepo.class).save(Project.builder()
+        .name("Import").workspace(workspace).createdBy(owner).build());
+    context.getBean(BoardColumnService.class).createDefaultColumns(project.getId());
+
+    StringBuilder body = new StringBuilder("title,description,priority,column,dueDate\n");
+    String[] priorities = {"LOW", "MEDIUM", "HIGH"};
+    String[] columns = {"BACKLOG", "TO_DO", "IN_PROGRESS", "DONE"};
+    for (int i = 0; i < ROWS; i++) {
+      body.append("Imported task ").append(i)
+          .append(",\"Migrated from the old board, item ").append(i).append("\",")
+          .append(priorities[i % priorities.length]).append(',')
+          .append(columns[i % columns.length]).append(',')
+          .append("2026-01-").append(String.format("%02d", i % 28 + 1)).append("T09:00:00\n");
+    }
+    csv = body.toString();
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+    postgres.stop();
+  }
+
+  @Benchmark
+  public TaskImportResultDTO importCsv() throws IOException {
+    TaskImportResultDTO result = taskImportService.importTasks(project.getId(), owner,
+        TaskImportFormat.CSV, new BufferedReader(new StringReader(csv)));
+    if (result.getImported() != ROWS) {
+      throw new IllegalStateException("Import failed: " + result.getErrors());
+    }
+    return result;
+  }
+
+  @Test
+  public void run() throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(TaskImportBenchmark.class.getName() + ".")
+        .build()).run();
+  }
+}
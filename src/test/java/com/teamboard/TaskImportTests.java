@@ -0,0 +1,187 @@
+package com.teamboard;
+
+import com.teamboard.DTO.TaskImportResultDTO;
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.Priority;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.BoardColumnService;
+import com.teamboard.service.TaskImportService;
+import com.teamboard.taskimport.TaskImportFormat;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"task-import.batch-size=3", "task-import.max-reported-errors=2"})
+@ActiveProfiles("test")
+public class TaskImportTests {
+
+  @Autowired
+  private UserRepo userRepo;
+
+  @Autowired
+  private WorkspaceRepository workspaceRepository;
+
+  @Autowired
+  private ProjectRepo projectRepo;
+
+  @Autowired
+  private BoardColumnRepository boardColumnRepository;
+
+  @Autowired
+  private BoardColumnService boardColumnService;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private TaskImportService taskImportService;
+
+  private User owner;
+  private Project project;
+
+  @BeforeEach
+  void setUp() {
+    String run = UUID.randomUUID().toString();
+    owner = new User();
+    owner.setEmail("importer-" + run + "@example.com");
+    owner.setPasswordHash("hashed_password");
+    owner.setName("Importer");
+    owner = userRepo.save(owner);
+    Workspace workspace = workspaceRepository.save(
+        Workspace.builder().name("Import " + run).owner(owner).build());
+    project = projectRepo.save(Project.builder()
+        .name("Board").workspace(workspace).createdBy(owner).build());
+    boardColumnService.createDefaultColumns(project.getId());
+  }
+
+  private TaskImportResultDTO importTasks(TaskImportFormat format, String body) throws IOException {
+    return taskImportService.importTasks(project.getId(), owner, format,
+        new BufferedReader(new StringReader(body)));
+  }
+
+  private List<Task> importedTasks() {
+    return taskRepository.findByProjectIdOrderByCreatedAtDesc(project.getId());
+  }
+
+  private Long columnId(ColumnName name) {
+    return boardColumnRepository.findByProjectIdOrderByPosition(project.getId()).stream()
+        .filter(column -> column.getName() == name)
+        .map(BoardColumn::getId)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  @Test
+  void testCsvImportReadsQuotedFieldsAndDefaults() throws IOException {
+    String csv = "priority,Title,column,description,due_date,assignedToId\r\n"
+        + "high,\"Fix login, again\",in_progress,\"Line one\nline \"\"two\"\"\","
+        + "2025-06-01T09:30:00," + owner.getId() + "\r\n"
+        + ",Plain,,,,\r\n";
+
+    TaskImportResultDTO result = importTasks(TaskImportFormat.CSV, csv);
+
+    assertEquals(2, result.getImported());
+    assertEquals(0, result.getFailed());
+    Task quoted = importedTasks().stream()
+        .filter(task -> task.getTitle().equals("Fix login, again")).findFirst().orElseThrow();
+    assertEquals("Line one\nline \"two\"", quoted.getDescription());
+    assertEquals(Priority.HIGH, quoted.getPriority());
+    assertEquals(LocalDateTime.of(2025, 6, 1, 9, 30), quoted.getDueDate());
+    assertEquals(columnId(ColumnName.IN_PROGRESS), quoted.getColumn().getId());
+    assertEquals(owner.getId(), quoted.getAssignedTo().getId());
+    Task plain = importedTasks().stream()
+        .filter(task -> task.getTitle().equals("Plain")).findFirst().orElseThrow();
+    assertEquals(Priority.MEDIUM, plain.getPriority());
+    assertEquals(columnId(ColumnName.BACKLOG), plain.getColumn().getId());
+    assertNull(plain.getDescription());
+    assertNull(plain.getAssignedTo());
+  }
+
+  @Test
+  void testBadRowsAreReportedAndTheRestImported() throws IOException {
+    String csv = "title,priority,assignedToId\n"
+        + "First,LOW,\n"
+        + ",LOW,\n"
+        + "Second,URGENT,\n"
+        + "Third,,999999999\n"
+        + "Fourth,,\n";
+
+    TaskImportResultDTO result = importTasks(TaskImportFormat.CSV, csv);
+
+    assertEquals(2, result.getImported());
+    assertEquals(3, result.getFailed());
+    // Only max-reported-errors of them are listed
+    assertEquals(2, result.getErrors().size());
+    assertTrue(result.isErrorsTruncated());
+    assertEquals(3, result.getErrors().get(0).getLine());
+    assertEquals("Task title is required", result.getErrors().get(0).getMessage());
+    assertEquals(4, result.getErrors().get(1).getLine());
+    assertEquals("Invalid priority: URGENT", result.getErrors().get(1).getMessage());
+    assertEquals(List.of("First", "Fourth"),
+        importedTasks().stream().map(Task::getTitle).sorted().toList());
+  }
+
+  @Test
+  void testRowsAreWrittenInBatches() throws IOException {
+    StringBuilder csv = new StringBuilder("title\n");
+    for (int i = 0; i < 7; i++) {
+      csv.append("Task ").append(i).append('\n');
+    }
+
+    TaskImportResultDTO result = importTasks(TaskImportFormat.CSV, csv.toString());
+
+    assertEquals(7, result.getImported());
+    assertEquals(7, importedTasks().size());
+  }
+
+  @Test
+  void testCsvWithoutTitleColumnIsRejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> importTasks(TaskImportFormat.CSV, "name,priority\nTask,LOW\n"));
+  }
+
+  @Test
+  void testJsonLinesImport() throws IOException {
+    String ndjson = "{\"title\":\"From JSON\",\"priority\":\"HIGH\",\"column\":\"DONE\"}\n"
+        + "\n"
+        + "{\"title\": \n"
+        + "{\"title\":\"Unknown column\",\"column\":\"ARCHIVE\"}\n"
+        + "{\"title\":\"Due\",\"dueDate\":\"2025-01-02T03:04:05\"}\n";
+
+    TaskImportResultDTO result = importTasks(TaskImportFormat.JSON_LINES, ndjson);
+
+    assertEquals(2, result.getImported());
+    assertEquals(2, result.getFailed());
+    assertEquals(3, result.getErrors().get(0).getLine());
+    assertTrue(result.getErrors().get(0).getMessage().startsWith("Invalid JSON"));
+    assertEquals(4, result.getErrors().get(1).getLine());
+    Task done = importedTasks().stream()
+        .filter(task -> task.getTitle().equals("From JSON")).findFirst().orElseThrow();
+    assertEquals(columnId(ColumnName.DONE), done.getColumn().getId());
+    assertEquals(Priority.HIGH, done.getPriority());
+    // Imported into DONE, so completed, and archived once that is long enough ago
+    assertNotNull(done.getCompletedAt());
+    Task open = importedTasks().stream()
+        .filter(task -> task.getTitle().equals("Due")).findFirst().orElseThrow();
+    assertNull(open.getCompletedAt());
+  }
+}
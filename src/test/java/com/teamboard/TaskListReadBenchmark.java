@@ -0,0 +1,181 @@
+package com.teamboard;
+
+import com.teamboard.DTO.TaskResponseDTO;
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.Priority;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.pagination.PageQuery;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.TaskService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Task list for a project with 10k tasks on H2: managed entities converted in a read-write
+ * transaction (snapshots plus a dirty check at commit), the same in a read-only transaction, and
+ * the DTO projection; then the first keyset page of the projection, which is what the endpoint
+ * serves. Latency per call, with allocation from the GC profiler. Run with
+ * {@code mvn test -Pbenchmark -Dtest=TaskListReadBenchmark}.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskListReadBenchmark {
+
+  private static final int TASKS = 10_000;
+  private static final int ASSIGNEES = 20;
+  private static final int PAGE = 50;
+
+  private ConfigurableApplicationContext context;
+  private TaskRepository taskRepository;
+  private TaskService taskService;
+  private TransactionTemplate readWrite;
+  private TransactionTemplate readOnly;
+  private Long projectId;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(TeamboardBackendApplication.class)
+        .profiles("test")
+        .run("--server.port=0");
+    taskRepository = context.getBean(TaskRepository.class);
+    taskService = context.getBean(TaskService.class);
+    readWrite = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    readOnly.setReadOnly(true);
+
+    UserRepo userRepo = context.getBean(UserRepo.class);
+    List<User> users = new ArrayList<>();
+    for (int i = 0; i < ASSIGNEES; i++) {
+      User user = new User();
+      user.setEmail("bench" + i + "@example.com");
+      user.setPasswordHash("hashed_password");
+      user.setName("Bench User " + i);
+      user.setAvatarInitials("B" + i);
+      users.add(userRepo.save(user));
+    }
+    Workspace workspace = context.getBean(WorkspaceRepository.class).save(
+        Workspace.builder().name("Benchmark").owner(users.get(0)).build());
+    Project project = context.getBean(ProjectRepo.class).save(
+        Project.builder().name("Benchmark").workspace(workspace).createdBy(users.get(0)).build());
+    projectId = project.getId();
+
+    BoardColumnRepository columnRepository = context.getBean(BoardColumnRepository.class);
+    List<BoardColumn> columns = new ArrayList<>();
+    ColumnName[] names = ColumnName.values();
+    for (int i = 0; i < names.length; i++) {
+      columns.add(columnRepository.save(
+          BoardColumn.builder().name(names[i]).position(i + 1).project(project).build()));
+    }
+
+    List<Task> tasks = new ArrayList<>(TASKS);
+    for (int i = 0; i < TASKS; i++) {
+      tasks.add(Task.builder()
+          .title("Task " + i)
+          .description("Description of task " + i)
+          .project(project)
+          .column(columns.get(i % columns.size()))
+          .assignedTo(i % 5 == 0 ? null : users.get(i % ASSIGNEES))
+          .createdBy(users.get(i % ASSIGNEES))
+          .priority(Priority.MEDIUM)
+          .build());
+    }
+    taskRepository.saveAll(tasks);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  // Same mapping as TaskController did before the projection
+  private static TaskResponseDTO toResponse(Task task) {
+    return TaskResponseDTO.builder()
+        .id(task.getId())
+        .title(task.getTitle())
+        .description(task.getDescription())
+        .projectId(task.getProject().getId())
+        .columnId(task.getColumn().getId())
+        .assignedToId(task.getAssignedTo() != null ? task.getAssignedTo().getId() : null)
+        .assignedToName(task.getAssignedTo() != null ? task.getAssignedTo().getName() : null)
+        .assignedToInitials(task.getAssignedTo() != null ? task.getAssignedTo().getAvatarInitials() : null)
+        .priority(task.getPriority())
+        .dueDate(task.getDueDate())
+        .createdById(task.getCreatedBy().getId())
+        .createdByName(task.getCreatedBy().getName())
+        .createdAt(task.getCreatedAt())
+        .updatedAt(task.getUpdatedAt())
+        .completedAt(task.getCompletedAt())
+        .build();
+  }
+
+  @Benchmark
+  public List<TaskResponseDTO> entitiesReadWrite() {
+    return readWrite.execute(status ->
+        taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId).stream()
+            .map(TaskListReadBenchmark::toResponse)
+            .toList());
+  }
+
+  @Benchmark
+  public List<TaskResponseDTO> entitiesReadOnly() {
+    return taskService.getTasksByProject(projectId).stream()
+        .map(TaskListReadBenchmark::toResponse)
+        .toList();
+  }
+
+  @Benchmark
+  public List<TaskResponseDTO> projection() {
+    // The whole list, as the endpoint returned it before pagination
+    return readOnly.execute(status ->
+        taskRepository.findResponsesByProjectId(projectId, Limit.unlimited()));
+  }
+
+  @Benchmark
+  public List<TaskResponseDTO> projectionFirstPage() {
+    return taskService.getTaskResponsesByProject(projectId, PageQuery.first(PAGE)).getItems();
+  }
+
+  @Test
+  public void run() throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(TaskListReadBenchmark.class.getName() + ".")
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+}
@@ -0,0 +1,182 @@
+package com.teamboard;
+
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.Priority;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.TaskService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Many threads dragging the same few cards between columns. Each thread reads a card, then moves
+ * it from the version it read; every move either lands exactly once or is refused as a conflict.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class TaskMoveConcurrencyTests {
+
+  private static final int THREADS = 12;
+  private static final int MOVES_PER_THREAD = 40;
+  private static final int CARDS = 3;
+
+  @Autowired
+  private UserRepo userRepo;
+
+  @Autowired
+  private WorkspaceRepository workspaceRepository;
+
+  @Autowired
+  private ProjectRepo projectRepo;
+
+  @Autowired
+  private BoardColumnRepository boardColumnRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private TaskService taskService;
+
+  private List<BoardColumn> columns;
+  private List<Long> cardIds;
+
+  @BeforeEach
+  void setUp() {
+    String run = UUID.randomUUID().toString();
+    User owner = new User();
+    owner.setEmail("mover-" + run + "@example.com");
+    owner.setPasswordHash("hashed_password");
+    owner.setName("Mover");
+    owner = userRepo.save(owner);
+    Workspace workspace = workspaceRepository.save(
+        Workspace.builder().name("Moves " + run).owner(owner).build());
+    Project project = projectRepo.save(Project.builder()
+        .name("Board").workspace(workspace).createdBy(owner).build());
+    columns = new ArrayList<>();
+    ColumnName[] names = ColumnName.values();
+    for (int i = 0; i < names.length; i++) {
+      columns.add(boardColumnRepository.save(BoardColumn.builder()
+          .name(names[i]).position(i + 1).project(project).build()));
+    }
+    cardIds = new ArrayList<>();
+    for (int i = 0; i < CARDS; i++) {
+      cardIds.add(taskRepository.save(Task.builder()
+          .title("Card " + i)
+          .project(project)
+          .column(columns.get(0))
+          .createdBy(owner)
+          .priority(Priority.MEDIUM)
+          .build()).getId());
+    }
+  }
+
+  private Long otherColumn(Long columnId) {
+    List<Long> others = columns.stream().map(BoardColumn::getId)
+        .filter(id -> !id.equals(columnId)).toList();
+    return others.get(ThreadLocalRandom.current().nextInt(others.size()));
+  }
+
+  @Test
+  void testConcurrentMovesAreNeverLost() throws Exception {
+    Map<Long, AtomicInteger> moves = new ConcurrentHashMap<>();
+    cardIds.forEach(id -> moves.put(id, new AtomicInteger()));
+    AtomicInteger conflicts = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    List<Future<?>> workers = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      workers.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < MOVES_PER_THREAD; i++) {
+          Long cardId = cardIds.get(ThreadLocalRandom.current().nextInt(CARDS));
+          Task seen = taskService.getTaskById(cardId);
+          Long target = otherColumn(seen.getColumn().getId());
+          try {
+            Task moved = taskService.moveTaskToColumn(cardId, target, seen.getVersion());
+            assertEquals(target, moved.getColumn().getId());
+            assertEquals(seen.getVersion() + 1, moved.getVersion());
+            moves.get(cardId).incrementAndGet();
+          } catch (OptimisticLockingFailureException e) {
+            conflicts.incrementAndGet();
+          }
+        }
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> worker : workers) {
+      // Rethrows any failure other than a conflict
+      worker.get(2, TimeUnit.MINUTES);
+    }
+    executor.shutdown();
+
+    int succeeded = moves.values().stream().mapToInt(AtomicInteger::get).sum();
+    assertEquals(THREADS * MOVES_PER_THREAD, succeeded + conflicts.get());
+    // Each accepted move bumped its card's version exactly once, so none was overwritten
+    for (Long cardId : cardIds) {
+      assertEquals(moves.get(cardId).get(), taskService.getTaskById(cardId).getVersion());
+    }
+  }
+
+  @Test
+  void testMovesWithoutVersionAllApply() throws Exception {
+    Long cardId = cardIds.get(0);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    List<Future<?>> workers = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      workers.add(executor.submit(() -> {
+        for (int i = 0; i < MOVES_PER_THREAD; i++) {
+          Long target = columns.get(ThreadLocalRandom.current().nextInt(columns.size())).getId();
+          assertEquals(target, taskService.moveTaskToColumn(cardId, target, null).getColumn().getId());
+        }
+        return null;
+      }));
+    }
+    for (Future<?> worker : workers) {
+      worker.get(2, TimeUnit.MINUTES);
+    }
+    executor.shutdown();
+
+    // Unversioned moves never conflict, and the row lock still counts every one of them
+    assertEquals(THREADS * MOVES_PER_THREAD, taskService.getTaskById(cardId).getVersion());
+  }
+
+  @Test
+  void testStaleVersionIsRefused() {
+    Long cardId = cardIds.get(0);
+    Task seen = taskService.getTaskById(cardId);
+    taskService.moveTaskToColumn(cardId, columns.get(1).getId(), seen.getVersion());
+
+    assertThrows(OptimisticLockingFailureException.class,
+        () -> taskService.moveTaskToColumn(cardId, columns.get(2).getId(), seen.getVersion()));
+    assertEquals(columns.get(1).getId(), taskService.getTaskById(cardId).getColumn().getId());
+  }
+}
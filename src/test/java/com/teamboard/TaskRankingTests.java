@@ -0,0 +1,204 @@
+package com.teamboard;
+
+import com.teamboard.DTO.TaskBulkRequestDTO;
+import com.teamboard.DTO.TaskBulkRequestDTO.Operation;
+import com.teamboard.entity.BoardColumn;
+import com.teamboard.entity.ColumnName;
+import com.teamboard.entity.Project;
+import com.teamboard.entity.Task;
+import com.teamboard.entity.User;
+import com.teamboard.entity.Workspace;
+import com.teamboard.ranking.TaskRankRebalancer;
+import com.teamboard.repository.BoardColumnRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.UserRepo;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.service.TaskService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cards placed by rank within a column: where new, moved and reordered cards land, and re-spacing
+ * of columns whose keys have grown long.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class TaskRankingTests {
+
+  @Autowired
+  private UserRepo userRepo;
+
+  @Autowired
+  private WorkspaceRepository workspaceRepository;
+
+  @Autowired
+  private ProjectRepo projectRepo;
+
+  @Autowired
+  private BoardColumnRepository boardColumnRepository;
+
+  @Autowired
+  private TaskService taskService;
+
+  @Autowired
+  private TaskRankRebalancer rebalancer;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private User owner;
+  private Project project;
+  private BoardColumn backlog;
+  private BoardColumn todo;
+
+  @BeforeEach
+  void setUp() {
+    String run = UUID.randomUUID().toString();
+    owner = new User();
+    owner.setEmail("ranking-" + run + "@example.com");
+    owner.setPasswordHash("hashed_password");
+    owner.setName("Ranker");
+    owner = userRepo.save(owner);
+    Workspace workspace = workspaceRepository.save(
+        Workspace.builder().name("Ranking " + run).owner(owner).build());
+    project = projectRepo.save(Project.builder()
+        .name("Board").workspace(workspace).createdBy(owner).build());
+    backlog = boardColumnRepository.save(BoardColumn.builder()
+        .name(ColumnName.BACKLOG).position(1).project(project).build());
+    todo = boardColumnRepository.save(BoardColumn.builder()
+        .name(ColumnName.TO_DO).position(2).project(project).build());
+  }
+
+  private List<Long> createTasks(int count) {
+    List<Long> ids = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ids.add(taskService.createTask(Task.builder()
+          .title("Card " + i).project(project).createdBy(owner).build()).getId());
+    }
+    return ids;
+  }
+
+  private List<Long> order(BoardColumn column) {
+    return taskService.getTasksByColumn(column.getId()).stream().map(Task::getId).toList();
+  }
+
+  @Test
+  void testNewTasksGoToTheBottomOfBacklog() {
+    List<Long> ids = createTasks(5);
+
+    assertEquals(ids, order(backlog));
+  }
+
+  @Test
+  void testReorderWithinColumn() {
+    List<Long> ids = createTasks(4);
+
+    // The last card dropped between the first and the second
+    taskService.moveTask(ids.get(3), backlog.getId(), ids.get(0), ids.get(1), null);
+    assertEquals(List.of(ids.get(0), ids.get(3), ids.get(1), ids.get(2)), order(backlog));
+
+    // Only a neighbour below: right above it, here the top of the column
+    taskService.moveTask(ids.get(2), backlog.getId(), null, ids.get(0), null);
+    assertEquals(List.of(ids.get(2), ids.get(0), ids.get(3), ids.get(1)), order(backlog));
+
+    // Only a neighbour above: right below it
+    taskService.moveTask(ids.get(1), backlog.getId(), ids.get(2), null, null);
+    assertEquals(List.of(ids.get(2), ids.get(1), ids.get(0), ids.get(3)), order(backlog));
+  }
+
+  @Test
+  void testMoveBetweenCardsOfAnotherColumn() {
+    List<Long> ids = createTasks(4);
+    taskService.moveTaskToColumn(ids.get(0), todo.getId(), null);
+    taskService.moveTaskToColumn(ids.get(1), todo.getId(), null);
+
+    Task moved = taskService.moveTask(ids.get(2), todo.getId(), ids.get(0), ids.get(1), null);
+
+    assertEquals(todo.getId(), moved.getColumn().getId());
+    assertEquals(List.of(ids.get(0), ids.get(2), ids.get(1)), order(todo));
+    assertEquals(List.of(ids.get(3)), order(backlog));
+  }
+
+  @Test
+  void testNeighbourMustBeInTheColumn() {
+    List<Long> ids = createTasks(3);
+
+    IllegalArgumentException outside = assertThrows(IllegalArgumentException.class,
+        () -> taskService.moveTask(ids.get(0), todo.getId(), ids.get(1), null, null));
+    assertTrue(outside.getMessage().contains("is not in column"));
+    assertThrows(IllegalArgumentException.class,
+        () -> taskService.moveTask(ids.get(0), backlog.getId(), ids.get(0), null, null));
+    // Neighbours in the wrong order
+    assertThrows(IllegalArgumentException.class,
+        () -> taskService.moveTask(ids.get(0), backlog.getId(), ids.get(2), ids.get(1), null));
+    assertEquals(ids, order(backlog));
+  }
+
+  @Test
+  void testBulkMoveAppendsInRequestOrder() {
+    List<Long> ids = createTasks(5);
+    taskService.moveTaskToColumn(ids.get(0), todo.getId(), null);
+    taskService.moveTaskToColumn(ids.get(1), todo.getId(), null);
+    Long version = taskService.getTaskById(ids.get(4)).getVersion();
+
+    TaskBulkRequestDTO bulk = new TaskBulkRequestDTO();
+    bulk.setOperation(Operation.MOVE);
+    bulk.setTaskIds(List.of(ids.get(4), ids.get(2), ids.get(3)));
+    bulk.setColumnId(todo.getId());
+    taskService.bulkUpdate(project.getId(), bulk);
+
+    assertEquals(List.of(ids.get(0), ids.get(1), ids.get(4), ids.get(2), ids.get(3)), order(todo));
+    assertEquals(5, taskService.getTasksByColumn(todo.getId()).stream()
+        .map(Task::getRank).distinct().count());
+    assertEquals(version + 1, taskService.getTaskById(ids.get(4)).getVersion());
+    assertTrue(order(backlog).isEmpty());
+  }
+
+  @Test
+  void testSharedKeysAreRespacedWhenDroppedBetween() {
+    List<Long> ids = createTasks(3);
+    // Two cards of the column holding the same key, with no room for a key between them
+    taskService.moveTaskToColumn(ids.get(0), todo.getId(), null);
+    taskService.moveTaskToColumn(ids.get(1), todo.getId(), null);
+    jdbcTemplate.update("update tasks set rank = (select rank from tasks where id = ?) where id = ?",
+        ids.get(0), ids.get(1));
+    List<Task> shared = taskService.getTasksByColumn(todo.getId());
+    assertEquals(shared.get(0).getRank(), shared.get(1).getRank());
+
+    taskService.moveTask(ids.get(2), todo.getId(), ids.get(0), ids.get(1), null);
+
+    assertEquals(List.of(ids.get(0), ids.get(2), ids.get(1)), order(todo));
+  }
+
+  @Test
+  void testDragStormQueuesRebalanceThatKeepsOrder() {
+    List<Long> ids = createTasks(3);
+    // Keep dropping cards right below the first one, so every key is longer than the last
+    List<Long> dropped = createTasks(300);
+    for (Long id : dropped) {
+      taskService.moveTask(id, backlog.getId(), ids.get(0), null, null);
+    }
+    assertTrue(rebalancer.pending().contains(backlog.getId()));
+    List<Long> before = order(backlog);
+    int longest = taskService.getTasksByColumn(backlog.getId()).stream()
+        .mapToInt(task -> task.getRank().length()).max().orElseThrow();
+
+    rebalancer.rebalancePending();
+
+    assertFalse(rebalancer.pending().contains(backlog.getId()));
+    assertEquals(before, order(backlog));
+    int rebalanced = taskService.getTasksByColumn(backlog.getId()).stream()
+        .mapToInt(task -> task.getRank().length()).max().orElseThrow();
+    assertTrue(rebalanced < longest, rebalanced + " >= " + longest);
+    assertTrue(rebalanced <= 3);
+  }
+}
@@ -0,0 +1,105 @@
+package com.teamboard;
+
+import com.teamboard.entity.RevokedToken;
+import com.teamboard.entity.TokenCutoff;
+import com.teamboard.repository.RevokedTokenRepository;
+import com.teamboard.repository.TokenCutoffRepository;
+import com.teamboard.security.TokenRevocationService;
+import com.teamboard.security.jwt.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTests {
+
+  @Mock
+  private RevokedTokenRepository revokedTokenRepository;
+
+  @Mock
+  private TokenCutoffRepository tokenCutoffRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private TokenRevocationService service;
+  private long now;
+
+  @BeforeEach
+  void setUp() {
+    now = System.currentTimeMillis() / 1000L;
+    service = new TokenRevocationService(revokedTokenRepository, tokenCutoffRepository,
+        transactionTemplate, 864_000_000L, 604_800_000L, 1_000, 0.01,
+        new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    service.init();
+  }
+
+  private VerifiedToken token(String subject, String tokenId, long issuedAt) {
+    return new VerifiedToken(subject, issuedAt, issuedAt + 3600, VerifiedToken.MISSING,
+        VerifiedToken.MISSING, null, tokenId);
+  }
+
+  @Test
+  void testRevokeSingleToken() {
+    VerifiedToken revoked = token("a@example.com", "jti-1", now);
+    VerifiedToken other = token("a@example.com", "jti-2", now);
+
+    assertTrue(service.revoke(revoked));
+
+    assertTrue(service.isRevoked(revoked));
+    assertFalse(service.isRevoked(other));
+    verify(revokedTokenRepository).save(any(RevokedToken.class));
+  }
+
+  @Test
+  void testTokenWithoutIdCannotBeRevokedIndividually() {
+    assertFalse(service.revoke(new VerifiedToken("a@example.com", now, now + 60)));
+    verify(revokedTokenRepository, never()).save(any());
+  }
+
+  @Test
+  void testRevokeAllForSubjectUsesIssuedAt() {
+    service.revokeAllForSubject("a@example.com");
+    // The cutoff second is the clock's at the call, which may already be past setUp's
+    ArgumentCaptor<TokenCutoff> saved = ArgumentCaptor.forClass(TokenCutoff.class);
+    verify(tokenCutoffRepository).save(saved.capture());
+    long cutoff = saved.getValue().getNotBefore();
+
+    assertTrue(service.isRevoked(token("a@example.com", "old", cutoff - 10)));
+    assertTrue(service.isRevoked(token("a@example.com", "same-second", cutoff)));
+    assertFalse(service.isRevoked(token("a@example.com", "new", cutoff + 1)));
+    // Tokens minted right after the cutoff are dated past it
+    long issuedAt = service.issuedAtMillis("a@example.com") / 1000L;
+    assertFalse(service.isRevoked(token("a@example.com", "next", issuedAt)));
+    assertFalse(service.isRevoked(token("b@example.com", "other", cutoff - 10)));
+  }
+
+  @Test
+  void testRefreshLoadsOtherInstancesAndKeepsLocalRevocations() {
+    service.revoke(token("a@example.com", "local", now));
+    when(revokedTokenRepository.findByExpiresAtGreaterThan(anyLong()))
+        .thenReturn(List.of(RevokedToken.builder().tokenId("remote").expiresAt(now + 60).build()));
+    when(tokenCutoffRepository.findByExpiresAtGreaterThan(anyLong()))
+        .thenReturn(List.of(TokenCutoff.builder().subject("c@example.com")
+            .notBefore(now).expiresAt(now + 60).build()));
+
+    service.refresh();
+
+    assertTrue(service.isRevoked(token("b@example.com", "remote", now)));
+    assertTrue(service.isRevoked(token("a@example.com", "local", now)));
+    assertTrue(service.isRevoked(token("c@example.com", "any", now - 5)));
+    verify(transactionTemplate).executeWithoutResult(any());
+  }
+}
@@ -0,0 +1,112 @@
+package com.teamboard;
+
+import com.teamboard.security.jwt.CachingTokenVerifier;
+import com.teamboard.security.jwt.Hs256TokenVerifier;
+import com.teamboard.security.jwt.JjwtTokenVerifier;
+import com.teamboard.security.jwt.TokenVerifier;
+import com.teamboard.security.jwt.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Per-request token verification cost: the original JwtUtil (key decode and parser build on every
+ * call, token parsed by validateToken and again by extractUsername), jjwt with a cached parser, the
+ * HS256 verifier, and the HS256 verifier behind the verified-token cache. Run with {@code mvn test -Pbenchmark -Dtest=TokenVerifierBenchmark}.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenVerifierBenchmark {
+
+  private String secret;
+  private String token;
+  private JwtParser parser;
+  private TokenVerifier jjwt;
+  private TokenVerifier hs256;
+  private TokenVerifier cached;
+
+  @Setup
+  public void setUp() {
+    SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    secret = Encoders.BASE64.encode(key.getEncoded());
+    token = Jwts.builder()
+        .setSubject("benchmark.user@example.com")
+        .setIssuedAt(new Date())
+        .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+        .signWith(key, SignatureAlgorithm.HS256)
+        .compact();
+    parser = Jwts.parserBuilder().setSigningKey(key).build();
+    jjwt = new JjwtTokenVerifier(parser);
+    hs256 = new Hs256TokenVerifier(key.getEncoded(), jjwt);
+    cached = new CachingTokenVerifier(hs256, 10_000, Duration.ofHours(24));
+  }
+
+  private Claims legacyParse(String token) {
+    return Jwts.parserBuilder()
+        .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+        .build()
+        .parseClaimsJws(token)
+        .getBody();
+  }
+
+  @Benchmark
+  public String legacyValidateAndExtract() {
+    legacyParse(token);
+    return legacyParse(token).getSubject();
+  }
+
+  @Benchmark
+  public String jjwtCachedParser() {
+    VerifiedToken verified = jjwt.verify(token);
+    return verified.subject();
+  }
+
+  @Benchmark
+  public String hs256Verifier() {
+    VerifiedToken verified = hs256.verify(token);
+    return verified.subject();
+  }
+
+  @Benchmark
+  public String cachedVerifier() {
+    VerifiedToken verified = cached.verify(token);
+    return verified.subject();
+  }
+
+  @Test
+  public void run() throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(TokenVerifierBenchmark.class.getName() + ".")
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+}
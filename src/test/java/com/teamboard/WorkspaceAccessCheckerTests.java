@@ -0,0 +1,223 @@
+package com.teamboard;
+
+import com.teamboard.entity.MemberRole;
+import com.teamboard.entity.User;
+import com.teamboard.repository.ArchivedTaskRepository;
+import com.teamboard.repository.ProjectRepo;
+import com.teamboard.repository.TaskRepository;
+import com.teamboard.repository.WorkspaceAccess;
+import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.security.Permission;
+import com.teamboard.security.PermissionCache;
+import com.teamboard.security.WorkspaceAccessChecker;
+import com.teamboard.security.WorkspaceRoles;
+import com.teamboard.security.jwt.VerifiedToken;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkspaceAccessCheckerTests {
+
+  @Mock
+  private WorkspaceRepository workspaceRepository;
+
+  @Mock
+  private ProjectRepo projectRepo;
+
+  @Mock
+  private TaskRepository taskRepository;
+
+  @Mock
+  private ArchivedTaskRepository archivedTaskRepository;
+
+  private PermissionCache permissionCache;
+  private WorkspaceAccessChecker checker;
+
+  private User user;
+  private User owner;
+
+  @BeforeEach
+  void setUp() {
+    permissionCache = new PermissionCache(1024, Duration.ofMinutes(1));
+    checker = new WorkspaceAccessChecker(workspaceRepository, projectRepo, taskRepository,
+        archivedTaskRepository, permissionCache);
+
+    user = new User();
+    user.setId(5L);
+    user.setEmail("member@example.com");
+    user.setMembershipVersion(3);
+
+    owner = new User();
+    owner.setId(1L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private void authenticateWith(long membershipVersion, String workspaces) {
+    VerifiedToken token = new VerifiedToken(user.getEmail(), 0, VerifiedToken.MISSING, user.getId(),
+        membershipVersion, WorkspaceRoles.parse(workspaces), null);
+    SecurityContextHolder.getContext().setAuthentication(
+        UsernamePasswordAuthenticationToken.authenticated(user.getEmail(), token, null));
+  }
+
+  @Test
+  void testCurrentClaimsSkipDatabase() {
+    authenticateWith(3, "10:V,12:O");
+
+    assertEquals(Permission.grantedTo('V'), checker.permissions(user, 10L));
+    assertEquals(Permission.grantedTo(WorkspaceRoles.OWNER), checker.permissions(user, 12L));
+    assertEquals(Permission.NONE, checker.permissions(user, 11L));
+    verify(workspaceRepository, never()).findAccessById(anyLong(), anyLong());
+  }
+
+  @Test
+  void testStaleClaimsFallBackToDatabase() {
+    // Token minted before the user was removed from workspace 10
+    authenticateWith(2, "10:M");
+    when(workspaceRepository.findAccessById(10L, 5L))
+        .thenReturn(Optional.of(new WorkspaceAccess(10L, false, null)));
+
+    assertFalse(checker.hasPermission(user, 10L, Permission.READ_BOARD));
+    verify(workspaceRepository).findAccessById(10L, 5L);
+  }
+
+  @Test
+  void testTokenWithoutClaimsUsesDatabase() {
+    SecurityContextHolder.getContext().setAuthentication(
+        UsernamePasswordAuthenticationToken.authenticated(user.getEmail(),
+            new VerifiedToken(user.getEmail(), 0, VerifiedToken.MISSING), null));
+    when(workspaceRepository.findAccessById(10L, 5L))
+        .thenReturn(Optional.of(new WorkspaceAccess(10L, false, MemberRole.MEMBER)));
+
+    assertEquals(Permission.grantedTo('M'), checker.permissions(user, 10L));
+  }
+
+  @Test
+  void testOwnerGetsEveryPermission() {
+    when(projectRepo.findAccessById(30L, 1L))
+        .thenReturn(Optional.of(new WorkspaceAccess(10L, true, null)));
+
+    WorkspaceAccessChecker.Grant grant = checker.forProject(owner, 30L);
+    assertEquals(10L, grant.workspaceId());
+    assertEquals(Permission.grantedTo(WorkspaceRoles.OWNER), grant.permissions());
+    assertTrue(checker.hasPermission(owner, 10L, Permission.MANAGE_WORKSPACE));
+    verifyNoInteractions(workspaceRepository);
+  }
+
+  @Test
+  void testPermissionsFromCurrentClaims() {
+    authenticateWith(3, "10:V,12:O");
+
+    assertTrue(checker.hasPermission(user, 10L, Permission.READ_BOARD));
+    assertFalse(checker.hasPermission(user, 10L, Permission.WRITE_TASK));
+    assertTrue(checker.hasPermission(user, 12L, Permission.MANAGE_WORKSPACE));
+    assertEquals(Permission.NONE, checker.permissions(user, 11L));
+    verifyNoInteractions(workspaceRepository);
+  }
+
+  @Test
+  void testPermissionsLoadedOnceThenCached() {
+    when(workspaceRepository.findAccessById(10L, 5L))
+        .thenReturn(Optional.of(new WorkspaceAccess(10L, false, MemberRole.MEMBER)));
+
+    assertTrue(checker.hasPermission(user, 10L, Permission.WRITE_TASK));
+    assertFalse(checker.hasPermission(user, 10L, Permission.MANAGE_MEMBERS));
+    verify(workspaceRepository, times(1)).findAccessById(10L, 5L);
+
+    // A role change bumps the membership version, so the cached mask no longer applies
+    when(workspaceRepository.findAccessById(10L, 5L))
+        .thenReturn(Optional.of(new WorkspaceAccess(10L, false, MemberRole.VIEWER)));
+    user.setMembershipVersion(4);
+    assertFalse(checker.hasPermission(user, 10L, Permission.WRITE_TASK));
+    assertTrue(checker.hasPermission(user, 10L, Permission.READ_BOARD));
+  }
+
+  @Test
+  void testMissingWorkspaceGrantsNothing() {
+    when(workspaceRepository.findAccessById(99L, 5L)).thenReturn(Optional.empty());
+
+    assertEquals(Permission.NONE, checker.permissions(user, 99L));
+  }
+
+  @Test
+  void testTaskGrantIsOneQueryAndWarmsCache() {
+    when(taskRepository.findAccessById(40L, 5L))
+        .thenReturn(Optional.of(new WorkspaceAccess(10L, true, null)));
+
+    WorkspaceAccessChecker.Grant grant = checker.forTask(user, 40L);
+    assertEquals(10L, grant.workspaceId());
+    assertTrue(Permission.MANAGE_WORKSPACE.isGrantedBy(grant.permissions()));
+
+    // Workspace-scoped checks that follow are answered from the cache
+    assertTrue(checker.hasPermission(user, 10L, Permission.MANAGE_MEMBERS));
+    verifyNoInteractions(workspaceRepository);
+  }
+
+  @Test
+  void testArchivedTaskGrantFallsBackToArchive() {
+    when(taskRepository.findAccessById(40L, 5L)).thenReturn(Optional.empty());
+    when(archivedTaskRepository.findAccessById(40L, 5L))
+        .thenReturn(Optional.of(new WorkspaceAccess(10L, false, MemberRole.VIEWER)));
+
+    WorkspaceAccessChecker.Grant grant = checker.forTask(user, 40L);
+    assertEquals(10L, grant.workspaceId());
+    assertTrue(Permission.READ_BOARD.isGrantedBy(grant.permissions()));
+    assertFalse(Permission.WRITE_TASK.isGrantedBy(grant.permissions()));
+  }
+
+  @Test
+  void testMissingTaskHasNoGrant() {
+    when(taskRepository.findAccessById(40L, 5L)).thenReturn(Optional.empty());
+    when(archivedTaskRepository.findAccessById(40L, 5L)).thenReturn(Optional.empty());
+
+    assertNull(checker.forTask(user, 40L));
+  }
+
+  @Test
+  void testMissingProjectHasNoGrant() {
+    when(projectRepo.findAccessById(30L, 5L)).thenReturn(Optional.empty());
+
+    assertNull(checker.forProject(user, 30L));
+  }
+
+  @Test
+  void testRoleMasks() {
+    assertEquals(Permission.READ_BOARD.mask(), Permission.grantedTo('V'));
+    assertFalse(Permission.WRITE_PROJECT.isGrantedBy(Permission.grantedTo('V')));
+    assertTrue(Permission.WRITE_PROJECT.isGrantedBy(Permission.grantedTo('M')));
+    assertFalse(Permission.MANAGE_MEMBERS.isGrantedBy(Permission.grantedTo('M')));
+    assertTrue(Permission.MANAGE_MEMBERS.isGrantedBy(Permission.grantedTo('A')));
+    assertFalse(Permission.MANAGE_WORKSPACE.isGrantedBy(Permission.grantedTo('A')));
+    assertTrue(Permission.MANAGE_WORKSPACE.isGrantedBy(Permission.grantedTo(WorkspaceRoles.OWNER)));
+    assertEquals(Permission.NONE, Permission.grantedTo(WorkspaceRoles.NONE));
+  }
+
+  @Test
+  void testWorkspaceRolesEncoding() {
+    String encoded = WorkspaceRoles.encode(Map.of(12L, 'O', 3L, 'A', 7L, 'V'));
+    assertEquals("3:A,7:V,12:O", encoded);
+    WorkspaceRoles roles = WorkspaceRoles.parse(encoded);
+    assertEquals('V', roles.codeFor(7L));
+    assertEquals(WorkspaceRoles.NONE, roles.codeFor(8L));
+    assertEquals(0, WorkspaceRoles.parse("").size());
+    assertNull(WorkspaceRoles.parse("3:A,"));
+    assertNull(WorkspaceRoles.parse("3:X"));
+    assertNull(WorkspaceRoles.parse("7:A,3:M"));
+  }
+}
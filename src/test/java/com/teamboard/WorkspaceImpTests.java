@@ -2,7 +2,9 @@ package com.teamboard;
 
 import com.teamboard.entity.User;
 import com.teamboard.entity.Workspace;
+import com.teamboard.repository.ProjectRepo;
 import com.teamboard.repository.WorkspaceRepository;
+import com.teamboard.security.PermissionCache;
 import com.teamboard.service.WorkspaceImp;
 import com.teamboard.service.WorkspaceMemberService;
 import java.time.LocalDateTime;
@@ -33,6 +35,12 @@ public class WorkspaceImpTests {
   @Mock
   private ObjectProvider<WorkspaceMemberService> workspaceMemberServiceProvider;
 
+  @Mock
+  private PermissionCache permissionCache;
+
+  @Mock
+  private ProjectRepo projectRepo;
+
   @InjectMocks
   private WorkspaceImp workspaceImp;
 
@@ -220,11 +228,27 @@ public class WorkspaceImpTests {
 
   @Test
   public void deleteWorkspaceTest() {
+    // Arrange
+    when(workspaceRepository.markDeleted(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+
     // Act
     workspaceImp.deleteWorkspace(1L);
 
     // Assert
-    verify(workspaceRepository, times(1)).deleteById(1L);
+    verify(workspaceRepository, times(1)).markDeleted(eq(1L), any(LocalDateTime.class));
+    verify(projectRepo).markDeletedByWorkspaceId(eq(1L), any(LocalDateTime.class));
+    verify(workspaceRepository, never()).deleteById(anyLong());
+    verify(permissionCache).invalidateWorkspace(1L);
+  }
+
+  @Test
+  public void getDeletedWorkspaceTest() {
+    // Arrange
+    workspace1.setDeletedAt(LocalDateTime.now());
+    when(workspaceRepository.findById(1L)).thenReturn(Optional.of(workspace1));
+
+    // Act & Assert
+    assertNull(workspaceImp.getWorkspace(1L));
   }
 
   // ==================== getWorkspacesByOwner Tests ====================
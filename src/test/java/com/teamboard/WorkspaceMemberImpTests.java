@@ -5,6 +5,7 @@ import com.teamboard.entity.Workspace;
 import com.teamboard.entity.WorkspaceMember;
 import com.teamboard.entity.MemberRole;
 import com.teamboard.repository.WorkspaceMemberRepository;
+import com.teamboard.security.PermissionCache;
 import com.teamboard.service.WorkspaceMemberImp;
 import com.teamboard.service.WorkspaceService;
 import com.teamboard.service.UserService;
@@ -33,6 +34,9 @@ public class WorkspaceMemberImpTests {
   @Mock
   private UserService userService;
 
+  @Mock
+  private PermissionCache permissionCache;
+
   @InjectMocks
   private WorkspaceMemberImp workspaceMemberService;
 
@@ -85,6 +89,7 @@ public class WorkspaceMemberImpTests {
     assertEquals(workspace.getId(), result.getWorkspace().getId());
     assertEquals(MemberRole.MEMBER, result.getRole());
     verify(workspaceMemberRepository).save(any(WorkspaceMember.class));
+    verify(userService).bumpMembershipVersions(List.of(1L));
   }
 
   @Test
@@ -154,6 +159,8 @@ public class WorkspaceMemberImpTests {
     workspaceMemberService.removeMember(1L, 1L);
 
     verify(workspaceMemberRepository).deleteById(1L);
+    verify(userService).bumpMembershipVersions(List.of(1L));
+    verify(permissionCache).invalidate(1L, 1L);
   }
 
   @Test
@@ -279,6 +286,7 @@ public class WorkspaceMemberImpTests {
     assertNotNull(result);
     assertEquals(MemberRole.ADMIN, result.getRole());
     verify(workspaceMemberRepository).save(any(WorkspaceMember.class));
+    verify(userService).bumpMembershipVersions(List.of(1L));
   }
 
   @Test
@@ -291,6 +299,7 @@ public class WorkspaceMemberImpTests {
         () -> workspaceMemberService.updateMemberRole(999L, 1L, MemberRole.ADMIN));
 
     verify(workspaceMemberRepository, never()).save(any());
+    verify(userService, never()).bumpMembershipVersions(any());
   }
 }
 